@@ -0,0 +1,148 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.BackendApplication;
+import com.placement.portal.backend.auth.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * HR company feed against a real schema (H2 in MySQL mode, the h2 test profile)
+ * for companies with hundreds to thousands of users, each with a few
+ * notifications, next to users of another company that must not show up.
+ *
+ * legacyFullFeed is the old path: load every user of the company, fetch their
+ * notifications with an IN list, then map entities. fullFeed and firstPage are
+ * the single-statement projection that getNotificationsForHr and
+ * getNotificationsPageForHr run now. H2 is not MySQL, so compare the methods
+ * with each other rather than reading the numbers as production latency.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args=HrNotificationFeedBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HrNotificationFeedBenchmark {
+
+    private static final long COMPANY_ID = 1L;
+    private static final long OTHER_COMPANY_ID = 2L;
+    private static final long OFFICER_ID = 1L;
+    private static final int ROWS_PER_USER = 3;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"100", "1000", "5000"})
+    private int companyUsers;
+
+    private ConfigurableApplicationContext context;
+    private NotificationRepository notificationRepository;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(FeedContext.class)
+                .web(WebApplicationType.NONE)
+                .profiles("h2")
+                .properties("spring.devtools.restart.enabled=false", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run();
+        notificationRepository = context.getBean(NotificationRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<NotificationDto> legacyFullFeed() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            List<Long> userIds = em.createQuery("SELECT u FROM User u WHERE u.company.id = :companyId", User.class)
+                    .setParameter("companyId", COMPANY_ID)
+                    .getResultList()
+                    .stream().map(User::getId).toList();
+            List<Notification> notifications = em.createQuery(
+                            "SELECT n FROM Notification n WHERE n.user.id IN :userIds", Notification.class)
+                    .setParameter("userIds", userIds)
+                    .getResultList();
+            return notifications.stream().map(notification -> {
+                NotificationDto dto = new NotificationDto();
+                dto.setId(notification.getId());
+                dto.setUserId(notification.getUser().getId());
+                dto.setUserName(notification.getUser().getName());
+                dto.setTitle(notification.getTitle());
+                dto.setMessage(notification.getMessage());
+                dto.setReadStatus(notification.isReadStatus());
+                return dto;
+            }).toList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<NotificationDto> fullFeed() {
+        return notificationRepository.findCompanyFeed(COMPANY_ID, null, null, Limit.unlimited());
+    }
+
+    @Benchmark
+    public List<NotificationDto> firstPage() {
+        return notificationRepository.findCompanyFeed(COMPANY_ID, null, null, Limit.of(PAGE_SIZE + 1));
+    }
+
+    // Ids are written directly, so nothing here goes through the id generator
+    private void seed(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO companies (id, name) VALUES (?, 'Acme'), (?, 'Globex')", COMPANY_ID, OTHER_COMPANY_ID);
+        jdbc.update("INSERT INTO users (id, name, email, enabled) VALUES (?, 'Officer', 'officer@campus.edu', TRUE)", OFFICER_ID);
+        int otherUsers = 500;
+        jdbc.batchUpdate("INSERT INTO users (id, name, email, enabled, company_id) VALUES (?, ?, ?, TRUE, ?)",
+                IntStream.rangeClosed(1, companyUsers + otherUsers).mapToObj(i -> new Object[]{
+                        OFFICER_ID + i, "User " + i, "user" + i + "@company.com",
+                        i <= companyUsers ? COMPANY_ID : OTHER_COMPANY_ID}).toList());
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        int rows = (companyUsers + otherUsers) * ROWS_PER_USER;
+        jdbc.batchUpdate("""
+                INSERT INTO notifications (id, user_id, sender_id, title, message, read_status, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)""",
+                IntStream.rangeClosed(1, rows).mapToObj(i -> new Object[]{
+                        i, OFFICER_ID + 1 + (i - 1) / ROWS_PER_USER, OFFICER_ID, "Title " + i, "Message " + i,
+                        i % 2 == 0, Timestamp.valueOf(base.plusMinutes(i / 4))}).toList());
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = BackendApplication.class)
+    @EnableJpaRepositories(basePackageClasses = NotificationRepository.class)
+    static class FeedContext {
+    }
+}
@@ -0,0 +1,72 @@
+package com.placement.portal.backend.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU spent on the token per request. repeatedParsing is the old path: the filter
+ * called extractEmail, isTokenValid and extractRoles, and the service parsed the
+ * header again, each a full signature check. singleParse is what JwtAuthFilter
+ * does now; cachedParse adds a VerifiedTokenCache hit for a returning token.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args=JwtParseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+    private String header;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtUtil(new VerifiedTokenCache(0));
+        cached = new JwtUtil(new VerifiedTokenCache(10_000));
+        token = uncached.generateToken("student@campus.edu", List.of("STUDENT"));
+        header = "Bearer " + token;
+        cached.parseClaims(token);
+    }
+
+    @Benchmark
+    public void repeatedParsing(Blackhole bh) {
+        String email = uncached.extractEmail(token);
+        if (uncached.isTokenValid(token)) {
+            bh.consume(uncached.extractRoles(token));
+        }
+        bh.consume(email);
+        bh.consume(uncached.extractEmailFromAuthorizationHeader(header));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole bh) {
+        Claims claims = uncached.parseClaims(token);
+        bh.consume(claims.getSubject());
+        bh.consume(uncached.extractRoles(claims));
+    }
+
+    @Benchmark
+    public void cachedParse(Blackhole bh) {
+        Claims claims = cached.parseClaims(token);
+        bh.consume(claims.getSubject());
+        bh.consume(cached.extractRoles(claims));
+    }
+}
@@ -3,11 +3,14 @@
     import com.placement.portal.backend.company.Company;
     import com.placement.portal.backend.company.CompanyRepository;
     import com.placement.portal.backend.util.JwtUtil;
+    import io.jsonwebtoken.Claims;
+    import io.jsonwebtoken.JwtException;
+    import org.springframework.http.HttpHeaders;
     import org.springframework.http.HttpStatus;
     import org.springframework.http.ResponseEntity;
     import org.springframework.security.access.annotation.Secured;
     import org.springframework.security.access.prepost.PreAuthorize;
-    import org.springframework.security.core.Authentication;
+    import org.springframework.security.core.annotation.AuthenticationPrincipal;
     import org.springframework.security.core.context.SecurityContextHolder;
     import org.springframework.security.core.userdetails.UsernameNotFoundException;
     import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,6 +19,8 @@
     import java.util.List;
     import java.util.Optional;
     import java.util.Set;
+    import java.util.concurrent.CompletableFuture;
+    import java.util.concurrent.RejectedExecutionException;
 
     @RestController
     @RequestMapping("/api/auth")
@@ -26,12 +31,15 @@
         private final PasswordEncoder passwordEncoder;
         private final JwtUtil jwtUtil;
         private final CompanyRepository companyRepository;
+        private final LoginService loginService;
 
-        public AuthController(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil, CompanyRepository companyRepository) {
+        public AuthController(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+                              CompanyRepository companyRepository, LoginService loginService) {
             this.userRepository = userRepository;
             this.passwordEncoder = passwordEncoder;
             this.jwtUtil = jwtUtil;
             this.companyRepository = companyRepository;
+            this.loginService = loginService;
         }
 
 
@@ -103,13 +111,14 @@
 
         @GetMapping("/me")
         @PreAuthorize("hasAnyRole('STUDENT', 'COMPANY_HR', 'PLACEMENT_OFFICER', 'ADMIN')")
-        public ResponseEntity<?> getCurrentUser(Authentication authentication) {
-            String email = authentication.getName(); // gets from JWT
-            User user = userRepository.findByEmail(email)
+        public ResponseEntity<?> getCurrentUser(@AuthenticationPrincipal AuthenticatedActor actor) {
+            if (actor.getUserId() == null) {
+                throw new UsernameNotFoundException("User not found");
+            }
+            User user = userRepository.findById(actor.getUserId())
                     .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-            UserDto dto = new UserDto(user.getId(), user.getName(), user.getEmail(),
-                    user.getCompany() != null ? user.getCompany().getId() : null);
+            UserDto dto = new UserDto(user.getId(), user.getName(), user.getEmail(), actor.getCompanyId());
 
             return ResponseEntity.ok(dto);
         }
@@ -120,30 +129,20 @@
 
 
 
-        // Login: Authenticate user and return JWT token
+        // Login: Authenticate user and return JWT token.
+        // BCrypt runs on the hashing pool, so the request thread is released while it waits.
         @PostMapping("/login")
-        public ResponseEntity<AuthResponse> login(@RequestBody AuthRequest request) {
-            Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
-
-            if (userOpt.isEmpty()) {
-                System.out.println("Login failed: user not found for email " + request.getEmail());
-                return ResponseEntity.status(401).body(new AuthResponse(null, "Invalid credentials"));
-            }
-
-            User user = userOpt.get();
-
-            if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-                System.out.println("Login failed: password mismatch for email " + request.getEmail());
-                return ResponseEntity.status(401).body(new AuthResponse(null, "Invalid credentials"));
+        public CompletableFuture<ResponseEntity<AuthResponse>> login(@RequestBody AuthRequest request) {
+            try {
+                return loginService.login(request)
+                        .thenApply(response -> response != null
+                                ? ResponseEntity.ok(response)
+                                : ResponseEntity.status(401).body(new AuthResponse(null, "Invalid credentials")));
+            } catch (RejectedExecutionException e) {
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(new AuthResponse(null, "Too many login attempts, please retry")));
             }
-
-            List<String> roles = user.getRoles().stream()
-                    .map(Enum::name)
-                    .toList();
-
-            String token = jwtUtil.generateToken(user.getEmail(), roles);
-            System.out.println("Login successful for user: " + user.getEmail() + " Roles: " + roles + "names:"+ user.getName());
-            return ResponseEntity.ok(new AuthResponse(token, String.join(", ", roles),user.getName(),user.getId()));
         }
 
 
@@ -157,13 +156,16 @@
 
             String token = authHeader.substring(7);
 
-            // Validate token
-            if (!jwtUtil.isTokenValid(token)) {
+            // Validate token once and read everything from the same claims
+            Claims claims;
+            try {
+                claims = jwtUtil.parseClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
                 return ResponseEntity.status(401).body("Invalid or expired token");
             }
 
-            String email = jwtUtil.extractEmail(token);
-            List<String> roles = jwtUtil.extractRoles(token);
+            String email = claims.getSubject();
+            List<String> roles = jwtUtil.extractRoles(claims);
 
             return ResponseEntity.ok().body("Token is valid\nEmail: " + email + "\nRoles: " + roles);
         }
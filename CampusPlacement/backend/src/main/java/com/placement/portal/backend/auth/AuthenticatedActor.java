@@ -0,0 +1,63 @@
+package com.placement.portal.backend.auth;
+
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The caller of the current request, built once by JwtAuthFilter from the verified token.
+ * It is stored as the principal of the Authentication, so controllers can take it with
+ * {@code @AuthenticationPrincipal AuthenticatedActor actor} instead of re-parsing the
+ * Authorization header. Ids are null when the account has no such link
+ * (e.g. officerId for a student).
+ */
+@Getter
+public final class AuthenticatedActor implements Principal {
+
+    private final String email;
+    private final Set<Role> roles;
+    private final Long userId;
+    private final Long companyId;
+    private final Long studentProfileId;
+    private final Long officerId;
+
+    public AuthenticatedActor(String email, Collection<String> roleNames, UserIdentity identity) {
+        this.email = email;
+        this.roles = Collections.unmodifiableSet(toRoles(roleNames));
+        this.userId = identity.getUserId();
+        this.companyId = identity.getCompanyId();
+        this.studentProfileId = identity.getStudentProfileId();
+        this.officerId = identity.getOfficerId();
+    }
+
+    public boolean hasRole(Role role) {
+        return roles.contains(role);
+    }
+
+    // Keeps Authentication.getName() returning the email, as before
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+
+    private static Set<Role> toRoles(Collection<String> roleNames) {
+        Set<Role> result = EnumSet.noneOf(Role.class);
+        for (String name : roleNames) {
+            try {
+                result.add(Role.valueOf(name));
+            } catch (IllegalArgumentException ignored) {
+                // Unknown role in token, grants nothing
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+package com.placement.portal.backend.auth;
+
+import com.placement.portal.backend.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Login pipeline: user lookup on the request thread, BCrypt verification on the
+ * bounded passwordHashingExecutor, then token minting. Each stage is timed under
+ * {@code auth.login.stage}. When the hashing queue is full the executor throws
+ * RejectedExecutionException straight away, which the controller maps to 503.
+ */
+@Service
+public class LoginService {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int bcryptStrength;
+    private final boolean rehashOnLogin;
+
+    public LoginService(UserRepository userRepository,
+                        PasswordEncoder passwordEncoder,
+                        JwtUtil jwtUtil,
+                        @Qualifier("passwordHashingExecutor") ThreadPoolExecutor hashingExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.security.bcrypt.strength:10}") int bcryptStrength,
+                        @Value("${app.security.bcrypt.rehash-on-login:false}") boolean rehashOnLogin) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+        this.hashingExecutor = hashingExecutor;
+        this.meterRegistry = meterRegistry;
+        this.bcryptStrength = bcryptStrength;
+        this.rehashOnLogin = rehashOnLogin;
+    }
+
+    /**
+     * Completes with the AuthResponse, or with null when the credentials are invalid.
+     */
+    public CompletableFuture<AuthResponse> login(AuthRequest request) {
+        long lookupStart = System.nanoTime();
+        Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
+        record("lookup", lookupStart);
+
+        if (userOpt.isEmpty()) {
+            System.out.println("Login failed: user not found for email " + request.getEmail());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        User user = userOpt.get();
+        long queuedAt = System.nanoTime();
+
+        return CompletableFuture.supplyAsync(() -> {
+            record("queue", queuedAt);
+
+            long hashStart = System.nanoTime();
+            boolean matches = passwordEncoder.matches(request.getPassword(), user.getPassword());
+            record("hash", hashStart);
+
+            if (!matches) {
+                System.out.println("Login failed: password mismatch for email " + request.getEmail());
+                return null;
+            }
+
+            if (rehashOnLogin && costOf(user.getPassword()) != bcryptStrength) {
+                long rehashStart = System.nanoTime();
+                userRepository.updatePassword(user.getId(), passwordEncoder.encode(request.getPassword()));
+                record("rehash", rehashStart);
+            }
+
+            long tokenStart = System.nanoTime();
+            List<String> roles = user.getRoles().stream()
+                    .map(Enum::name)
+                    .toList();
+
+            String token = jwtUtil.generateToken(user.getEmail(), roles);
+            record("token", tokenStart);
+
+            System.out.println("Login successful for user: " + user.getEmail() + " Roles: " + roles + "names:"+ user.getName());
+            return new AuthResponse(token, String.join(", ", roles), user.getName(), user.getId());
+        }, hashingExecutor);
+    }
+
+    // -1 for anything that is not a BCrypt hash, so it is always re-hashed
+    static int costOf(String encoded) {
+        if (encoded == null) {
+            return -1;
+        }
+        Matcher m = BCRYPT_COST.matcher(encoded);
+        return m.find() ? Integer.parseInt(m.group(1)) : -1;
+    }
+
+    private void record(String stage, long startNanos) {
+        Timer.builder("auth.login.stage")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
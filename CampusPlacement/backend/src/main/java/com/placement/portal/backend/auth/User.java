@@ -2,6 +2,7 @@ package com.placement.portal.backend.auth;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.placement.portal.backend.company.Company;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,10 +14,13 @@ import java.util.Set;
 @Getter
 @Setter
 @Table(name = "users")
+@EntityListeners(UserIdentityInvalidator.class)
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "users",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     private String name;
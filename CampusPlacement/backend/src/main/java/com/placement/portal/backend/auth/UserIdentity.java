@@ -0,0 +1,20 @@
+package com.placement.portal.backend.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The ids linked to a user account, loaded with a single query so the
+ * request path does not have to walk User -> Company / StudentProfile / PlacementOfficer.
+ */
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+
+    public static final UserIdentity UNKNOWN = new UserIdentity(null, null, null, null);
+
+    private final Long userId;
+    private final Long companyId;
+    private final Long studentProfileId;
+    private final Long officerId;
+}
@@ -0,0 +1,60 @@
+package com.placement.portal.backend.auth;
+
+import com.placement.portal.backend.placementOfficer.PlacementOfficer;
+import com.placement.portal.backend.studentProfile.StudentProfile;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that evicts cached identities when the rows they were built from change.
+ * The entry is evicted immediately and again after the transaction completes, so a
+ * concurrent request cannot re-cache the pre-commit state.
+ */
+@Component
+public class UserIdentityInvalidator {
+
+    private final UserIdentityService userIdentityService;
+
+    public UserIdentityInvalidator(@Lazy UserIdentityService userIdentityService) {
+        this.userIdentityService = userIdentityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof User user) {
+            evict(user);
+        } else if (entity instanceof StudentProfile profile) {
+            evict(profile.getUser());
+        } else if (entity instanceof PlacementOfficer officer) {
+            evict(officer.getUser());
+        }
+    }
+
+    private void evict(User user) {
+        if (user == null) {
+            return;
+        }
+        Long userId = user.getId();
+        String email = user.getEmail();
+
+        userIdentityService.invalidateUser(userId);
+        userIdentityService.invalidateEmail(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userIdentityService.invalidateUser(userId);
+                    userIdentityService.invalidateEmail(email);
+                }
+            });
+        }
+    }
+}
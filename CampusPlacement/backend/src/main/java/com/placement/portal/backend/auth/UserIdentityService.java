@@ -0,0 +1,126 @@
+package com.placement.portal.backend.auth;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves the ids linked to an email and keeps them in an in-process LRU cache,
+ * so authenticated requests do not hit the database just to find out who the caller is.
+ * Entries are dropped by {@link UserIdentityInvalidator} whenever a User, StudentProfile
+ * or PlacementOfficer row changes (company-HR assignment lives on User).
+ */
+@Service
+public class UserIdentityService implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+
+    // Guarded by "this"; byEmail is access-ordered for LRU, emailByUserId is its reverse index
+    private final Map<String, UserIdentity> byEmail;
+    private final Map<Long, String> emailByUserId = new HashMap<>();
+    // Bumped by every invalidation; a load that started before a bump is not cached
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserIdentityService(UserRepository userRepository,
+                               @Value("${app.identity.cache.max-size:20000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.byEmail = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserIdentity> eldest) {
+                if (size() > UserIdentityService.this.maxSize) {
+                    emailByUserId.remove(eldest.getValue().getUserId());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // Returns UserIdentity.UNKNOWN when the account does not exist; unknown emails are not cached
+    public UserIdentity resolve(String email) {
+        long loadGeneration;
+        synchronized (this) {
+            UserIdentity cached = byEmail.get(email);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+
+        UserIdentity identity = userRepository.findIdentityByEmail(email).orElse(null);
+        if (identity == null) {
+            return UserIdentity.UNKNOWN;
+        }
+        if (maxSize > 0) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    byEmail.put(email, identity);
+                    emailByUserId.put(identity.getUserId(), email);
+                }
+            }
+        }
+        return identity;
+    }
+
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            String email = emailByUserId.remove(userId);
+            if (email != null) {
+                byEmail.remove(email);
+            }
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public void invalidateEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            UserIdentity removed = byEmail.remove(email);
+            if (removed != null) {
+                emailByUserId.remove(removed.getUserId());
+            }
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public synchronized int size() {
+        return byEmail.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("identity.cache.size", this, UserIdentityService::size)
+                .register(registry);
+        FunctionCounter.builder("identity.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("identity.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("identity.cache.invalidations", invalidations, AtomicLong::get)
+                .register(registry);
+    }
+}
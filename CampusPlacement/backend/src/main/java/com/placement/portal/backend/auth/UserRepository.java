@@ -3,9 +3,12 @@ package com.placement.portal.backend.auth;
 import com.placement.portal.backend.auth.User;
 import jakarta.validation.constraints.AssertFalse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,5 +21,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r = :role")
     List<User> findByRole(@Param("role") Role role);
 
+    @Query("""
+        SELECT new com.placement.portal.backend.auth.UserIdentity(u.id, c.id, sp.id, po.id)
+        FROM User u
+        LEFT JOIN u.company c
+        LEFT JOIN StudentProfile sp ON sp.user = u
+        LEFT JOIN PlacementOfficer po ON po.user = u
+        WHERE u.email = :email
+    """)
+    Optional<UserIdentity> findIdentityByEmail(@Param("email") String email);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Broadcast recipients; every non-null criterion must match, branch/year via the student profile
+    @Query("""
+        SELECT u.id FROM User u
+        LEFT JOIN StudentProfile sp ON sp.user = u
+        WHERE (:role IS NULL OR :role MEMBER OF u.roles)
+          AND (:branch IS NULL OR sp.branch = :branch)
+          AND (:passingYear IS NULL OR sp.passingYear = :passingYear)
+          AND (:companyId IS NULL OR u.company.id = :companyId)
+        ORDER BY u.id
+    """)
+    List<Long> findIdsByAudience(@Param("role") Role role,
+                                 @Param("branch") String branch,
+                                 @Param("passingYear") Integer passingYear,
+                                 @Param("companyId") Long companyId);
+
 
 }
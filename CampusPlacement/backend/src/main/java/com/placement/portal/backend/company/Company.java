@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.placement.portal.backend.auth.User;
 
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,7 +20,9 @@ import java.util.List;
 public class Company {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "companies_id")
+    @TableGenerator(name = "companies_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "companies",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     private String name;
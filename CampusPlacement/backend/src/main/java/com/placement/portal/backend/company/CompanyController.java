@@ -1,5 +1,6 @@
 package com.placement.portal.backend.company;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.auth.User;
 import com.placement.portal.backend.auth.UserDto;
 import com.placement.portal.backend.auth.UserRepository;
@@ -8,7 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -67,14 +68,12 @@ public class CompanyController {
     // HR: Update their own company's basic info
     @PutMapping("/hr-update")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<?> updateOwnCompany(@RequestBody Company partialUpdate, Authentication authentication) {
-        String email = authentication.getName();
-        User hr = userRepository.findByEmail(email).orElse(null);
-        if (hr == null) {
+    public ResponseEntity<?> updateOwnCompany(@RequestBody Company partialUpdate, @AuthenticationPrincipal AuthenticatedActor actor) {
+        if (actor.getUserId() == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid HR user");
         }
 
-        Company updated = companyService.updateOwnCompanyByHR(hr.getId(), partialUpdate);
+        Company updated = companyService.updateOwnCompanyByHR(actor.getUserId(), partialUpdate);
         if (updated == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Company not found for this HR");
         }
@@ -84,9 +83,8 @@ public class CompanyController {
 
     @PutMapping("/update-profile")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<UserDto> updateProfile(@RequestBody UserDto dto, Authentication auth) {
-        String email = auth.getName();
-        User user = userRepository.findByEmail(email).orElse(null);
+    public ResponseEntity<UserDto> updateProfile(@RequestBody UserDto dto, @AuthenticationPrincipal AuthenticatedActor actor) {
+        User user = actor.getUserId() != null ? userRepository.findById(actor.getUserId()).orElse(null) : null;
 
         if (user == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
@@ -120,14 +118,14 @@ public class CompanyController {
 
     @GetMapping("/my-company")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<CompanyDto> getOwnCompany(Authentication authentication) {
-        String email = authentication.getName();
-        User hr = userRepository.findByEmail(email).orElse(null);
-        if (hr == null) {
+    public ResponseEntity<CompanyDto> getOwnCompany(@AuthenticationPrincipal AuthenticatedActor actor) {
+        if (actor.getUserId() == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        Optional<Company> company = companyRepository.findByCompanyHRs_Id(hr.getId());
+        Optional<Company> company = actor.getCompanyId() != null
+                ? companyRepository.findById(actor.getCompanyId())
+                : Optional.empty();
         return company
                 .map(c -> ResponseEntity.ok(companyService.convertToDto(c)))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
@@ -0,0 +1,62 @@
+package com.placement.portal.backend.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated pool for BCrypt work, so a login burst cannot starve the Tomcat
+ * request threads. The queue is bounded and the pool rejects (AbortPolicy)
+ * when it is full; callers turn that into a 503.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${app.security.hashing.threads:0}") int threads,
+            @Value("${app.security.hashing.queue-capacity:200}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Bulk imports hash on their own pool so they never take slots from logins;
+    // CallerRunsPolicy makes the import thread slow down instead of failing rows
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor importHashingExecutor(
+            @Value("${app.student-import.hashing-threads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(poolSize * 4),
+                new CustomizableThreadFactory("import-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean
+    public MeterBinder importHashingExecutorMetrics(
+            @Qualifier("importHashingExecutor") ThreadPoolExecutor importHashingExecutor) {
+        return new ExecutorServiceMetrics(importHashingExecutor, "import.hashing", List.of());
+    }
+
+    @Bean
+    public MeterBinder passwordHashingExecutorMetrics(
+            @Qualifier("passwordHashingExecutor") ThreadPoolExecutor passwordHashingExecutor) {
+        return new ExecutorServiceMetrics(passwordHashingExecutor, "password.hashing", List.of());
+    }
+}
@@ -0,0 +1,41 @@
+package com.placement.portal.backend.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool for the dashboard's report sub-queries. Small and bounded so a burst of
+ * dashboard loads cannot take every JDBC connection; when the queue is full the
+ * part is rejected (AbortPolicy) and reported as unavailable.
+ */
+@Configuration
+public class ReportExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor reportQueryExecutor(
+            @Value("${app.reports.dashboard.threads:4}") int threads,
+            @Value("${app.reports.dashboard.queue-capacity:100}") int queueCapacity) {
+        return new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("report-query-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public MeterBinder reportQueryExecutorMetrics(
+            @Qualifier("reportQueryExecutor") ThreadPoolExecutor reportQueryExecutor) {
+        return new ExecutorServiceMetrics(reportQueryExecutor, "reports.query", List.of());
+    }
+}
@@ -1,5 +1,7 @@
 package com.placement.portal.backend.config;
 
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -28,6 +30,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
 
+                        // Async dispatches of an already-authorized request (SSE streams) carry no token
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers("/auth/**", "/api/auth/**", "/error", "/favicon.ico").permitAll()
                         .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/verify").permitAll()
@@ -38,6 +43,7 @@ public class SecurityConfig {
                         // Admin access
                         .requestMatchers("/api/auth/users/**").hasAnyRole("ADMIN","COMPANY_HR")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/api/company/officer-companies").hasRole("PLACEMENT_OFFICER")
                         .requestMatchers("/api/company/**").hasAnyRole("ADMIN","PLACEMENT_OFFICER","COMPANY_HR")
                         .requestMatchers("/api/student/profile/admin/**").hasAnyRole("ADMIN","COMPANY_HR","PLACEMENT_OFFICER")
@@ -60,6 +66,7 @@ public class SecurityConfig {
 
                         // Job Applications
                         .requestMatchers(HttpMethod.POST, "/api/job-applications").hasRole("STUDENT")
+                        .requestMatchers(HttpMethod.POST, "/api/job-applications/intake").hasRole("STUDENT")
                         .requestMatchers(HttpMethod.GET,"/api/job-applications/**").hasAnyRole("ADMIN", "STUDENT","COMPANY_HR","PLACEMENT_OFFICER")
                         .requestMatchers(HttpMethod.GET,"/api/job-applications/job/**").hasRole("COMPANY_HR")
 
@@ -81,7 +88,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,114 @@
+package com.placement.portal.backend.eligibility;
+
+import java.util.*;
+
+/**
+ * EligibilityRules parsed once into normalised values, so checking a student
+ * is plain comparisons and set lookups.
+ */
+public final class CompiledEligibility {
+
+    private static final CompiledEligibility OPEN = new CompiledEligibility(null, Set.of(), Set.of(), null, null, Set.of());
+
+    private final Double minCgpa;
+    private final Set<String> branches;
+    private final Set<String> degrees;
+    private final Integer minPassingYear;
+    private final Integer maxPassingYear;
+    private final Set<String> requiredSkills;
+
+    private CompiledEligibility(Double minCgpa, Set<String> branches, Set<String> degrees,
+                                Integer minPassingYear, Integer maxPassingYear, Set<String> requiredSkills) {
+        this.minCgpa = minCgpa;
+        this.branches = branches;
+        this.degrees = degrees;
+        this.minPassingYear = minPassingYear;
+        this.maxPassingYear = maxPassingYear;
+        this.requiredSkills = requiredSkills;
+    }
+
+    public static CompiledEligibility compile(EligibilityRules rules) {
+        if (rules == null) {
+            return OPEN;
+        }
+        return new CompiledEligibility(rules.getMinCgpa(), tokens(rules.getAllowedBranches()), tokens(rules.getAllowedDegrees()),
+                rules.getMinPassingYear(), rules.getMaxPassingYear(), tokens(rules.getRequiredSkills()));
+    }
+
+    /**
+     * Returns the rules the student does not meet; empty means eligible.
+     * A missing profile value fails any rule that constrains it.
+     */
+    public List<String> unmet(StudentEligibilityRow student) {
+        List<String> reasons = new ArrayList<>();
+        if (minCgpa != null && (student.cgpa() == null || student.cgpa() < minCgpa)) {
+            reasons.add("CGPA below " + minCgpa);
+        }
+        if (!branches.isEmpty() && !branches.contains(normalise(student.branch()))) {
+            reasons.add("Branch not eligible");
+        }
+        if (!degrees.isEmpty() && !degrees.contains(normalise(student.degree()))) {
+            reasons.add("Degree not eligible");
+        }
+        if (minPassingYear != null && (student.passingYear() == null || student.passingYear() < minPassingYear)) {
+            reasons.add("Passing year before " + minPassingYear);
+        }
+        if (maxPassingYear != null && (student.passingYear() == null || student.passingYear() > maxPassingYear)) {
+            reasons.add("Passing year after " + maxPassingYear);
+        }
+        if (!requiredSkills.isEmpty() && !tokens(student.skills()).containsAll(requiredSkills)) {
+            reasons.add("Missing required skills");
+        }
+        return reasons;
+    }
+
+    public boolean isEligible(StudentEligibilityRow student) {
+        return unmet(student).isEmpty();
+    }
+
+    Double minCgpa() {
+        return minCgpa;
+    }
+
+    Set<String> branches() {
+        return branches;
+    }
+
+    Set<String> degrees() {
+        return degrees;
+    }
+
+    Integer minPassingYear() {
+        return minPassingYear;
+    }
+
+    Integer maxPassingYear() {
+        return maxPassingYear;
+    }
+
+    Set<String> requiredSkills() {
+        return requiredSkills;
+    }
+
+    static Set<String> tokens(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return Set.of();
+        }
+        Set<String> out = new HashSet<>();
+        for (String part : csv.split("[,;]")) {
+            String token = normalise(part);
+            if (token != null) {
+                out.add(token);
+            }
+        }
+        return out;
+    }
+
+    static String normalise(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,56 @@
+package com.placement.portal.backend.eligibility;
+
+import com.placement.portal.backend.jobOpening.JobOpening;
+import com.placement.portal.backend.studentProfile.StudentProfile;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener feeding JobOpening and StudentProfile changes into the
+ * eligible-openings feed. Applied after commit, so the feed re-reads committed rows.
+ */
+@Component
+public class EligibilityChangeListener {
+
+    private final EligibleOpeningsFeed feed;
+    private final EligibilityService eligibilityService;
+
+    public EligibilityChangeListener(@Lazy EligibleOpeningsFeed feed, @Lazy EligibilityService eligibilityService) {
+        this.feed = feed;
+        this.eligibilityService = eligibilityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof JobOpening job) {
+            Long jobId = job.getId();
+            afterCommit(() -> feed.openingChanged(jobId));
+        } else if (entity instanceof StudentProfile profile) {
+            Long studentId = profile.getId();
+            afterCommit(() -> {
+                eligibilityService.invalidateSnapshot();
+                feed.studentChanged(studentId);
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.placement.portal.backend.eligibility;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.util.CursorPage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/job-openings")
+public class EligibilityController {
+
+    private final EligibilityService eligibilityService;
+
+    private final EligibleOpeningsFeed eligibleOpeningsFeed;
+
+    public EligibilityController(EligibilityService eligibilityService, EligibleOpeningsFeed eligibleOpeningsFeed) {
+        this.eligibilityService = eligibilityService;
+        this.eligibleOpeningsFeed = eligibleOpeningsFeed;
+    }
+
+    // Student job board: OPEN openings this student is eligible for, served from memory
+    @PreAuthorize("hasRole('STUDENT')")
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<OpeningCard>> getFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
+        if (actor.getStudentProfileId() == null) {
+            return ResponseEntity.ok(CursorPage.empty());
+        }
+        try {
+            return ResponseEntity.ok(eligibleOpeningsFeed.getFeed(actor.getStudentProfileId(), cursor,
+                    Math.min(Math.max(size, 1), 100)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // HR candidate search: every student scored against the opening's rules
+    @PreAuthorize("hasAnyRole('ADMIN', 'COMPANY_HR', 'PLACEMENT_OFFICER')")
+    @GetMapping("/{id}/eligible-students")
+    public ResponseEntity<EligibleCandidatesView> getEligibleStudents(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "100") int limit,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
+        try {
+            return ResponseEntity.ok(eligibilityService.findEligibleCandidates(id, Math.min(limit, 1000), actor));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+}
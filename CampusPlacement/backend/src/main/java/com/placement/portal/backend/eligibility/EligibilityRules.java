@@ -0,0 +1,36 @@
+package com.placement.portal.backend.eligibility;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Structured eligibility stored on a JobOpening, next to the free-text
+ * eligibilityCriteria shown to students. Every field is optional; list fields
+ * are comma-separated and matched case-insensitively.
+ */
+@Embeddable
+@Getter
+@Setter
+public class EligibilityRules {
+
+    @Column(name = "eligibility_min_cgpa")
+    private Double minCgpa;
+
+    @Column(name = "eligibility_branches")
+    private String allowedBranches;
+
+    @Column(name = "eligibility_degrees")
+    private String allowedDegrees;
+
+    @Column(name = "eligibility_min_passing_year")
+    private Integer minPassingYear;
+
+    @Column(name = "eligibility_max_passing_year")
+    private Integer maxPassingYear;
+
+    // Student must list all of these
+    @Column(name = "eligibility_required_skills")
+    private String requiredSkills;
+}
@@ -0,0 +1,147 @@
+package com.placement.portal.backend.eligibility;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.Role;
+import com.placement.portal.backend.jobOpening.JobOpening;
+import com.placement.portal.backend.jobOpening.JobOpeningRepository;
+import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
+import com.placement.portal.backend.studentProfile.StudentProfile;
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies JobOpening eligibility rules: one student at a time for applications,
+ * or all students at once for HR candidate search. The bulk path works on an
+ * {@link EligibilitySnapshot} of every profile, rebuilt at most once per
+ * {@code app.eligibility.snapshot-ttl-ms}, so profile edits show up in search
+ * within that window (single-student checks always read the live profile).
+ */
+@Service
+public class EligibilityService {
+
+    private final StudentProfileRepository studentProfileRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final OfficerCompanyService officerCompanyService;
+    private final long snapshotTtlNanos;
+
+    private volatile EligibilitySnapshot snapshot;
+
+    public EligibilityService(StudentProfileRepository studentProfileRepository,
+                              JobOpeningRepository jobOpeningRepository,
+                              OfficerCompanyService officerCompanyService,
+                              @Value("${app.eligibility.snapshot-ttl-ms:60000}") long snapshotTtlMs) {
+        this.studentProfileRepository = studentProfileRepository;
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.officerCompanyService = officerCompanyService;
+        this.snapshotTtlNanos = TimeUnit.MILLISECONDS.toNanos(snapshotTtlMs);
+    }
+
+    public List<String> unmet(JobOpening jobOpening, StudentProfile student) {
+        return CompiledEligibility.compile(jobOpening.getEligibilityRules()).unmet(toRow(student));
+    }
+
+    public void requireEligible(JobOpening jobOpening, StudentProfile student) {
+        List<String> reasons = unmet(jobOpening, student);
+        if (!reasons.isEmpty()) {
+            throw new RuntimeException("Not eligible for this job: " + String.join(", ", reasons));
+        }
+    }
+
+    /**
+     * Scores every student profile against the opening in one pass and returns the
+     * eligible count plus the top {@code limit} eligible students by CGPA.
+     */
+    public EligibleCandidatesView findEligibleCandidates(Long jobOpeningId, int limit, AuthenticatedActor actor) {
+        JobOpening jobOpening = jobOpeningRepository.findById(jobOpeningId)
+                .orElseThrow(() -> new RuntimeException("Job opening not found"));
+        checkCanSearch(jobOpening, actor);
+
+        EligibilitySnapshot current = currentSnapshot();
+        BitSet eligible = current.evaluate(CompiledEligibility.compile(jobOpening.getEligibilityRules()));
+
+        // Top-N by CGPA without sorting the whole eligible set
+        int wanted = Math.max(0, limit);
+        PriorityQueue<Integer> top = new PriorityQueue<>(Comparator.comparingDouble(i -> rankCgpa(current, i)));
+        for (int i = eligible.nextSetBit(0); i >= 0 && wanted > 0; i = eligible.nextSetBit(i + 1)) {
+            top.add(i);
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        }
+        List<Long> rankedIds = top.stream()
+                .sorted(Comparator.comparingDouble((Integer i) -> rankCgpa(current, i)).reversed())
+                .map(current::idAt)
+                .toList();
+
+        List<EligibleCandidate> candidates = List.of();
+        if (!rankedIds.isEmpty()) {
+            Map<Long, EligibleCandidate> byId = studentProfileRepository.findEligibleCandidates(rankedIds).stream()
+                    .collect(Collectors.toMap(EligibleCandidate::studentProfileId, Function.identity()));
+            candidates = rankedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+        return new EligibleCandidatesView(jobOpeningId, current.size(), eligible.cardinality(), candidates);
+    }
+
+    /**
+     * Student profile ids eligible for the given rules, from the shared snapshot.
+     */
+    public Set<Long> eligibleStudentIds(EligibilityRules rules) {
+        EligibilitySnapshot current = currentSnapshot();
+        BitSet eligible = current.evaluate(CompiledEligibility.compile(rules));
+        Set<Long> ids = new HashSet<>(eligible.cardinality() * 2);
+        for (int i = eligible.nextSetBit(0); i >= 0; i = eligible.nextSetBit(i + 1)) {
+            ids.add(current.idAt(i));
+        }
+        return ids;
+    }
+
+    public void invalidateSnapshot() {
+        snapshot = null;
+    }
+
+    private EligibilitySnapshot currentSnapshot() {
+        EligibilitySnapshot current = snapshot;
+        if (current == null || System.nanoTime() - current.builtAtNanos() > snapshotTtlNanos) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || System.nanoTime() - current.builtAtNanos() > snapshotTtlNanos) {
+                    current = new EligibilitySnapshot(studentProfileRepository.findAllEligibilityRows());
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private void checkCanSearch(JobOpening jobOpening, AuthenticatedActor actor) {
+        if (actor.hasRole(Role.ADMIN)) {
+            return;
+        }
+        Long companyId = jobOpening.getCompany() != null ? jobOpening.getCompany().getId() : null;
+        if (actor.hasRole(Role.COMPANY_HR) && companyId != null && companyId.equals(actor.getCompanyId())) {
+            return;
+        }
+        if (actor.hasRole(Role.PLACEMENT_OFFICER) && officerCompanyService.getAssignedCompanyIds(actor).contains(companyId)) {
+            return;
+        }
+        throw new AccessDeniedException("Not allowed to search candidates for this job");
+    }
+
+    // Missing CGPA ranks last
+    private static double rankCgpa(EligibilitySnapshot snapshot, int index) {
+        double cgpa = snapshot.cgpaAt(index);
+        return Double.isNaN(cgpa) ? Double.NEGATIVE_INFINITY : cgpa;
+    }
+
+    static StudentEligibilityRow toRow(StudentProfile student) {
+        return new StudentEligibilityRow(student.getId(), student.getCgpa(), student.getBranch(), student.getDegree(),
+                student.getPassingYear(), student.getSkills());
+    }
+}
@@ -0,0 +1,111 @@
+package com.placement.portal.backend.eligibility;
+
+import java.util.*;
+
+/**
+ * Column-oriented copy of every student's eligibility fields. Categorical values
+ * (branch, degree, each skill) are kept as one BitSet of students per value, so
+ * an opening is evaluated with word-wide AND/OR over those sets plus one tight
+ * loop over the numeric arrays, instead of a rule walk per student.
+ */
+final class EligibilitySnapshot {
+
+    private final long[] ids;
+    private final double[] cgpa;        // NaN when missing
+    private final int[] passingYear;    // Integer.MIN_VALUE when missing
+    private final Map<String, BitSet> byBranch = new HashMap<>();
+    private final Map<String, BitSet> byDegree = new HashMap<>();
+    private final Map<String, BitSet> bySkill = new HashMap<>();
+    private final long builtAtNanos = System.nanoTime();
+
+    EligibilitySnapshot(List<StudentEligibilityRow> rows) {
+        int n = rows.size();
+        ids = new long[n];
+        cgpa = new double[n];
+        passingYear = new int[n];
+        for (int i = 0; i < n; i++) {
+            StudentEligibilityRow row = rows.get(i);
+            ids[i] = row.id();
+            cgpa[i] = row.cgpa() != null ? row.cgpa() : Double.NaN;
+            passingYear[i] = row.passingYear() != null ? row.passingYear() : Integer.MIN_VALUE;
+            index(byBranch, CompiledEligibility.normalise(row.branch()), i);
+            index(byDegree, CompiledEligibility.normalise(row.degree()), i);
+            for (String skill : CompiledEligibility.tokens(row.skills())) {
+                index(bySkill, skill, i);
+            }
+        }
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long builtAtNanos() {
+        return builtAtNanos;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    double cgpaAt(int index) {
+        return cgpa[index];
+    }
+
+    /**
+     * Returns the set of row indexes that satisfy every rule.
+     */
+    BitSet evaluate(CompiledEligibility rules) {
+        int n = ids.length;
+        BitSet mask = new BitSet(n);
+        mask.set(0, n);
+
+        if (!rules.branches().isEmpty()) {
+            mask.and(union(byBranch, rules.branches()));
+        }
+        if (!rules.degrees().isEmpty()) {
+            mask.and(union(byDegree, rules.degrees()));
+        }
+        for (String skill : rules.requiredSkills()) {
+            BitSet holders = bySkill.get(skill);
+            if (holders == null) {
+                return new BitSet();
+            }
+            mask.and(holders);
+        }
+
+        Double minCgpa = rules.minCgpa();
+        int minYear = rules.minPassingYear() != null ? rules.minPassingYear() : Integer.MIN_VALUE;
+        int maxYear = rules.maxPassingYear() != null ? rules.maxPassingYear() : Integer.MAX_VALUE;
+        boolean checkYear = rules.minPassingYear() != null || rules.maxPassingYear() != null;
+        if (minCgpa != null || checkYear) {
+            double min = minCgpa != null ? minCgpa : Double.NEGATIVE_INFINITY;
+            for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) {
+                // NaN compares false, so a missing CGPA fails a CGPA rule
+                boolean ok = (minCgpa == null || cgpa[i] >= min)
+                        && (!checkYear || (passingYear[i] != Integer.MIN_VALUE && passingYear[i] >= minYear && passingYear[i] <= maxYear));
+                if (!ok) {
+                    mask.clear(i);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static BitSet union(Map<String, BitSet> index, Set<String> values) {
+        BitSet out = new BitSet();
+        for (String value : values) {
+            BitSet rows = index.get(value);
+            if (rows != null) {
+                out.or(rows);
+            }
+        }
+        return out;
+    }
+
+    private static void index(Map<String, BitSet> index, String value, int row) {
+        if (value != null) {
+            index.computeIfAbsent(value, k -> new BitSet()).set(row);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.placement.portal.backend.eligibility;
+
+public record EligibleCandidate(Long studentProfileId, String name, String email, String branch, String degree,
+                                Double cgpa, Integer passingYear) {
+}
@@ -0,0 +1,20 @@
+package com.placement.portal.backend.eligibility;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Result of scoring every student profile against one opening. Candidates are
+ * the top eligible students by CGPA, up to the requested limit.
+ */
+@Getter
+@AllArgsConstructor
+public class EligibleCandidatesView {
+
+    private final Long jobOpeningId;
+    private final int evaluated;
+    private final int eligibleCount;
+    private final List<EligibleCandidate> candidates;
+}
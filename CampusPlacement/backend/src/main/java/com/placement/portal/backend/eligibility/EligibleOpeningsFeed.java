@@ -0,0 +1,234 @@
+package com.placement.portal.backend.eligibility;
+
+import com.placement.portal.backend.jobOpening.JobOpening;
+import com.placement.portal.backend.jobOpening.JobOpeningRepository;
+import com.placement.portal.backend.jobOpening.JobOpeningStatus;
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import com.placement.portal.backend.util.CursorPage;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory "openings I can apply to" feed per student.
+ *
+ * Holds the OPEN openings (card + compiled rules) and, for each student who has
+ * asked for their feed, the ids of the openings they are eligible for, newest
+ * first. A student's set is computed on first read from their live profile and
+ * then kept current incrementally: an opening change adds or removes that one id
+ * across the loaded students, a profile change drops that student's set so the
+ * next read recomputes it. Changes arrive from {@link EligibilityChangeListener}
+ * after commit. A set computed while a change was in flight is served once but
+ * not stored, since the change may have missed it. Opening changes reported
+ * while the open openings are first loaded are queued and applied once the
+ * load has read them, as the load may have read the row before the change.
+ */
+@Component
+public class EligibleOpeningsFeed {
+
+    private static final long[] NONE = new long[0];
+
+    private final JobOpeningRepository jobOpeningRepository;
+    private final StudentProfileRepository studentProfileRepository;
+    private final EligibilityService eligibilityService;
+
+    private final Map<Long, OpenOpening> openings = new ConcurrentHashMap<>();
+    // Sorted descending; replaced, never mutated
+    private final Map<Long, long[]> byStudent = new ConcurrentHashMap<>();
+    // Bumped when any change starts
+    private final AtomicLong generation = new AtomicLong();
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+
+    // guarded by this
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+    private boolean loading;
+
+    public EligibleOpeningsFeed(JobOpeningRepository jobOpeningRepository,
+                                StudentProfileRepository studentProfileRepository,
+                                EligibilityService eligibilityService) {
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.studentProfileRepository = studentProfileRepository;
+        this.eligibilityService = eligibilityService;
+    }
+
+    /**
+     * Eligible OPEN openings whose deadline has not passed, newest first.
+     * The cursor is the id of the last opening on the previous page.
+     */
+    public CursorPage<OpeningCard> getFeed(Long studentProfileId, String cursor, int size) {
+        long after;
+        try {
+            after = cursor == null || cursor.isBlank() ? Long.MAX_VALUE : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        long[] ids = byStudent.get(studentProfileId);
+        if (ids == null) {
+            // Computed outside the map so the profile query does not hold a bin lock. Stored only
+            // if no change started meanwhile; a later change's replaceAll/remove then sees the entry.
+            long seen = generation.get();
+            long[] computed = computeForStudent(studentProfileId);
+            ids = Objects.requireNonNullElse(byStudent.compute(studentProfileId, (id, current) ->
+                    current != null ? current : generation.get() == seen ? computed : null), computed);
+        }
+
+        LocalDate today = LocalDate.now();
+        List<OpeningCard> page = new ArrayList<>(size);
+        int i = firstBelow(ids, after);
+        for (; i < ids.length && page.size() < size; i++) {
+            OpenOpening opening = openings.get(ids[i]);
+            if (opening != null && (opening.card().applicationDeadline() == null
+                    || !opening.card().applicationDeadline().isBefore(today))) {
+                page.add(opening.card());
+            }
+        }
+        String next = i < ids.length && !page.isEmpty() ? String.valueOf(page.get(page.size() - 1).id()) : null;
+        return new CursorPage<>(page, next);
+    }
+
+    /**
+     * Re-reads one opening and moves its id in or out of every loaded student's set.
+     */
+    public void openingChanged(Long jobOpeningId) {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    if (loading) {
+                        changedDuringLoad.add(jobOpeningId);
+                    }
+                    return; // otherwise the load will read it
+                }
+            }
+        }
+        apply(jobOpeningId);
+    }
+
+    private void apply(Long jobOpeningId) {
+        generation.incrementAndGet();
+        Optional<JobOpening> job = jobOpeningRepository.findWithCompanyById(jobOpeningId);
+        if (job.isEmpty() || job.get().getStatus() != JobOpeningStatus.OPEN) {
+            openings.remove(jobOpeningId);
+            byStudent.replaceAll((student, ids) -> without(ids, jobOpeningId));
+            return;
+        }
+        OpenOpening opening = toOpenOpening(job.get());
+        openings.put(jobOpeningId, opening);
+
+        Set<Long> eligible = eligibilityService.eligibleStudentIds(job.get().getEligibilityRules());
+        byStudent.replaceAll((student, ids) ->
+                eligible.contains(student) ? with(ids, jobOpeningId) : without(ids, jobOpeningId));
+    }
+
+    public void studentChanged(Long studentProfileId) {
+        generation.incrementAndGet();
+        byStudent.remove(studentProfileId);
+    }
+
+    private long[] computeForStudent(Long studentProfileId) {
+        ensureLoaded();
+        List<StudentEligibilityRow> rows = studentProfileRepository.findEligibilityRowsByIdIn(List.of(studentProfileId));
+        if (rows.isEmpty()) {
+            return NONE;
+        }
+        StudentEligibilityRow student = rows.get(0);
+        long[] ids = openings.values().stream()
+                .filter(opening -> opening.rules().isEligible(student))
+                .mapToLong(opening -> opening.card().id())
+                .toArray();
+        Arrays.sort(ids);
+        for (int i = 0, j = ids.length - 1; i < j; i++, j--) {
+            long tmp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = tmp;
+        }
+        return ids;
+    }
+
+    // No student set exists before this returns, so queued changes only need to reach the openings
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            synchronized (this) {
+                loading = true;
+            }
+            try {
+                for (JobOpening job : jobOpeningRepository.findWithCompanyByStatus(JobOpeningStatus.OPEN)) {
+                    openings.put(job.getId(), toOpenOpening(job));
+                }
+                while (true) {
+                    List<Long> queued;
+                    synchronized (this) {
+                        if (changedDuringLoad.isEmpty()) {
+                            loading = false;
+                            loaded = true;
+                            return;
+                        }
+                        queued = new ArrayList<>(changedDuringLoad);
+                        changedDuringLoad.clear();
+                    }
+                    queued.forEach(this::apply);
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    // the next attempt reads everything again
+                    loading = false;
+                    changedDuringLoad.clear();
+                    openings.clear();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static OpenOpening toOpenOpening(JobOpening job) {
+        OpeningCard card = new OpeningCard(job.getId(), job.getTitle(),
+                job.getCompany() != null ? job.getCompany().getName() : null,
+                job.getLocation(), job.getApplicationDeadline(), job.getSalaryLPA());
+        return new OpenOpening(card, CompiledEligibility.compile(job.getEligibilityRules()));
+    }
+
+    // Index of the first id smaller than the cursor in a descending array
+    private static int firstBelow(long[] desc, long cursor) {
+        int lo = 0, hi = desc.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (desc[mid] >= cursor) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    private static long[] with(long[] desc, long id) {
+        int pos = firstBelow(desc, id);
+        if (pos > 0 && desc[pos - 1] == id) {
+            return desc;
+        }
+        long[] out = new long[desc.length + 1];
+        System.arraycopy(desc, 0, out, 0, pos);
+        out[pos] = id;
+        System.arraycopy(desc, pos, out, pos + 1, desc.length - pos);
+        return out;
+    }
+
+    private static long[] without(long[] desc, long id) {
+        int pos = firstBelow(desc, id);
+        if (pos == 0 || desc[pos - 1] != id) {
+            return desc;
+        }
+        long[] out = new long[desc.length - 1];
+        System.arraycopy(desc, 0, out, 0, pos - 1);
+        System.arraycopy(desc, pos, out, pos - 1, desc.length - pos);
+        return out;
+    }
+
+    private record OpenOpening(OpeningCard card, CompiledEligibility rules) {
+    }
+}
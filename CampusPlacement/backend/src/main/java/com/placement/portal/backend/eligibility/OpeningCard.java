@@ -0,0 +1,8 @@
+package com.placement.portal.backend.eligibility;
+
+import java.time.LocalDate;
+
+// What a student's job board shows for one opening
+public record OpeningCard(Long id, String title, String companyName, String location,
+                          LocalDate applicationDeadline, Double salaryLPA) {
+}
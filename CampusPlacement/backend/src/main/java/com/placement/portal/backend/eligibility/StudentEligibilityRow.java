@@ -0,0 +1,5 @@
+package com.placement.portal.backend.eligibility;
+
+// The StudentProfile columns eligibility rules look at
+public record StudentEligibilityRow(Long id, Double cgpa, String branch, String degree, Integer passingYear, String skills) {
+}
@@ -0,0 +1,43 @@
+package com.placement.portal.backend.export;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // GET /api/exports/offers?format=xlsx  (datasets: offers, applications, interviews; formats: csv, xlsx)
+    @GetMapping("/{dataset}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER', 'COMPANY_HR')")
+    public void export(@PathVariable String dataset,
+                       @RequestParam(defaultValue = "csv") String format,
+                       @AuthenticationPrincipal AuthenticatedActor actor,
+                       HttpServletResponse response) throws IOException {
+        ExportDataset exportDataset;
+        ExportFormat exportFormat;
+        try {
+            exportDataset = ExportDataset.valueOf(dataset.toUpperCase());
+            exportFormat = ExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unknown export " + dataset + "." + format);
+            return;
+        }
+
+        String filename = exportDataset.name().toLowerCase() + "-" + LocalDate.now() + "." + exportFormat.getExtension();
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        exportService.export(exportDataset, exportFormat, actor, response.getOutputStream());
+    }
+}
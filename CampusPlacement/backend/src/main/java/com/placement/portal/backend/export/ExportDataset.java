@@ -0,0 +1,5 @@
+package com.placement.portal.backend.export;
+
+public enum ExportDataset {
+    OFFERS, APPLICATIONS, INTERVIEWS
+}
@@ -0,0 +1,30 @@
+package com.placement.portal.backend.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum ExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public TabularWriter open(OutputStream out, String sheetName) throws IOException {
+        return this == XLSX ? new XlsxTabularWriter(out, sheetName) : new CsvTabularWriter(out);
+    }
+}
@@ -0,0 +1,93 @@
+package com.placement.portal.backend.export;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.Role;
+import com.placement.portal.backend.interviewSchedule.InterviewScheduleDto;
+import com.placement.portal.backend.interviewSchedule.InterviewScheduleRepository;
+import com.placement.portal.backend.jobApplication.JobApplicationDto;
+import com.placement.portal.backend.jobApplication.JobApplicationRepository;
+import com.placement.portal.backend.jobOffer.JobOfferDto;
+import com.placement.portal.backend.jobOffer.JobOfferRepository;
+import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Full-list downloads for offers, applications and interview schedules.
+ * Each export is one forward-only projection query whose rows are written to
+ * the response as they arrive. Rows are DTOs, not entities, so nothing
+ * accumulates in the persistence context and memory stays flat whatever the row count.
+ * Scope follows the listing endpoints: admins everything, HR their company,
+ * officers their assigned companies.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private final JobOfferRepository jobOfferRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final InterviewScheduleRepository interviewScheduleRepository;
+    private final OfficerCompanyService officerCompanyService;
+
+    // The stream holds the connection, so the transaction spans the whole write
+    @Transactional(readOnly = true)
+    public void export(ExportDataset dataset, ExportFormat format, AuthenticatedActor actor, OutputStream out) throws IOException {
+        boolean allCompanies = actor.hasRole(Role.ADMIN);
+        List<Long> companyIds = allCompanies ? List.of(-1L) : companyIdsOf(actor);
+
+        switch (dataset) {
+            case OFFERS -> write(jobOfferRepository.streamDtos(allCompanies, companyIds), format.open(out, "Offers"),
+                    new Object[]{"Offer ID", "Application ID", "Candidate", "Company", "Job Title", "Location",
+                            "Salary", "Status", "Offer Date", "Joining Date", "Offer Letter"},
+                    o -> new Object[]{o.getId(), o.getJobApplicationId(), o.getCandidateName(), o.getCompany(),
+                            o.getJobTitle(), o.getLocation(), o.getSalary(), o.getStatus(), o.getOfferDate(),
+                            o.getJoiningDate(), o.getOfferLetterUrl()});
+            case APPLICATIONS -> write(jobApplicationRepository.streamDtos(allCompanies, companyIds), format.open(out, "Applications"),
+                    new Object[]{"Application ID", "Student ID", "Student", "Degree", "Branch", "Company", "Job ID",
+                            "Job Title", "Status", "Applied At", "Interview At", "Interviewer", "Location", "Resume"},
+                    a -> new Object[]{a.getId(), a.getStudentId(), a.getStudentName(), a.getDegree(), a.getBranch(),
+                            a.getCompanyName(), a.getJobOpeningId(), a.getJobTitle(), a.getStatus(), a.getAppliedAt(),
+                            a.getInterviewDateTime(), a.getInterviewerName(), a.getLocation(), a.getResumeLink()});
+            case INTERVIEWS -> write(interviewScheduleRepository.streamDtos(allCompanies, companyIds), format.open(out, "Interviews"),
+                    new Object[]{"Interview ID", "Application ID", "Candidate", "Job Title", "Interview At",
+                            "Interviewer", "Location", "Status", "Feedback"},
+                    i -> new Object[]{i.getId(), i.getJobApplicationId(), i.getCandidateName(), i.getJobTitle(),
+                            i.getInterviewDateTime(), i.getInterviewerName(), i.getLocation(), i.getStatus(), i.getFeedback()});
+        }
+    }
+
+    private List<Long> companyIdsOf(AuthenticatedActor actor) {
+        if (actor.hasRole(Role.COMPANY_HR)) {
+            if (actor.getCompanyId() == null) {
+                throw new RuntimeException("HR user is not linked to a company");
+            }
+            return List.of(actor.getCompanyId());
+        }
+        if (actor.hasRole(Role.PLACEMENT_OFFICER)) {
+            List<Long> assigned = officerCompanyService.getAssignedCompanyIds(actor);
+            // -1 never matches, so an officer without companies gets a header-only file
+            return assigned.isEmpty() ? List.of(-1L) : assigned;
+        }
+        throw new AccessDeniedException("Not allowed to export placement data");
+    }
+
+    private static <T> void write(Stream<T> rows, TabularWriter writer, Object[] header,
+                                  Function<T, Object[]> cells) throws IOException {
+        try (rows; writer) {
+            writer.row(header);
+            Iterator<T> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.row(cells.apply(it.next()));
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.placement.portal.backend.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes rows straight to an output stream, one at a time; nothing is buffered
+ * beyond the current row. close() finishes the document but leaves the
+ * underlying stream open.
+ */
+public interface TabularWriter extends Closeable {
+
+    void row(Object... values) throws IOException;
+}
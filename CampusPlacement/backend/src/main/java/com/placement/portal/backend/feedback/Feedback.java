@@ -1,6 +1,7 @@
 package com.placement.portal.backend.feedback;
 
 import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,7 +14,9 @@ import java.time.LocalDateTime;
 public class Feedback {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "feedback_id")
+    @TableGenerator(name = "feedback_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "feedback",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     private String subject;
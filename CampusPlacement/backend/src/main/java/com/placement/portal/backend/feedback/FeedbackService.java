@@ -1,11 +1,13 @@
 package com.placement.portal.backend.feedback;
 
 import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.auth.UserIdentityService;
 import com.placement.portal.backend.auth.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class FeedbackService {
@@ -16,6 +18,9 @@ public class FeedbackService {
     @Autowired
     private UserRepository userRepo;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     public Feedback submitFeedback(String email, FeedbackDto dto) {
         User user = userRepo.findByEmail(email).orElseThrow();
         Feedback feedback = new Feedback();
@@ -30,8 +35,8 @@ public class FeedbackService {
     }
 
     public List<Feedback> getFeedbackByUser(String email) {
-        User user = userRepo.findByEmail(email).orElseThrow();
-        return feedbackRepo.findByUser(user);
+        Long userId = Optional.ofNullable(userIdentityService.resolve(email).getUserId()).orElseThrow();
+        return feedbackRepo.findByUserId(userId);
     }
 
     public Feedback respondToFeedback(Long id, String response) {
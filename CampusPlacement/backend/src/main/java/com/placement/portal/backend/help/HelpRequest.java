@@ -1,6 +1,7 @@
 package com.placement.portal.backend.help;
 
 import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,7 +14,9 @@ import java.time.LocalDateTime;
 public class HelpRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "help_request_id")
+    @TableGenerator(name = "help_request_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "help_request",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     private String subject;
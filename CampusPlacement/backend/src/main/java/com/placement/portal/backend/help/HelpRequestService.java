@@ -1,6 +1,8 @@
 package com.placement.portal.backend.help;
 
 import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.auth.UserIdentity;
+import com.placement.portal.backend.auth.UserIdentityService;
 import com.placement.portal.backend.auth.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,6 +19,9 @@ public class HelpRequestService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserIdentityService userIdentityService;
+
     public HelpRequest createHelpRequest(HelpRequestDto dto, String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
@@ -33,9 +38,11 @@ public class HelpRequestService {
     }
 
     public List<HelpRequest> getRequestsByUser(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        return repository.findByUserId(user.getId());
+        UserIdentity identity = userIdentityService.resolve(email);
+        if (identity.getUserId() == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return repository.findByUserId(identity.getUserId());
     }
 
     public List<HelpRequest> getAllRequests() {
@@ -1,6 +1,7 @@
 package com.placement.portal.backend.interviewSchedule;
 
 import com.placement.portal.backend.jobApplication.JobApplication;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -10,7 +11,9 @@ import java.time.LocalDateTime;
 public class InterviewSchedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "interview_schedules_id")
+    @TableGenerator(name = "interview_schedules_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "interview_schedules",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     private LocalDateTime interviewDateTime;
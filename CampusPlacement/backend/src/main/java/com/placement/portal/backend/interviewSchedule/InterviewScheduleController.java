@@ -1,5 +1,6 @@
 package com.placement.portal.backend.interviewSchedule;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.company.Company;
 import com.placement.portal.backend.jobOpening.JobOpening;
 import com.placement.portal.backend.jobOpening.JobOpeningRepository;
@@ -7,6 +8,7 @@ import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -26,9 +28,9 @@ public class InterviewScheduleController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('COMPANY_HR')")
     public ResponseEntity<?> createInterviewSchedule(
             @RequestBody InterviewScheduleDto dto,
-            @RequestHeader("Authorization") String authHeader) {
+            @AuthenticationPrincipal AuthenticatedActor actor) {
 
-        InterviewScheduleDto schedule = interviewScheduleService.createSchedule(dto, authHeader);
+        InterviewScheduleDto schedule = interviewScheduleService.createSchedule(dto, actor);
         return ResponseEntity.ok(schedule);
     }
 
@@ -41,15 +43,15 @@ public class InterviewScheduleController {
 
     @GetMapping("/hr")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<List<InterviewScheduleDto>> getInterviewsForHR(@RequestHeader("Authorization") String token) {
-        List<InterviewScheduleDto> interviews = interviewScheduleService.getInterviewsForCurrentHR(token);
+    public ResponseEntity<List<InterviewScheduleDto>> getInterviewsForHR(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<InterviewScheduleDto> interviews = interviewScheduleService.getInterviewsForCurrentHR(actor);
         return ResponseEntity.ok(interviews);
     }
 
     @GetMapping("/officer")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<InterviewScheduleDto>> getInterviewsForOfficer(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(interviewScheduleService.getInterviewsForOfficer(token));
+    public ResponseEntity<List<InterviewScheduleDto>> getInterviewsForOfficer(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(interviewScheduleService.getInterviewsForOfficer(actor));
     }
 
 
@@ -73,8 +75,8 @@ public class InterviewScheduleController {
 
     @GetMapping("/student")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<List<InterviewScheduleDto>> getInterviewsForStudent(@RequestHeader("Authorization") String token) {
-        List<InterviewScheduleDto> interviews = interviewScheduleService.getInterviewsForCurrentStudent(token);
+    public ResponseEntity<List<InterviewScheduleDto>> getInterviewsForStudent(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<InterviewScheduleDto> interviews = interviewScheduleService.getInterviewsForCurrentStudent(actor);
         return ResponseEntity.ok(interviews);
     }
 
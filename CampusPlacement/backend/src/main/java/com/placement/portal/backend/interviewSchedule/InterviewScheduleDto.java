@@ -1,12 +1,14 @@
 package com.placement.portal.backend.interviewSchedule;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class InterviewScheduleDto {
 
     private Long id;
@@ -21,5 +23,20 @@ public class InterviewScheduleDto {
     private String candidateName;
     private String jobTitle;
 
+    // Used by the JPQL export projection
+    public InterviewScheduleDto(Long id, LocalDateTime interviewDateTime, String interviewerName, String location,
+                                String status, String feedback, Long jobApplicationId,
+                                String candidateName, String jobTitle) {
+        this.id = id;
+        this.interviewDateTime = interviewDateTime;
+        this.interviewerName = interviewerName;
+        this.location = location;
+        this.status = status;
+        this.feedback = feedback;
+        this.jobApplicationId = jobApplicationId;
+        this.candidateName = candidateName;
+        this.jobTitle = jobTitle;
+    }
+
 
 }
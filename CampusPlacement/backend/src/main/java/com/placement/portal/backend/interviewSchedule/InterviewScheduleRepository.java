@@ -1,9 +1,16 @@
 package com.placement.portal.backend.interviewSchedule;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface InterviewScheduleRepository extends JpaRepository<InterviewSchedule, Long> {
@@ -13,4 +20,25 @@ public interface InterviewScheduleRepository extends JpaRepository<InterviewSche
     List<InterviewSchedule> findByStatus(String status);
     List<InterviewSchedule> findByJobApplication_Student_Id(Long studentProfileId);
 
+    // Forward-only cursor for exports (MySQL streams rows when the fetch size is Integer.MIN_VALUE)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.placement.portal.backend.interviewSchedule.InterviewScheduleDto(
+            i.id, i.interviewDateTime, i.interviewerName, i.location, i.status, i.feedback,
+            a.id, u.name, j.title)
+        FROM InterviewSchedule i
+        JOIN i.jobApplication a
+        JOIN a.student s
+        JOIN s.user u
+        JOIN a.jobOpening j
+        JOIN j.company c
+        WHERE (:allCompanies = true OR c.id IN :companyIds)
+        ORDER BY i.id
+    """)
+    Stream<InterviewScheduleDto> streamDtos(@Param("allCompanies") boolean allCompanies,
+                                            @Param("companyIds") Collection<Long> companyIds);
+
 }
@@ -1,17 +1,11 @@
 package com.placement.portal.backend.interviewSchedule;
 
-import com.placement.portal.backend.auth.User;
-import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.company.Company;
-import com.placement.portal.backend.company.CompanyRepository;
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.jobApplication.JobApplication;
 import com.placement.portal.backend.jobApplication.JobApplicationRepository;
 import com.placement.portal.backend.jobOpening.JobOpening;
 import com.placement.portal.backend.jobOpening.JobOpeningRepository;
 import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
-import com.placement.portal.backend.studentProfile.StudentProfile;
-import com.placement.portal.backend.studentProfile.StudentProfileRepository;
-import com.placement.portal.backend.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -31,18 +25,6 @@ public class InterviewScheduleService {
     @Autowired
     private JobOpeningRepository jobOpeningRepository;
 
-    @Autowired
-    private CompanyRepository companyRepository;
-
-    @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private StudentProfileRepository studentProfileRepository;
-
-    @Autowired
-    private JwtUtil jwtService;
-
     @Autowired
     private  OfficerCompanyService officerCompanyService;
 
@@ -50,20 +32,17 @@ public class InterviewScheduleService {
     /**
      * Create and save a new InterviewSchedule from DTO.
      */
-    public InterviewScheduleDto createSchedule(InterviewScheduleDto dto, String authHeader) {
+    public InterviewScheduleDto createSchedule(InterviewScheduleDto dto, AuthenticatedActor actor) {
         JobApplication jobApplication = jobApplicationRepository.findById(dto.getJobApplicationId())
                 .orElseThrow(() -> new RuntimeException("Job application not found"));
 
         Long targetCompanyId = jobApplication.getJobOpening().getCompany().getId();
-        String hrEmail = jwtService.extractEmailFromAuthorizationHeader(authHeader);
-
-        User hr = userRepository.findByEmail(hrEmail)
-                .orElseThrow(() -> new RuntimeException("HR not found"));
 
-        Company hrCompany = companyRepository.findByCompanyHRs_Id(hr.getId())
-                .orElseThrow(() -> new RuntimeException("Company not found for HR"));
+        if (actor.getCompanyId() == null) {
+            throw new RuntimeException("Company not found for HR");
+        }
 
-        if (!hrCompany.getId().equals(targetCompanyId)) {
+        if (!actor.getCompanyId().equals(targetCompanyId)) {
             throw new RuntimeException("Unauthorized: You can only schedule interviews for your own company's job openings");
         }
 
@@ -138,9 +117,8 @@ public class InterviewScheduleService {
                 .collect(Collectors.toList());
     }
 
-    public List<InterviewScheduleDto> getInterviewsForOfficer(String token) {
-        List<Company> companies = officerCompanyService.getAssignedCompanies(token);
-        List<Long> companyIds = companies.stream().map(Company::getId).toList();
+    public List<InterviewScheduleDto> getInterviewsForOfficer(AuthenticatedActor actor) {
+        List<Long> companyIds = officerCompanyService.getAssignedCompanyIds(actor);
 
         List<JobOpening> jobOpenings = jobOpeningRepository.findByCompanyIdIn(companyIds);
         List<Long> jobIds = jobOpenings.stream().map(JobOpening::getId).toList();
@@ -151,19 +129,14 @@ public class InterviewScheduleService {
 
 
     /**
-     * Get interviews specifically for the currently authenticated HR (by JWT token).
+     * Get interviews specifically for the currently authenticated HR.
      */
-    public List<InterviewScheduleDto> getInterviewsForCurrentHR(String token) {
-        String jwt = token.startsWith("Bearer ") ? token.substring(7) : token;
-        String email = jwtService.extractEmail(jwt);
-
-        User hrUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("HR user not found"));
-
-        Company company = companyRepository.findByCompanyHRs_Id(hrUser.getId())
-                .orElseThrow(() -> new RuntimeException("Company not found for HR"));
+    public List<InterviewScheduleDto> getInterviewsForCurrentHR(AuthenticatedActor actor) {
+        if (actor.getCompanyId() == null) {
+            throw new RuntimeException("Company not found for HR");
+        }
 
-        List<JobOpening> jobOpenings = jobOpeningRepository.findByCompanyId(company.getId());
+        List<JobOpening> jobOpenings = jobOpeningRepository.findByCompanyId(actor.getCompanyId());
 
         List<Long> jobOpeningIds = jobOpenings.stream()
                 .map(JobOpening::getId)
@@ -193,24 +166,17 @@ public class InterviewScheduleService {
         return dto;
     }
 
-    public List<InterviewScheduleDto> getInterviewsForCurrentStudent(String token) {
-        // Step 1: Extract email from JWT token
-        String email = jwtService.extractEmail(token.replace("Bearer ", ""));
-
-        // Step 2: Find user by email
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
-
-        // Step 3: Get StudentProfile by userId
-        StudentProfile profile = studentProfileRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new RuntimeException("Student profile not found for user ID: " + user.getId()));
-
-        Long studentProfileId = profile.getId();
+    public List<InterviewScheduleDto> getInterviewsForCurrentStudent(AuthenticatedActor actor) {
+        // Step 1: Student profile id was resolved when the token was verified
+        Long studentProfileId = actor.getStudentProfileId();
+        if (studentProfileId == null) {
+            throw new RuntimeException("Student profile not found for user ID: " + actor.getUserId());
+        }
 
-        // Step 4: Fetch all InterviewSchedules by navigating path: schedule -> jobApplication -> studentProfile.id
+        // Step 2: Fetch all InterviewSchedules by navigating path: schedule -> jobApplication -> studentProfile.id
         List<InterviewSchedule> schedules = interviewScheduleRepository.findByJobApplication_Student_Id(studentProfileId);
 
-        // Step 5: Map to DTOs
+        // Step 3: Map to DTOs
         return schedules.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
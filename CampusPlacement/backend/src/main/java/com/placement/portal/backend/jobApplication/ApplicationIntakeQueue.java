@@ -0,0 +1,312 @@
+package com.placement.portal.backend.jobApplication;
+
+import com.placement.portal.backend.eligibility.CompiledEligibility;
+import com.placement.portal.backend.eligibility.StudentEligibilityRow;
+import com.placement.portal.backend.jobOpening.JobIntakeInfo;
+import com.placement.portal.backend.jobOpening.JobOpening;
+import com.placement.portal.backend.jobOpening.JobOpeningRepository;
+import com.placement.portal.backend.jobOpening.JobOpeningStatus;
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Deadline-day intake for job applications. Submissions are validated against a
+ * short-lived cache of job status/deadline, acknowledged with an idempotency key
+ * and parked in a bounded queue; a single writer thread drains the queue in
+ * batches and persists each batch with one duplicate check, one eligibility check
+ * and one batched insert.
+ *
+ * Repeat submissions for the same (student, job), or with an idempotency key
+ * the same student already used for that job, get the existing ticket back
+ * instead of a second row. Keys are scoped per student; reusing one for another
+ * job throws IdempotencyKeyReusedException (422). When the queue is full, submit
+ * throws RejectedExecutionException (mapped to 503).
+ *
+ * Metrics: applications.intake.queue.depth, applications.intake.drain (batch
+ * write time), applications.intake.latency (accept to persisted) and
+ * applications.intake.submissions{result}.
+ */
+@Component
+public class ApplicationIntakeQueue {
+
+    private static final long JOB_INFO_TTL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final StudentProfileRepository studentProfileRepository;
+    private final JobOpeningRepository jobOpeningRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final BlockingQueue<IntakeTicket> queue;
+    private final Map<Long, CachedJobInfo> jobInfo = new ConcurrentHashMap<>();
+
+    // Recent tickets by (student, idempotency key) and by (student, job); guarded by themselves
+    private final Map<String, IntakeTicket> byKey;
+    private final Map<String, IntakeTicket> byPair;
+
+    private final Timer drainTimer;
+    private final Timer latencyTimer;
+    private final Counter accepted;
+    private final Counter collapsed;
+    private final Counter rejectedFull;
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public ApplicationIntakeQueue(JobApplicationRepository jobApplicationRepository,
+                                  StudentProfileRepository studentProfileRepository,
+                                  JobOpeningRepository jobOpeningRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.applications.intake.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${app.applications.intake.batch-size:200}") int batchSize,
+                                  @Value("${app.applications.intake.flush-interval-ms:200}") long flushIntervalMs,
+                                  @Value("${app.applications.intake.max-tracked:100000}") int maxTracked) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.studentProfileRepository = studentProfileRepository;
+        this.jobOpeningRepository = jobOpeningRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.byKey = lru(maxTracked);
+        this.byPair = lru(maxTracked);
+
+        Gauge.builder("applications.intake.queue.depth", queue, BlockingQueue::size)
+                .description("Applications accepted but not yet written")
+                .register(meterRegistry);
+        this.drainTimer = Timer.builder("applications.intake.drain")
+                .description("Time to write one drained batch")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("applications.intake.latency")
+                .description("Time from acceptance to the application row being committed")
+                .register(meterRegistry);
+        this.accepted = Counter.builder("applications.intake.submissions").tag("result", "accepted").register(meterRegistry);
+        this.collapsed = Counter.builder("applications.intake.submissions").tag("result", "collapsed").register(meterRegistry);
+        this.rejectedFull = Counter.builder("applications.intake.submissions").tag("result", "queue_full").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::drainLoop, "application-intake-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Stops taking new work and gives the writer a few seconds to flush what is queued
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Validates and enqueues an application for the given student.
+     *
+     * @throws IllegalArgumentException if the job cannot take applications
+     * @throws IdempotencyKeyReusedException if the student used the key for another job
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public IntakeTicket submit(Long studentId, Long jobOpeningId, String resumeLink, String idempotencyKey) {
+        if (!running) {
+            throw new RejectedExecutionException("Intake is shutting down");
+        }
+        if (jobOpeningId == null) {
+            throw new IllegalArgumentException("jobOpeningId is required");
+        }
+        if (resumeLink == null || resumeLink.isBlank()) {
+            throw new IllegalArgumentException("resumeLink is required");
+        }
+        checkJobAcceptsApplications(jobOpeningId);
+
+        String pairKey = IntakeTicket.pairKey(studentId, jobOpeningId);
+        IntakeTicket ticket;
+        synchronized (byKey) {
+            IntakeTicket existing = idempotencyKey != null ? byKey.get(scopedKey(studentId, idempotencyKey)) : null;
+            if (existing != null && !existing.getJobOpeningId().equals(jobOpeningId)) {
+                throw new IdempotencyKeyReusedException("Idempotency-Key was already used for another job opening");
+            }
+            if (existing == null) {
+                synchronized (byPair) {
+                    existing = byPair.get(pairKey);
+                }
+                if (existing != null && existing.getStatus() == IntakeTicket.Status.REJECTED) {
+                    existing = null;
+                }
+            }
+            if (existing != null) {
+                if (idempotencyKey != null) {
+                    byKey.put(scopedKey(studentId, idempotencyKey), existing);
+                }
+                collapsed.increment();
+                return existing;
+            }
+
+            ticket = new IntakeTicket(idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString(),
+                    studentId, jobOpeningId, resumeLink);
+            if (!queue.offer(ticket)) {
+                rejectedFull.increment();
+                throw new RejectedExecutionException("Application intake queue is full");
+            }
+            byKey.put(scopedKey(studentId, ticket.getKey()), ticket);
+            synchronized (byPair) {
+                byPair.put(pairKey, ticket);
+            }
+        }
+        accepted.increment();
+        return ticket;
+    }
+
+    public Optional<IntakeTicket> getTicket(Long studentId, String key) {
+        synchronized (byKey) {
+            return Optional.ofNullable(byKey.get(scopedKey(studentId, key)));
+        }
+    }
+
+    private static String scopedKey(Long studentId, String key) {
+        return studentId + ":" + key;
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void checkJobAcceptsApplications(Long jobOpeningId) {
+        long now = System.nanoTime();
+        CachedJobInfo cached = jobInfo.get(jobOpeningId);
+        if (cached == null || now - cached.loadedAtNanos() > JOB_INFO_TTL_NANOS) {
+            JobIntakeInfo info = jobOpeningRepository.findIntakeInfo(jobOpeningId)
+                    .orElseThrow(() -> new IllegalArgumentException("Job opening not found"));
+            cached = new CachedJobInfo(info, now);
+            jobInfo.put(jobOpeningId, cached);
+        }
+        JobIntakeInfo info = cached.info();
+        if (info.status() != JobOpeningStatus.OPEN) {
+            throw new IllegalArgumentException("Job opening is not open for applications");
+        }
+        if (info.applicationDeadline() != null && info.applicationDeadline().isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Application deadline has passed");
+        }
+    }
+
+    private void drainLoop() {
+        List<IntakeTicket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IntakeTicket first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                drainTimer.record(() -> persist(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                batch.stream()
+                        .filter(t -> t.getStatus() == IntakeTicket.Status.QUEUED)
+                        .forEach(t -> t.rejected("Could not save application: " + e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<IntakeTicket> batch) {
+        Set<Long> studentIds = batch.stream().map(IntakeTicket::getStudentId).collect(Collectors.toSet());
+        Set<Long> jobIds = batch.stream().map(IntakeTicket::getJobOpeningId).collect(Collectors.toSet());
+        Set<String> existing = jobApplicationRepository.findExistingPairs(studentIds, jobIds).stream()
+                .map(p -> IntakeTicket.pairKey(p.studentId(), p.jobOpeningId()))
+                .collect(Collectors.toSet());
+
+        // Eligibility for the whole batch from two queries: the batch's profiles and its jobs' rules
+        Map<Long, StudentEligibilityRow> students = studentProfileRepository.findEligibilityRowsByIdIn(studentIds).stream()
+                .collect(Collectors.toMap(StudentEligibilityRow::id, row -> row));
+        Map<Long, CompiledEligibility> rules = new HashMap<>();
+        for (JobOpening job : jobOpeningRepository.findAllById(jobIds)) {
+            rules.put(job.getId(), CompiledEligibility.compile(job.getEligibilityRules()));
+        }
+
+        List<IntakeTicket> toSave = new ArrayList<>(batch.size());
+        for (IntakeTicket ticket : batch) {
+            StudentEligibilityRow student = students.get(ticket.getStudentId());
+            CompiledEligibility jobRules = rules.get(ticket.getJobOpeningId());
+            List<String> unmet = student != null && jobRules != null ? jobRules.unmet(student) : List.of("Student or job not found");
+            if (existing.contains(ticket.pairKey())) {
+                ticket.duplicate();
+            } else if (!unmet.isEmpty()) {
+                ticket.rejected("Not eligible for this job: " + String.join(", ", unmet));
+            } else {
+                toSave.add(ticket);
+            }
+        }
+        if (toSave.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<JobApplication> saved = transactionTemplate.execute(status -> jobApplicationRepository.saveAll(
+                    toSave.stream().map(this::toEntity).toList()));
+            for (int i = 0; i < toSave.size(); i++) {
+                markPersisted(toSave.get(i), saved.get(i).getId());
+            }
+        } catch (RuntimeException batchFailure) {
+            // Find the bad rows one at a time so the rest of the batch still lands
+            for (IntakeTicket ticket : toSave) {
+                try {
+                    JobApplication saved = transactionTemplate.execute(status -> jobApplicationRepository.save(toEntity(ticket)));
+                    markPersisted(ticket, saved.getId());
+                } catch (RuntimeException e) {
+                    ticket.rejected("Could not save application: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void markPersisted(IntakeTicket ticket, Long applicationId) {
+        ticket.persisted(applicationId);
+        latencyTimer.record(System.nanoTime() - ticket.getEnqueuedAtNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private JobApplication toEntity(IntakeTicket ticket) {
+        return JobApplication.builder()
+                .student(studentProfileRepository.getReferenceById(ticket.getStudentId()))
+                .jobOpening(jobOpeningRepository.getReferenceById(ticket.getJobOpeningId()))
+                .resumeLink(ticket.getResumeLink())
+                .status(JobApplicationStatus.APPLIED)
+                .appliedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static <V> Map<String, V> lru(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private record CachedJobInfo(JobIntakeInfo info, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,5 @@
+package com.placement.portal.backend.jobApplication;
+
+// Just enough of an application to decide whether a bulk transition may touch it
+public record ApplicationOwnership(Long id, Long companyId, JobApplicationStatus status) {
+}
@@ -0,0 +1,19 @@
+package com.placement.portal.backend.jobApplication;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Target status plus either explicit application ids or a filter selecting them.
+ * When both are given the ids win.
+ */
+@Getter
+@Setter
+public class BulkStatusUpdateRequest {
+
+    private JobApplicationStatus status;
+    private List<Long> ids;
+    private JobApplicationFilter filter;
+}
@@ -0,0 +1,18 @@
+package com.placement.portal.backend.jobApplication;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkStatusUpdateResult {
+
+    private final JobApplicationStatus status;
+    private final List<Long> updatedIds;
+    private final List<Skipped> skipped;
+
+    public record Skipped(Long id, String reason) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.placement.portal.backend.jobApplication;
+
+import com.placement.portal.backend.util.CursorPage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * HR Kanban board: total per status plus the first cards of each lane.
+ * A lane's nextCursor is passed to /hr/pipeline/lanes/{status} to load more.
+ */
+@Getter
+@AllArgsConstructor
+public class HiringPipelineView {
+
+    private final Map<JobApplicationStatus, Long> counts;
+    private final Map<JobApplicationStatus, CursorPage<JobApplicationDto>> lanes;
+}
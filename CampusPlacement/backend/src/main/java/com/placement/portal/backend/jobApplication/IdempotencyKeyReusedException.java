@@ -0,0 +1,11 @@
+package com.placement.portal.backend.jobApplication;
+
+/**
+ * An Idempotency-Key the student already used for a different job opening.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,57 @@
+package com.placement.portal.backend.jobApplication;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+/**
+ * Acknowledgement for an application accepted by the intake queue. The client
+ * polls GET /api/job-applications/intake/{key} until it is no longer QUEUED.
+ */
+@Getter
+public class IntakeTicket {
+
+    public enum Status { QUEUED, PERSISTED, DUPLICATE, REJECTED }
+
+    private final String key;
+    private final Long studentId;
+    private final Long jobOpeningId;
+
+    @JsonIgnore
+    private final String resumeLink;
+    @JsonIgnore
+    private final long enqueuedAtNanos = System.nanoTime();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Long applicationId;
+    private volatile String reason;
+
+    IntakeTicket(String key, Long studentId, Long jobOpeningId, String resumeLink) {
+        this.key = key;
+        this.studentId = studentId;
+        this.jobOpeningId = jobOpeningId;
+        this.resumeLink = resumeLink;
+    }
+
+    String pairKey() {
+        return pairKey(studentId, jobOpeningId);
+    }
+
+    static String pairKey(Long studentId, Long jobOpeningId) {
+        return studentId + ":" + jobOpeningId;
+    }
+
+    void persisted(Long applicationId) {
+        this.applicationId = applicationId;
+        this.status = Status.PERSISTED;
+    }
+
+    void duplicate() {
+        this.reason = "Already applied to this job";
+        this.status = Status.DUPLICATE;
+    }
+
+    void rejected(String reason) {
+        this.reason = reason;
+        this.status = Status.REJECTED;
+    }
+}
@@ -3,7 +3,9 @@ package com.placement.portal.backend.jobApplication;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.placement.portal.backend.jobOpening.JobOpening;
+import com.placement.portal.backend.reportSummery.ReportCacheInvalidator;
 import com.placement.portal.backend.studentProfile.StudentProfile;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,10 +17,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_job_application_applied_at_id", columnList = "applied_at, id"),
+        @Index(name = "idx_job_application_status_applied_at", columnList = "status, applied_at, id")
+})
+@EntityListeners(ReportCacheInvalidator.class)
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_application_id")
+    @TableGenerator(name = "job_application_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "job_application",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,13 +1,19 @@
 package com.placement.portal.backend.jobApplication;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.util.CursorPage;
 import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
@@ -18,6 +24,9 @@ public class JobApplicationController {
     @Autowired
     private JobApplicationService jobApplicationService;
 
+    @Autowired
+    private ApplicationIntakeQueue applicationIntakeQueue;
+
     @PreAuthorize("hasRole('STUDENT')")
     @PostMapping
     public ResponseEntity<JobApplicationDto> createApplication(@RequestBody JobApplicationDto dto) {
@@ -25,16 +34,65 @@ public class JobApplicationController {
         return ResponseEntity.ok(created);
     }
 
+    // Queued submission for deadline rushes; returns 202 with a ticket to poll
+    @PreAuthorize("hasRole('STUDENT')")
+    @PostMapping("/intake")
+    public ResponseEntity<?> submitApplication(
+            @RequestBody JobApplicationDto dto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
+        if (actor.getStudentProfileId() == null) {
+            return ResponseEntity.badRequest().body("Student profile not found");
+        }
+        try {
+            IntakeTicket ticket = applicationIntakeQueue.submit(
+                    actor.getStudentProfileId(), dto.getJobOpeningId(), dto.getResumeLink(), idempotencyKey);
+            return ResponseEntity.accepted().body(ticket);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IdempotencyKeyReusedException e) {
+            return ResponseEntity.unprocessableEntity().body(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+    }
+
+    @PreAuthorize("hasRole('STUDENT')")
+    @GetMapping("/intake/{key}")
+    public ResponseEntity<IntakeTicket> getIntakeTicket(@PathVariable String key,
+                                                        @AuthenticationPrincipal AuthenticatedActor actor) {
+        return applicationIntakeQueue.getTicket(actor.getStudentProfileId(), key)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('COMPANY_HR') or hasRole('PLACEMENT_OFFICER')")
     @GetMapping
     public List<JobApplicationDto> getAllApplications() {
         return jobApplicationService.getAllApplications();
     }
 
+    // Paged replacement for the three full listings above; pass back nextCursor to get the next page
+    @PreAuthorize("hasRole('ADMIN') or hasRole('COMPANY_HR') or hasRole('PLACEMENT_OFFICER')")
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<JobApplicationDto>> getApplicationsPage(
+            JobApplicationFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.getApplicationsPage(filter, cursor, size, actor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PreAuthorize("hasRole('COMPANY_HR')")
     @GetMapping("/hr")
-    public ResponseEntity<List<JobApplicationDto>> getApplicationsForCurrentHR(@RequestHeader("Authorization") String token) {
-        List<JobApplicationDto> apps = jobApplicationService.getApplicationsForCurrentHR(token);
+    public ResponseEntity<List<JobApplicationDto>> getApplicationsForCurrentHR(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<JobApplicationDto> apps = jobApplicationService.getApplicationsForCurrentHR(actor);
         return ResponseEntity.ok(apps);
     }
 
@@ -65,6 +123,19 @@ public class JobApplicationController {
 
 
 
+    // Moves a list of applications (or everything matching a filter) to one status
+    @PreAuthorize("hasRole('ADMIN') or hasRole('COMPANY_HR')")
+    @PutMapping("/bulk-status")
+    public ResponseEntity<BulkStatusUpdateResult> bulkUpdateStatus(
+            @RequestBody BulkStatusUpdateRequest request,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.bulkUpdateStatus(request, actor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // New endpoint to update interview and other details
     @PreAuthorize("hasRole('ADMIN') or hasRole('COMPANY_HR')")
     @PutMapping("/{id}")
@@ -86,25 +157,51 @@ public class JobApplicationController {
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('COMPANY_HR')")
     public ResponseEntity<List<JobApplicationDto>> getApplicationsByJobId(
-            @PathVariable @Min(1) Long jobId) {
+            @PathVariable @Min(1) Long jobId,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
 
-        List<JobApplicationDto> apps = jobApplicationService.getApplicationsByJobOpeningId(jobId);
+        List<JobApplicationDto> apps = jobApplicationService.getApplicationsByJobOpeningId(jobId, actor);
         return ResponseEntity.ok(apps);
     }
 
     @PreAuthorize("hasRole('COMPANY_HR')")
     @GetMapping("/hr/pipeline")
     public ResponseEntity<Map<JobApplicationStatus, List<JobApplicationDto>>> getHrPipeline(
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal AuthenticatedActor actor) {
         Map<JobApplicationStatus, List<JobApplicationDto>> pipeline =
-                jobApplicationService.getApplicationsGroupedByStatusForCurrentHR(token);
+                jobApplicationService.getApplicationsGroupedByStatusForCurrentHR(actor);
         return ResponseEntity.ok(pipeline);
     }
 
+    // Board view: per-status counts from the DB plus the first cards of each lane
+    @PreAuthorize("hasRole('COMPANY_HR')")
+    @GetMapping("/hr/pipeline/board")
+    public ResponseEntity<HiringPipelineView> getHrPipelineBoard(
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(defaultValue = "10") int perLane,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(jobApplicationService.getHiringPipeline(jobId, perLane, actor));
+    }
+
+    @PreAuthorize("hasRole('COMPANY_HR')")
+    @GetMapping("/hr/pipeline/lanes/{status}")
+    public ResponseEntity<CursorPage<JobApplicationDto>> getHrPipelineLane(
+            @PathVariable JobApplicationStatus status,
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal AuthenticatedActor actor) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.getPipelineLane(status, jobId, cursor, size, actor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/officer")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<JobApplicationDto>> getApplicationsForOfficer(@RequestHeader("Authorization") String token) {
-        List<JobApplicationDto> dtos = jobApplicationService.getApplicationsForOfficer(token);
+    public ResponseEntity<List<JobApplicationDto>> getApplicationsForOfficer(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<JobApplicationDto> dtos = jobApplicationService.getApplicationsForOfficer(actor);
         return ResponseEntity.ok(dtos);
     }
 
@@ -113,8 +210,8 @@ public class JobApplicationController {
 
     @PreAuthorize("hasRole('STUDENT')")
     @GetMapping("/me")
-    public ResponseEntity<List<JobApplicationDto>> getMyApplications(@RequestHeader("Authorization") String token) {
-        List<JobApplicationDto> apps = jobApplicationService.getApplicationsByCurrentStudent(token);
+    public ResponseEntity<List<JobApplicationDto>> getMyApplications(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<JobApplicationDto> apps = jobApplicationService.getApplicationsByCurrentStudent(actor);
         return ResponseEntity.ok(apps);
     }
 
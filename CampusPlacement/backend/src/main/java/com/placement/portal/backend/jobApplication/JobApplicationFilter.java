@@ -0,0 +1,27 @@
+package com.placement.portal.backend.jobApplication;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for the paged application listing, bound from query parameters.
+ * Date range is inclusive on both ends and applies to appliedAt.
+ */
+@Getter
+@Setter
+public class JobApplicationFilter {
+
+    private JobApplicationStatus status;
+    private Long jobId;
+    private Long companyId;
+    private String branch;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
@@ -2,14 +2,41 @@ package com.placement.portal.backend.jobApplication;
 
 import com.placement.portal.backend.jobOpening.JobOpening;
 import com.placement.portal.backend.studentProfile.StudentProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
 
+    /**
+     * Builds JobApplicationDto rows in one statement, instead of loading entities and
+     * walking student/user/jobOpening/company lazily for every row. Append a WHERE clause.
+     */
+    String DTO_SELECT = """
+        SELECT new com.placement.portal.backend.jobApplication.JobApplicationDto(
+            a.id, s.id, j.id, a.resumeLink, a.status, a.appliedAt,
+            a.interviewDateTime, a.interviewerName, a.location, a.feedback,
+            u.name, s.degree, s.branch, c.name, j.title)
+        FROM JobApplication a
+        JOIN a.student s
+        JOIN s.user u
+        JOIN a.jobOpening j
+        JOIN j.company c
+        """;
+
     List<JobApplication> findByStudent_Id(Long studentId);
 
     List<JobApplication> findByStudent(StudentProfile student);
@@ -25,6 +52,107 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
     List<JobApplication> findByJobOpening_IdIn(List<Long> jobIds);
 
+    @Query(DTO_SELECT + "ORDER BY a.appliedAt DESC, a.id DESC")
+    List<JobApplicationDto> findAllDtos();
+
+    @Query(DTO_SELECT + "WHERE a.id = :id")
+    Optional<JobApplicationDto> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT + "WHERE j.id = :jobId ORDER BY a.appliedAt DESC, a.id DESC")
+    List<JobApplicationDto> findDtosByJobOpeningId(@Param("jobId") Long jobId);
+
+    @Query(DTO_SELECT + "WHERE s.id = :studentId ORDER BY a.appliedAt DESC, a.id DESC")
+    List<JobApplicationDto> findDtosByStudentId(@Param("studentId") Long studentId);
+
+    // Forward-only cursor for exports (MySQL streams rows when the fetch size is Integer.MIN_VALUE)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(DTO_SELECT + "WHERE (:allCompanies = true OR c.id IN :companyIds) ORDER BY a.id")
+    Stream<JobApplicationDto> streamDtos(@Param("allCompanies") boolean allCompanies,
+                                         @Param("companyIds") Collection<Long> companyIds);
+
+    @Query(DTO_SELECT + "WHERE c.id IN :companyIds ORDER BY a.appliedAt DESC, a.id DESC")
+    List<JobApplicationDto> findDtosByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
+
+    @Query("""
+        SELECT new com.placement.portal.backend.jobApplication.JobApplicationStatusCount(a.status, COUNT(a))
+        FROM JobApplication a
+        WHERE a.jobOpening.company.id = :companyId
+          AND (:jobId IS NULL OR a.jobOpening.id = :jobId)
+        GROUP BY a.status
+    """)
+    List<JobApplicationStatusCount> countByStatusForCompany(@Param("companyId") Long companyId,
+                                                            @Param("jobId") Long jobId);
+
+    @Query("""
+        SELECT new com.placement.portal.backend.jobApplication.ApplicationOwnership(a.id, a.jobOpening.company.id, a.status)
+        FROM JobApplication a
+        WHERE a.id IN :ids
+    """)
+    List<ApplicationOwnership> findOwnershipByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        SELECT new com.placement.portal.backend.jobApplication.ApplicationOwnership(a.id, c.id, a.status)
+        FROM JobApplication a
+        JOIN a.student s
+        JOIN a.jobOpening j
+        JOIN j.company c
+        WHERE (:companyId IS NULL OR c.id = :companyId)
+          AND (:status IS NULL OR a.status = :status)
+          AND (:jobId IS NULL OR j.id = :jobId)
+          AND (:branch IS NULL OR s.branch = :branch)
+          AND (:fromAt IS NULL OR a.appliedAt >= :fromAt)
+          AND (:toAt IS NULL OR a.appliedAt < :toAt)
+    """)
+    List<ApplicationOwnership> findOwnershipByFilter(@Param("companyId") Long companyId,
+                                                     @Param("status") JobApplicationStatus status,
+                                                     @Param("jobId") Long jobId,
+                                                     @Param("branch") String branch,
+                                                     @Param("fromAt") LocalDateTime fromAt,
+                                                     @Param("toAt") LocalDateTime toAt);
+
+    @Query("""
+        SELECT new com.placement.portal.backend.jobApplication.StudentJobPair(a.student.id, a.jobOpening.id)
+        FROM JobApplication a
+        WHERE a.student.id IN :studentIds AND a.jobOpening.id IN :jobIds
+    """)
+    List<StudentJobPair> findExistingPairs(@Param("studentIds") Collection<Long> studentIds,
+                                           @Param("jobIds") Collection<Long> jobIds);
+
+    @Modifying
+    @Query("UPDATE JobApplication a SET a.status = :status WHERE a.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") JobApplicationStatus status);
+
+    /**
+     * Keyset page ordered by appliedAt DESC, id DESC. Every filter is optional (null = any);
+     * role scoping is the companyIds list, ignored when allCompanies is true.
+     * Pass limit = page size + 1 to detect whether another page exists.
+     */
+    @Query(DTO_SELECT + """
+        WHERE (:allCompanies = true OR c.id IN :companyIds)
+          AND (:status IS NULL OR a.status = :status)
+          AND (:jobId IS NULL OR j.id = :jobId)
+          AND (:companyId IS NULL OR c.id = :companyId)
+          AND (:branch IS NULL OR s.branch = :branch)
+          AND (:fromAt IS NULL OR a.appliedAt >= :fromAt)
+          AND (:toAt IS NULL OR a.appliedAt < :toAt)
+          AND (:cursorAt IS NULL OR a.appliedAt < :cursorAt OR (a.appliedAt = :cursorAt AND a.id < :cursorId))
+        ORDER BY a.appliedAt DESC, a.id DESC
+    """)
+    List<JobApplicationDto> findPage(@Param("allCompanies") boolean allCompanies,
+                                     @Param("companyIds") Collection<Long> companyIds,
+                                     @Param("status") JobApplicationStatus status,
+                                     @Param("jobId") Long jobId,
+                                     @Param("companyId") Long companyId,
+                                     @Param("branch") String branch,
+                                     @Param("fromAt") LocalDateTime fromAt,
+                                     @Param("toAt") LocalDateTime toAt,
+                                     @Param("cursorAt") LocalDateTime cursorAt,
+                                     @Param("cursorId") Long cursorId,
+                                     Limit limit);
+
 
 
 
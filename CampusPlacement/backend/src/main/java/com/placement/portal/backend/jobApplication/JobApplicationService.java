@@ -1,54 +1,59 @@
 package com.placement.portal.backend.jobApplication;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.auth.Role;
-import com.placement.portal.backend.auth.User;
-import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.company.Company;
-import com.placement.portal.backend.company.CompanyRepository;
+import com.placement.portal.backend.eligibility.EligibilityService;
 import com.placement.portal.backend.jobOpening.JobOpening;
 import com.placement.portal.backend.jobOpening.JobOpeningRepository;
 import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
+import com.placement.portal.backend.reportSummery.ReportCacheInvalidator;
+import com.placement.portal.backend.reportSummery.ReportSource;
 import com.placement.portal.backend.studentProfile.StudentProfile;
 import com.placement.portal.backend.studentProfile.StudentProfileRepository;
-import com.placement.portal.backend.util.JwtUtil;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.placement.portal.backend.util.CursorPage;
+import com.placement.portal.backend.util.KeysetCursor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class JobApplicationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = 5_000;
+    private static final int IN_CHUNK_SIZE = 1_000;
+
     private final JobApplicationRepository jobApplicationRepository;
     private final StudentProfileRepository studentProfileRepository;
     private final JobOpeningRepository jobOpeningRepository;
-    private final CompanyRepository companyRepository;
-    private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
     private final OfficerCompanyService officerCompanyService;
+    private final EligibilityService eligibilityService;
+    private final ReportCacheInvalidator reportCacheInvalidator;
 
     public JobApplicationService(JobApplicationRepository jobApplicationRepository,
                                  StudentProfileRepository studentProfileRepository,
                                  JobOpeningRepository jobOpeningRepository,
-                                 CompanyRepository companyRepository,
-                                 JwtUtil jwtUtil,
-                                 UserRepository userRepository,
-                                 OfficerCompanyService officerCompanyService) {
+                                 OfficerCompanyService officerCompanyService,
+                                 EligibilityService eligibilityService,
+                                 ReportCacheInvalidator reportCacheInvalidator) {
         this.jobApplicationRepository = jobApplicationRepository;
         this.studentProfileRepository = studentProfileRepository;
         this.jobOpeningRepository = jobOpeningRepository;
-        this.companyRepository = companyRepository;
-        this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
         this.officerCompanyService = officerCompanyService;
+        this.eligibilityService = eligibilityService;
+        this.reportCacheInvalidator = reportCacheInvalidator;
     }
 
     public JobApplicationDto createApplication(JobApplicationDto dto) {
@@ -58,6 +63,7 @@ public class JobApplicationService {
         if (studentOpt.isEmpty() || jobOpeningOpt.isEmpty()) {
             throw new RuntimeException("Student or Job Opening not found.");
         }
+        eligibilityService.requireEligible(jobOpeningOpt.get(), studentOpt.get());
 
         JobApplication application = JobApplication.builder()
                 .student(studentOpt.get())
@@ -78,17 +84,13 @@ public class JobApplicationService {
         return mapToDto(saved);
     }
 
+    // List reads below use the DTO projection queries: one statement whatever the row count
     public List<JobApplicationDto> getAllApplications() {
-        return jobApplicationRepository.findAll()
-                .stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        return jobApplicationRepository.findAllDtos();
     }
 
     public JobApplicationDto getApplicationById(Long id) {
-        return jobApplicationRepository.findById(id)
-                .map(this::mapToDto)
-                .orElse(null);
+        return jobApplicationRepository.findDtoById(id).orElse(null);
     }
 
     public JobApplicationDto updateApplicationStatus(Long id, JobApplicationStatus status) {
@@ -120,8 +122,8 @@ public class JobApplicationService {
         return mapToDto(saved);
     }
 
-    public Map<JobApplicationStatus, List<JobApplicationDto>> getHiringPipelineGroupedByStatus(Long jobId) {
-        List<JobApplicationDto> applications = getApplicationsByJobOpeningId(jobId);
+    public Map<JobApplicationStatus, List<JobApplicationDto>> getHiringPipelineGroupedByStatus(Long jobId, AuthenticatedActor actor) {
+        List<JobApplicationDto> applications = getApplicationsByJobOpeningId(jobId, actor);
         return applications.stream()
                 .collect(Collectors.groupingBy(JobApplicationDto::getStatus));
     }
@@ -155,23 +157,16 @@ public class JobApplicationService {
                 .build();
     }
 
-    List<JobApplicationDto> getApplicationsByJobOpeningId(Long jobId) {
+    List<JobApplicationDto> getApplicationsByJobOpeningId(Long jobId, AuthenticatedActor actor) {
         JobOpening jobOpening = jobOpeningRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job opening not found"));
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName(); // extracted from JWT
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         // Only restrict access if HR (Admins can bypass this)
-        if (user.getRoles().contains(Role.COMPANY_HR)) {
-            Company hrCompany = companyRepository.findByCompanyHRs_Id(user.getId())
-                    .orElseThrow(() -> new RuntimeException("HR is not assigned to any company"));
+        if (actor.hasRole(Role.COMPANY_HR)) {
+            Long hrCompanyId = requireCompanyId(actor);
 
             // Block access if HR is trying to access job from a different company
-            if (!jobOpening.getCompany().getId().equals(hrCompany.getId())) {
+            if (!jobOpening.getCompany().getId().equals(hrCompanyId)) {
                 try {
                     throw new AccessDeniedException("You are not authorized to view this job's pipeline.");
                 } catch (AccessDeniedException e) {
@@ -181,93 +176,178 @@ public class JobApplicationService {
         }
 
         // Now fetch applications for this job
-        List<JobApplication> applications = jobApplicationRepository.findByJobOpeningId(jobId);
-
-        return applications.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        return jobApplicationRepository.findDtosByJobOpeningId(jobId);
     }
 
 
-    public List<JobApplicationDto> getApplicationsByCurrentStudent(String token) {
-        // Extract email from Bearer token
-        String jwt = token.startsWith("Bearer ") ? token.substring(7) : token;
-        String email = jwtUtil.extractEmail(jwt);
-
-        // Fetch student profile using email
-        StudentProfile student = studentProfileRepository.findByUserEmail(email)
-                .orElseThrow(() -> new RuntimeException("Student profile not found for email: " + email));
-
-        // Fetch applications
-        List<JobApplication> applications = jobApplicationRepository.findByStudent(student);
+    public List<JobApplicationDto> getApplicationsByCurrentStudent(AuthenticatedActor actor) {
+        if (actor.getStudentProfileId() == null) {
+            throw new RuntimeException("Student profile not found for email: " + actor.getEmail());
+        }
 
-        // Convert to DTOs
-        return applications.stream()
-                .map(this::mapToDto) // Assume convertToDto() exists
-                .collect(Collectors.toList());
+        return jobApplicationRepository.findDtosByStudentId(actor.getStudentProfileId());
     }
 
-    public List<JobApplicationDto> getApplicationsForCurrentHR(String token) {
-        String jwt = token.startsWith("Bearer ") ? token.substring(7) : token;
-        String email = jwtUtil.extractEmail(jwt);
-
-        User hrUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("HR user not found"));
-
-        // Find company assigned to this HR
-        Company company = companyRepository.findByCompanyHRs_Id(hrUser.getId())
-                .orElseThrow(() -> new RuntimeException("Company not found for HR"));
-
-        // Get job openings by this company
-        List<JobOpening> jobOpenings = jobOpeningRepository.findByCompanyId(company.getId());
-
-        List<Long> jobIds = jobOpenings.stream().map(JobOpening::getId).toList();
-
-        List<JobApplication> applications = jobApplicationRepository.findByJobOpening_IdIn(jobIds);
-
-        return applications.stream().map(this::mapToDto).collect(Collectors.toList());
+    public List<JobApplicationDto> getApplicationsForCurrentHR(AuthenticatedActor actor) {
+        return jobApplicationRepository.findDtosByCompanyIds(List.of(requireCompanyId(actor)));
     }
 
-    public List<JobApplicationDto> getApplicationsForOfficer(String token) {
-        List<Company> assignedCompanies = officerCompanyService.getAssignedCompanies(token);
-        List<Long> companyIds = assignedCompanies.stream().map(Company::getId).toList();
+    public List<JobApplicationDto> getApplicationsForOfficer(AuthenticatedActor actor) {
+        List<Long> companyIds = officerCompanyService.getAssignedCompanyIds(actor);
 
         if (companyIds.isEmpty()) return List.of();
 
-        List<Long> jobIds = jobOpeningRepository.findByCompanyIdIn(companyIds)
+        return jobApplicationRepository.findDtosByCompanyIds(companyIds);
+    }
+
+    public Map<JobApplicationStatus, List<JobApplicationDto>> getApplicationsGroupedByStatusForCurrentHR(AuthenticatedActor actor) {
+        return jobApplicationRepository.findDtosByCompanyIds(List.of(requireCompanyId(actor)))
                 .stream()
-                .map(JobOpening::getId)
-                .toList();
+                .collect(Collectors.groupingBy(JobApplicationDto::getStatus));
+    }
 
-        if (jobIds.isEmpty()) return List.of();
+    /**
+     * Keyset-paginated listing, newest first. Admins see everything, HR only their
+     * company and officers only their assigned companies; the scope is applied in
+     * the query together with the filters.
+     */
+    public CursorPage<JobApplicationDto> getApplicationsPage(JobApplicationFilter filter, String cursor, int size,
+                                                             AuthenticatedActor actor) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        boolean allCompanies = actor.hasRole(Role.ADMIN);
+        List<Long> companyIds;
+        if (allCompanies) {
+            companyIds = List.of(-1L);
+        } else if (actor.hasRole(Role.COMPANY_HR)) {
+            companyIds = List.of(requireCompanyId(actor));
+        } else if (actor.hasRole(Role.PLACEMENT_OFFICER)) {
+            companyIds = officerCompanyService.getAssignedCompanyIds(actor);
+            if (companyIds.isEmpty()) return CursorPage.empty();
+        } else {
+            throw new AccessDeniedException("Not allowed to list applications");
+        }
 
-        List<JobApplication> applications = jobApplicationRepository.findByJobOpening_IdIn(jobIds);
+        List<JobApplicationDto> rows = jobApplicationRepository.findPage(
+                allCompanies, companyIds,
+                filter.getStatus(), filter.getJobId(), filter.getCompanyId(), filter.getBranch(),
+                filter.getFrom() != null ? filter.getFrom().atStartOfDay() : null,
+                filter.getTo() != null ? filter.getTo().plusDays(1).atStartOfDay() : null,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1));
 
-        return applications.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        return CursorPage.of(rows, pageSize, dto -> new KeysetCursor(dto.getAppliedAt(), dto.getId()));
     }
 
-    public Map<JobApplicationStatus, List<JobApplicationDto>> getApplicationsGroupedByStatusForCurrentHR(String token) {
-        String jwt = token.startsWith("Bearer ") ? token.substring(7) : token;
-        String email = jwtUtil.extractEmail(jwt);
+    /**
+     * HR board computed in the database: one GROUP BY for the lane totals, then the
+     * first {@code perLane} cards of each non-empty lane through the keyset query.
+     * Optionally narrowed to one job opening of the HR's company.
+     */
+    public HiringPipelineView getHiringPipeline(Long jobId, int perLane, AuthenticatedActor actor) {
+        Map<JobApplicationStatus, Long> counts = new EnumMap<>(JobApplicationStatus.class);
+        for (JobApplicationStatus status : JobApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (JobApplicationStatusCount row : jobApplicationRepository.countByStatusForCompany(requireCompanyId(actor), jobId)) {
+            counts.put(row.status(), row.count());
+        }
 
-        User hrUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("HR user not found"));
+        Map<JobApplicationStatus, CursorPage<JobApplicationDto>> lanes = new EnumMap<>(JobApplicationStatus.class);
+        counts.forEach((status, count) -> lanes.put(status,
+                count == 0 ? CursorPage.empty() : getPipelineLane(status, jobId, null, perLane, actor)));
 
-        Company company = companyRepository.findByCompanyHRs_Id(hrUser.getId())
-                .orElseThrow(() -> new RuntimeException("Company not found for HR"));
+        return new HiringPipelineView(counts, lanes);
+    }
 
-        List<JobOpening> jobOpenings = jobOpeningRepository.findByCompanyId(company.getId());
-        List<Long> jobIds = jobOpenings.stream().map(JobOpening::getId).toList();
+    public CursorPage<JobApplicationDto> getPipelineLane(JobApplicationStatus status, Long jobId, String cursor, int size,
+                                                         AuthenticatedActor actor) {
+        JobApplicationFilter filter = new JobApplicationFilter();
+        filter.setStatus(status);
+        filter.setJobId(jobId);
+        filter.setCompanyId(requireCompanyId(actor));
+        return getApplicationsPage(filter, cursor, size, actor);
+    }
 
-        List<JobApplication> applications = jobApplicationRepository.findByJobOpening_IdIn(jobIds);
+    /**
+     * Moves many applications to one status in a single transaction. Ownership and
+     * current status of the whole set come from one query; rows that are missing,
+     * belong to another company or are already in the target status are reported
+     * as skipped, the rest are changed with set-based UPDATEs.
+     */
+    @Transactional
+    public BulkStatusUpdateResult bulkUpdateStatus(BulkStatusUpdateRequest request, AuthenticatedActor actor) {
+        if (request.getStatus() == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        Long companyId = actor.hasRole(Role.ADMIN) ? null : requireCompanyId(actor);
+
+        List<ApplicationOwnership> rows;
+        List<BulkStatusUpdateResult.Skipped> skipped = new ArrayList<>();
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            Set<Long> requested = new LinkedHashSet<>(request.getIds());
+            if (requested.size() > MAX_BULK_SIZE) {
+                throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " applications per request");
+            }
+            rows = new ArrayList<>(requested.size());
+            for (List<Long> chunk : chunks(new ArrayList<>(requested))) {
+                rows.addAll(jobApplicationRepository.findOwnershipByIdIn(chunk));
+            }
+            Set<Long> found = rows.stream().map(ApplicationOwnership::id).collect(Collectors.toSet());
+            requested.stream()
+                    .filter(id -> !found.contains(id))
+                    .forEach(id -> skipped.add(new BulkStatusUpdateResult.Skipped(id, "Application not found")));
+        } else if (request.getFilter() != null) {
+            JobApplicationFilter filter = request.getFilter();
+            rows = jobApplicationRepository.findOwnershipByFilter(
+                    companyId != null ? companyId : filter.getCompanyId(),
+                    filter.getStatus(), filter.getJobId(), filter.getBranch(),
+                    filter.getFrom() != null ? filter.getFrom().atStartOfDay() : null,
+                    filter.getTo() != null ? filter.getTo().plusDays(1).atStartOfDay() : null);
+            if (rows.size() > MAX_BULK_SIZE) {
+                throw new IllegalArgumentException("Filter matches " + rows.size()
+                        + " applications; at most " + MAX_BULK_SIZE + " per request");
+            }
+        } else {
+            throw new IllegalArgumentException("Either ids or filter is required");
+        }
 
-        return applications.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.groupingBy(JobApplicationDto::getStatus));
-    }
+        List<Long> toUpdate = new ArrayList<>(rows.size());
+        for (ApplicationOwnership row : rows) {
+            if (companyId != null && !companyId.equals(row.companyId())) {
+                skipped.add(new BulkStatusUpdateResult.Skipped(row.id(), "Application belongs to another company"));
+            } else if (row.status() == request.getStatus()) {
+                skipped.add(new BulkStatusUpdateResult.Skipped(row.id(), "Already " + row.status()));
+            } else {
+                toUpdate.add(row.id());
+            }
+        }
 
+        for (List<Long> chunk : chunks(toUpdate)) {
+            jobApplicationRepository.updateStatusByIdIn(chunk, request.getStatus());
+        }
+        // JPQL updates skip the entity listeners
+        if (!toUpdate.isEmpty()) {
+            reportCacheInvalidator.sourceChanged(ReportSource.APPLICATIONS);
+        }
+        return new BulkStatusUpdateResult(request.getStatus(), toUpdate, skipped);
+    }
 
+    // Keeps IN lists at a size every driver/DB handles comfortably
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IN_CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + IN_CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
 
+    private Long requireCompanyId(AuthenticatedActor actor) {
+        if (actor.getCompanyId() == null) {
+            throw new RuntimeException("Company not found for HR");
+        }
+        return actor.getCompanyId();
+    }
 }
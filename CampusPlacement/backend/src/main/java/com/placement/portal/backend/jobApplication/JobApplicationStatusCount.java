@@ -0,0 +1,4 @@
+package com.placement.portal.backend.jobApplication;
+
+public record JobApplicationStatusCount(JobApplicationStatus status, Long count) {
+}
@@ -0,0 +1,4 @@
+package com.placement.portal.backend.jobApplication;
+
+public record StudentJobPair(Long studentId, Long jobOpeningId) {
+}
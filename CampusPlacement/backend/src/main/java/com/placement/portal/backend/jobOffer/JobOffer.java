@@ -1,6 +1,12 @@
 package com.placement.portal.backend.jobOffer;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.placement.portal.backend.jobApplication.JobApplication;
+import com.placement.portal.backend.placementStats.OfferStatsState;
+import com.placement.portal.backend.placementStats.PlacementStatsListener;
+import com.placement.portal.backend.reportSummery.ReportCacheInvalidator;
+import com.placement.portal.backend.salaryDistribution.SalaryDistributionListener;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,10 +19,13 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @Table(name = "job_offers")
+@EntityListeners({PlacementStatsListener.class, ReportCacheInvalidator.class, SalaryDistributionListener.class})
 public class JobOffer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_offers_id")
+    @TableGenerator(name = "job_offers_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "job_offers",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     @OneToOne
@@ -39,8 +48,17 @@ public class JobOffer {
 
     private LocalDateTime createdAt;
 
+    // Optimistic lock: concurrent responses to the same offer cannot both commit
+    @Version
+    private Long version;
+
     private LocalDateTime updatedAt;
 
+    // Status and salary as last counted in the placement stats; null until counted
+    @Transient
+    @JsonIgnore
+    private OfferStatsState statsState;
+
     // getters and setters
 
     @PrePersist
@@ -1,13 +1,16 @@
 package com.placement.portal.backend.jobOffer;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.company.Company;
 import com.placement.portal.backend.interviewSchedule.InterviewSchedule;
 import com.placement.portal.backend.jobOpening.JobOpening;
 import com.placement.portal.backend.jobOpening.JobOpeningRepository;
 import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,30 +30,33 @@ public class JobOfferController {
     // Create a new job offer – Only COMPANY_HR
     @PostMapping
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<JobOfferDto> createOffer(@RequestBody JobOfferDto dto) {
-        JobOfferDto saved = jobOfferService.createJobOffer(dto);
-        return ResponseEntity.ok(saved);
+    public ResponseEntity<?> createOffer(@RequestBody JobOfferDto dto) {
+        try {
+            return ResponseEntity.ok(jobOfferService.createJobOffer(dto));
+        } catch (OfferConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
     @GetMapping("/officer")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<JobOfferDto>> getOffersForOfficer(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(jobOfferService.getOffersForOfficer(token));
+    public ResponseEntity<List<JobOfferDto>> getOffersForOfficer(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(jobOfferService.getOffersForOfficer(actor));
     }
 
 
     // Get all offers sent by the current HR
     @GetMapping("/hr")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<List<JobOfferDto>> getOffersByHR(@RequestHeader("Authorization") String token) {
-        List<JobOfferDto> offers = jobOfferService.getOffersByHR(token);
+    public ResponseEntity<List<JobOfferDto>> getOffersByHR(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<JobOfferDto> offers = jobOfferService.getOffersByHR(actor);
         return ResponseEntity.ok(offers);
     }
 
     @GetMapping("/hr/job-application-ids")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<List<Map<String, Object>>> getJobApplicationIdsForHR(@RequestHeader("Authorization") String token) {
-        List<Map<String, Object>> apps = jobOfferService.getJobApplicationIdsForHR(token);
+    public ResponseEntity<List<Map<String, Object>>> getJobApplicationIdsForHR(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<Map<String, Object>> apps = jobOfferService.getJobApplicationIdsForHR(actor);
         return ResponseEntity.ok(apps);
     }
 
@@ -58,8 +64,8 @@ public class JobOfferController {
     // Get all offers received by a student
     @GetMapping("/student")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<List<JobOfferDto>> getOffersForStudent(@RequestHeader("Authorization") String token) {
-        List<JobOfferDto> offers = jobOfferService.getOffersForStudent(token);
+    public ResponseEntity<List<JobOfferDto>> getOffersForStudent(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<JobOfferDto> offers = jobOfferService.getOffersForStudent(actor);
         return ResponseEntity.ok(offers);
     }
 
@@ -81,17 +87,25 @@ public class JobOfferController {
     // Update job offer – Only COMPANY_HR
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<JobOfferDto> updateOffer(@PathVariable Long id, @RequestBody JobOfferDto dto) {
-        return ResponseEntity.ok(jobOfferService.updateOffer(id, dto));
+    public ResponseEntity<?> updateOffer(@PathVariable Long id, @RequestBody JobOfferDto dto) {
+        try {
+            return ResponseEntity.ok(jobOfferService.updateOffer(id, dto));
+        } catch (OfferConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
     // Student updates status (ACCEPTED / REJECTED)
     @PutMapping("/{id}/status")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<?> updateStatus(@PathVariable Long id, @RequestBody Map<String, String> request) {
+    public ResponseEntity<?> updateStatus(@PathVariable Long id, @RequestBody Map<String, String> request,
+                                          @AuthenticationPrincipal AuthenticatedActor actor) {
         String status = request.get("status");
-        jobOfferService.updateStatus(id, status);
-        return ResponseEntity.ok().build();
+        try {
+            return ResponseEntity.ok(jobOfferService.updateStatusByStudent(id, status, actor));
+        } catch (OfferConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
 
@@ -1,12 +1,14 @@
 package com.placement.portal.backend.jobOffer;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 @Getter
 @Setter
+@NoArgsConstructor
 public class JobOfferDto {
     private Long id;
     private Long jobApplicationId;
@@ -21,6 +23,23 @@ public class JobOfferDto {
     private String company;
     // getters and setters
 
+    // Used by the JPQL projections in JobOfferRepository; same "N/A" fallbacks as JobOfferService.mapToDto
+    public JobOfferDto(Long id, Long jobApplicationId, String candidateName, LocalDate offerDate, BigDecimal salary,
+                       OfferStatus status, LocalDate joiningDate, String offerLetterUrl, String jobTitle,
+                       String location, String company) {
+        this.id = id;
+        this.jobApplicationId = jobApplicationId;
+        this.candidateName = candidateName != null ? candidateName : "N/A";
+        this.offerDate = offerDate;
+        this.salary = salary;
+        this.status = status != null ? status.name() : null;
+        this.joiningDate = joiningDate;
+        this.offerLetterUrl = offerLetterUrl;
+        this.jobTitle = jobTitle != null ? jobTitle : "N/A";
+        this.location = location != null ? location : "N/A";
+        this.company = company;
+    }
+
 
 }
 
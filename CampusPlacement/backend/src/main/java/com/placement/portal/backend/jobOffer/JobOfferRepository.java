@@ -1,59 +1,42 @@
 package com.placement.portal.backend.jobOffer;
 
-import com.placement.portal.backend.reportSummery.CompanySummeryDto;
-import com.placement.portal.backend.reportSummery.StudentSummeryDto;
+import com.placement.portal.backend.salaryDistribution.OfferSalaryRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
-    Optional<JobOffer> findByJobApplicationId(Long jobApplicationId);
-
-    // Count distinct candidates who have received job offers
-    @Query("SELECT COUNT(DISTINCT jo.jobApplication.student.user.id) FROM JobOffer jo")
-    long countDistinctCandidates();
 
-    // Calculate average salary of all offers
-    @Query("SELECT COALESCE(AVG(j.salary), 0) FROM JobOffer j")
-    double findAverageSalary();
+    /**
+     * Builds JobOfferDto rows in one statement with the application, opening, company,
+     * student and user joined in, instead of lazy loads per offer. Append a WHERE clause.
+     */
+    String DTO_SELECT = """
+        SELECT new com.placement.portal.backend.jobOffer.JobOfferDto(
+            jo.id, ja.id, u.name, jo.offerDate, jo.salary, jo.status, jo.joiningDate, jo.offerLetterUrl,
+            jop.title, ja.location, c.name)
+        FROM JobOffer jo
+        JOIN jo.jobApplication ja
+        JOIN ja.jobOpening jop
+        LEFT JOIN jop.company c
+        JOIN ja.student sp
+        LEFT JOIN sp.user u
+        """;
 
-    // Company-wise placement stats
-    @Query("""
-    SELECT new com.placement.portal.backend.reportSummery.CompanySummeryDto(
-        c.id,
-        c.name,
-        COUNT(DISTINCT jo.id),
-        COALESCE(AVG(jo.salary), 0)
-    )
-    FROM JobOffer jo
-    JOIN jo.jobApplication ja
-    JOIN ja.jobOpening jop
-    JOIN jop.company c
-    GROUP BY c.id, c.name
-""")
-    List<CompanySummeryDto> findCompanyPlacementStats();
-
-    @Query("""
-    SELECT new com.placement.portal.backend.reportSummery.StudentSummeryDto(
-                                                    u.id,
-                                                    u.name,
-                                                    sp.branch,
-                                                    SUM(CASE WHEN jo.status = 'ACCEPTED' THEN 1 ELSE 0 END) > 0,
-                                                    MAX(CASE WHEN jo.status = 'ACCEPTED' THEN ja.jobOpening.company.name ELSE null END),
-                                                    COALESCE(MAX(CASE WHEN jo.status = 'ACCEPTED' THEN jo.salary ELSE null END), 0)
-                                                )
-                                                FROM JobOffer jo
-                                                JOIN jo.jobApplication ja
-                                                JOIN ja.student sp
-                                                JOIN sp.user u
-                                                GROUP BY u.id, u.name, sp.branch
-""")
-    List<StudentSummeryDto> findAllWithPlacementStatus();
+    Optional<JobOffer> findByJobApplicationId(Long jobApplicationId);
 
     @Query("""
     SELECT jo FROM JobOffer jo
@@ -63,6 +46,57 @@ public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
 """)
     List<JobOffer> findOffersByCompanyIds(@Param("companyIds") List<Long> companyIds);
 
+    @Query("SELECT jo.jobApplication.student.id FROM JobOffer jo WHERE jo.id = :id")
+    Optional<Long> findStudentIdByOfferId(@Param("id") Long id);
+
+    // Locking read (FOR SHARE): sees offers committed after the transaction's snapshot was taken,
+    // which a plain read under REPEATABLE READ would miss
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT jo.salary FROM JobOffer jo WHERE jo.jobApplication.student.id = :studentId AND jo.status IN :statuses")
+    List<BigDecimal> findSalariesByStudentAndStatusIn(@Param("studentId") Long studentId,
+                                                      @Param("statuses") Collection<OfferStatus> statuses);
+
+    String SALARY_ROW_SELECT = """
+        SELECT new com.placement.portal.backend.salaryDistribution.OfferSalaryRow(
+            jo.id, sp.id, jo.salary, c.name, sp.branch, sp.passingYear)
+        FROM JobOffer jo
+        JOIN jo.jobApplication ja
+        JOIN ja.student sp
+        JOIN ja.jobOpening jop
+        LEFT JOIN jop.company c
+        WHERE jo.salary IS NOT NULL
+        """;
+
+    @Query(SALARY_ROW_SELECT)
+    List<OfferSalaryRow> findAllSalaryRows();
+
+    @Query(SALARY_ROW_SELECT + "AND jo.id = :id")
+    Optional<OfferSalaryRow> findSalaryRowById(@Param("id") Long id);
+
+    @Query(SALARY_ROW_SELECT + "AND sp.id = :studentId")
+    List<OfferSalaryRow> findSalaryRowsByStudentId(@Param("studentId") Long studentId);
+
+    @Query(DTO_SELECT + "ORDER BY jo.id DESC")
+    List<JobOfferDto> findAllDtos();
+
+    @Query(DTO_SELECT + "WHERE jo.id = :id")
+    Optional<JobOfferDto> findDtoById(@Param("id") Long id);
+
+    @Query(DTO_SELECT + "WHERE u.email = :email ORDER BY jo.id DESC")
+    List<JobOfferDto> findDtosByStudentEmail(@Param("email") String email);
+
+    // Forward-only cursor for exports (MySQL streams rows when the fetch size is Integer.MIN_VALUE)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(DTO_SELECT + "WHERE (:allCompanies = true OR c.id IN :companyIds) ORDER BY jo.id")
+    Stream<JobOfferDto> streamDtos(@Param("allCompanies") boolean allCompanies,
+                                   @Param("companyIds") Collection<Long> companyIds);
+
+    @Query(DTO_SELECT + "WHERE c.id IN :companyIds ORDER BY jo.id DESC")
+    List<JobOfferDto> findDtosByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
+
 
 }
 
@@ -0,0 +1,138 @@
+package com.placement.portal.backend.jobOffer;
+
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import com.placement.portal.backend.util.KeyedLocks;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The only write path for offer status: a student's ACCEPTED / REJECTED response
+ * ({@link #respond}) and status edits made by HR ({@link #changeStatus}).
+ *
+ * Acceptances for one student are serialised twice: in this JVM by a lock per
+ * student id, and in the database by locking the student's profile row for the
+ * transaction (covers several app instances). Inside that, the student's
+ * accepted offers are re-read with a locking read and checked against the
+ * {@link PlacementPolicy} before the offer is updated. The locking read matters
+ * when changeStatus joins a caller's transaction: the JVM lock is released
+ * before that transaction commits, and a plain read would see the snapshot the
+ * caller's earlier reads fixed, missing an acceptance committed since. The
+ * profile row lock is held to commit, so the next acceptance waits for it and
+ * then reads the committed state. An HR edit that moves an offer into an accepted
+ * state (ACCEPTED, ONBOARDING, ONBOARDED) takes the same locks and passes the
+ * same check. Different students never share a lock, and the
+ * JobOffer @Version still rejects any write that raced past another path.
+ */
+@Service
+public class OfferAcceptanceService {
+
+    static final List<OfferStatus> ACCEPTED_STATES = List.of(OfferStatus.ACCEPTED, OfferStatus.ONBOARDING, OfferStatus.ONBOARDED);
+
+    private final JobOfferRepository jobOfferRepository;
+    private final StudentProfileRepository studentProfileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PlacementPolicy policy;
+    private final KeyedLocks<Long> studentLocks = new KeyedLocks<>();
+
+    public OfferAcceptanceService(JobOfferRepository jobOfferRepository,
+                                  StudentProfileRepository studentProfileRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${app.placement.offer-policy:SINGLE_OFFER}") PlacementPolicy.Mode mode,
+                                  @Value("${app.placement.dream-min-salary:#{null}}") BigDecimal dreamMinSalary) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.studentProfileRepository = studentProfileRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.policy = new PlacementPolicy(mode, dreamMinSalary);
+    }
+
+    /**
+     * @param studentProfileId the responding student, or null to skip the ownership check
+     * @throws OfferConflictException if the offer was already answered, the policy refuses
+     *                                the acceptance, or a concurrent update won
+     */
+    public JobOffer respond(Long offerId, OfferStatus status, Long studentProfileId) {
+        if (status != OfferStatus.ACCEPTED && status != OfferStatus.REJECTED) {
+            throw new RuntimeException("Only ACCEPTED or REJECTED allowed by student.");
+        }
+        Long ownerId = jobOfferRepository.findStudentIdByOfferId(offerId)
+                .orElseThrow(() -> new EntityNotFoundException("Offer not found"));
+        if (studentProfileId != null && !studentProfileId.equals(ownerId)) {
+            throw new RuntimeException("Not authorized to update this offer");
+        }
+
+        try {
+            if (status == OfferStatus.REJECTED) {
+                return transactionTemplate.execute(tx -> apply(offerId, status, null));
+            }
+            return studentLocks.withLock(ownerId, () -> transactionTemplate.execute(tx -> {
+                studentProfileRepository.lockById(ownerId);
+                return apply(offerId, status, ownerId);
+            }));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new OfferConflictException("Offer was updated concurrently, please retry");
+        }
+    }
+
+    /**
+     * Status set by HR on an existing offer. Joins the caller's transaction if there is one.
+     *
+     * @throws OfferConflictException if the policy refuses a move into an accepted state,
+     *                                or a concurrent update won
+     */
+    public JobOffer changeStatus(Long offerId, OfferStatus status) {
+        Long ownerId = jobOfferRepository.findStudentIdByOfferId(offerId)
+                .orElseThrow(() -> new EntityNotFoundException("Offer not found"));
+        try {
+            if (!ACCEPTED_STATES.contains(status)) {
+                return transactionTemplate.execute(tx -> set(offerId, status, null));
+            }
+            return studentLocks.withLock(ownerId, () -> transactionTemplate.execute(tx -> {
+                studentProfileRepository.lockById(ownerId);
+                return set(offerId, status, ownerId);
+            }));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new OfferConflictException("Offer was updated concurrently, please retry");
+        }
+    }
+
+    private JobOffer apply(Long offerId, OfferStatus status, Long lockedStudentId) {
+        JobOffer offer = jobOfferRepository.findById(offerId)
+                .orElseThrow(() -> new EntityNotFoundException("Offer not found"));
+        if (offer.getStatus() != OfferStatus.PENDING) {
+            throw new OfferConflictException("Offer already responded to.");
+        }
+        if (lockedStudentId != null) {
+            checkPolicy(lockedStudentId, offer);
+        }
+        offer.setStatus(status);
+        return jobOfferRepository.saveAndFlush(offer);
+    }
+
+    private JobOffer set(Long offerId, OfferStatus status, Long lockedStudentId) {
+        JobOffer offer = jobOfferRepository.findById(offerId)
+                .orElseThrow(() -> new EntityNotFoundException("Offer not found"));
+        if (offer.getStatus() == status) {
+            return offer;
+        }
+        // ACCEPTED -> ONBOARDING etc. stays within the student's accepted offers
+        if (lockedStudentId != null && !ACCEPTED_STATES.contains(offer.getStatus())) {
+            checkPolicy(lockedStudentId, offer);
+        }
+        offer.setStatus(status);
+        return jobOfferRepository.saveAndFlush(offer);
+    }
+
+    private void checkPolicy(Long lockedStudentId, JobOffer offer) {
+        List<BigDecimal> accepted = jobOfferRepository.findSalariesByStudentAndStatusIn(lockedStudentId, ACCEPTED_STATES);
+        String refusal = policy.refusal(accepted, offer.getSalary());
+        if (refusal != null) {
+            throw new OfferConflictException(refusal);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.placement.portal.backend.jobOffer;
+
+// Offer response refused because of its current state or the placement policy; mapped to 409
+public class OfferConflictException extends RuntimeException {
+    public OfferConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,37 @@
+package com.placement.portal.backend.jobOffer;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * How many offers a student may accept.
+ * SINGLE_OFFER: one accepted offer, full stop.
+ * DREAM_EXCEPTION: a placed student may still accept one "dream" offer, i.e. one
+ * with salary at or above the dream threshold, if none of their accepted offers is a dream offer yet.
+ * UNLIMITED: no restriction.
+ */
+public record PlacementPolicy(Mode mode, BigDecimal dreamMinSalary) {
+
+    public enum Mode { SINGLE_OFFER, DREAM_EXCEPTION, UNLIMITED }
+
+    /**
+     * Returns null if the student may accept an offer with {@code salary}, given the
+     * salaries of offers they have already accepted; otherwise the reason they may not.
+     */
+    public String refusal(List<BigDecimal> acceptedSalaries, BigDecimal salary) {
+        if (mode == Mode.UNLIMITED || acceptedSalaries.isEmpty()) {
+            return null;
+        }
+        if (mode == Mode.DREAM_EXCEPTION && isDream(salary) && acceptedSalaries.size() == 1
+                && !isDream(acceptedSalaries.get(0))) {
+            return null;
+        }
+        return mode == Mode.DREAM_EXCEPTION
+                ? "Already placed; only one dream offer may be accepted after placement"
+                : "Already accepted another offer";
+    }
+
+    private boolean isDream(BigDecimal salary) {
+        return dreamMinSalary != null && salary != null && salary.compareTo(dreamMinSalary) >= 0;
+    }
+}
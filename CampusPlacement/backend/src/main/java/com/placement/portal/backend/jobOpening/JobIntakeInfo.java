@@ -0,0 +1,7 @@
+package com.placement.portal.backend.jobOpening;
+
+import java.time.LocalDate;
+
+// The two fields the application intake needs to accept or refuse a submission
+public record JobIntakeInfo(JobOpeningStatus status, LocalDate applicationDeadline) {
+}
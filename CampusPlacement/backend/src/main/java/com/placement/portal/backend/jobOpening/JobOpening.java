@@ -2,7 +2,10 @@ package com.placement.portal.backend.jobOpening;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.placement.portal.backend.company.Company;
+import com.placement.portal.backend.eligibility.EligibilityChangeListener;
+import com.placement.portal.backend.eligibility.EligibilityRules;
 import com.placement.portal.backend.jobApplication.JobApplication;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,16 +17,23 @@ import java.util.List;
 @Setter
 @Entity
 @Table(name = "job_openings")
+@EntityListeners(EligibilityChangeListener.class)
 public class JobOpening {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_openings_id")
+    @TableGenerator(name = "job_openings_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "job_openings",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     private String title;
     private String description;
     private String location;
     private String eligibilityCriteria;
+
+    // Machine-checked counterpart of eligibilityCriteria
+    @Embedded
+    private EligibilityRules eligibilityRules;
     private LocalDate applicationDeadline;
 
     @Column(nullable = false)
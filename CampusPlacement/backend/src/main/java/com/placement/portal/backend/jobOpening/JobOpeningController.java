@@ -1,14 +1,12 @@
 package com.placement.portal.backend.jobOpening;
 
-import com.placement.portal.backend.auth.User;
-import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.company.Company;
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
-import com.placement.portal.backend.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
@@ -25,12 +23,6 @@ public class JobOpeningController {
     @Autowired
     private JobOpeningRepository jobOpeningRepository;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
-    @Autowired
-    private UserRepository userRepository;
-
     @Autowired
     private OfficerCompanyService officerCompanyService;
 
@@ -49,8 +41,8 @@ public class JobOpeningController {
     @PreAuthorize("hasAnyRole('ADMIN', 'COMPANY_HR')")
     @PostMapping
     public ResponseEntity<JobOpening> create(@RequestBody JobOpeningDto dto,
-                                             @RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(jobOpeningService.createJobOpening(dto, token));
+                                             @AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(jobOpeningService.createJobOpening(dto, actor));
     }
 
 
@@ -79,16 +71,12 @@ public class JobOpeningController {
 
     @GetMapping("/officer")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<JobOpening>> getJobOpeningsForOfficer(@RequestHeader("Authorization") String token) {
-        List<Company> assignedCompanies = officerCompanyService.getAssignedCompanies(token);
-        if (assignedCompanies.isEmpty()) {
+    public ResponseEntity<List<JobOpening>> getJobOpeningsForOfficer(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<Long> companyIds = officerCompanyService.getAssignedCompanyIds(actor);
+        if (companyIds.isEmpty()) {
             return ResponseEntity.ok(List.of());
         }
 
-        List<Long> companyIds = assignedCompanies.stream()
-                .map(Company::getId)
-                .toList();
-
         List<JobOpening> openings = jobOpeningService.getOpeningsForCompanies(companyIds);
         return ResponseEntity.ok(openings);
     }
@@ -96,8 +84,8 @@ public class JobOpeningController {
 
     @GetMapping("/HR")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<List<JobOpening>> getJobOpeningsForHR(@RequestHeader("Authorization") String token) {
-        List<JobOpening> dtos = jobOpeningService.getJobOpeningsForCurrentHR(token);
+    public ResponseEntity<List<JobOpening>> getJobOpeningsForHR(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<JobOpening> dtos = jobOpeningService.getJobOpeningsForCurrentHR(actor);
         return ResponseEntity.ok(dtos);
     }
 
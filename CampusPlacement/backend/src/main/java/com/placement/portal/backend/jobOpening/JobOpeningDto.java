@@ -1,5 +1,6 @@
 package com.placement.portal.backend.jobOpening;
 
+import com.placement.portal.backend.eligibility.EligibilityRules;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,6 +14,7 @@ public class JobOpeningDto {
     private String description;
     private String location;
     private String eligibilityCriteria;
+    private EligibilityRules eligibilityRules;
     private LocalDate applicationDeadline;
     private Long companyId;
     private Double salaryLPA;
@@ -25,6 +25,15 @@ public interface JobOpeningRepository extends JpaRepository<JobOpening, Long> {
 
     // For HR users to see their company's active postings
 
+    @Query("SELECT j FROM JobOpening j LEFT JOIN FETCH j.company WHERE j.status = :status")
+    List<JobOpening> findWithCompanyByStatus(@Param("status") JobOpeningStatus status);
+
+    @Query("SELECT j FROM JobOpening j LEFT JOIN FETCH j.company WHERE j.id = :id")
+    Optional<JobOpening> findWithCompanyById(@Param("id") Long id);
+
+    @Query("SELECT new com.placement.portal.backend.jobOpening.JobIntakeInfo(j.status, j.applicationDeadline) FROM JobOpening j WHERE j.id = :id")
+    Optional<JobIntakeInfo> findIntakeInfo(@Param("id") Long id);
+
 
 
 }
@@ -1,13 +1,8 @@
 package com.placement.portal.backend.jobOpening;
 
-import com.placement.portal.backend.auth.UserRepository;
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.company.Company;
 import com.placement.portal.backend.company.CompanyRepository;
-import com.placement.portal.backend.auth.User;
-
-
-import com.placement.portal.backend.placementOfficer.PlacementOfficer;
-import com.placement.portal.backend.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -23,12 +18,6 @@ public class JobOpeningService {
     @Autowired
     private CompanyRepository companyRepository;
 
-    @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private JwtUtil jwtUtil; // ✅ Replaces JwtService
-
     public List<JobOpening> getAllJobOpenings() {
         return jobOpeningRepository.findAll();
     }
@@ -37,19 +26,18 @@ public class JobOpeningService {
         return jobOpeningRepository.findById(id);
     }
 
-    public JobOpening createJobOpening(JobOpeningDto dto, String token) {
-        User user = getAuthenticatedUser(token);
-
-        Company company = user.getCompany(); // ✅ safer and direct
-        if (company == null) {
-            throw new RuntimeException("Company not linked to HR user: " + user.getId());
+    public JobOpening createJobOpening(JobOpeningDto dto, AuthenticatedActor actor) {
+        if (actor.getCompanyId() == null) {
+            throw new RuntimeException("Company not linked to HR user: " + actor.getUserId());
         }
+        Company company = companyRepository.getReferenceById(actor.getCompanyId());
 
         JobOpening job = new JobOpening();
         job.setTitle(dto.getTitle());
         job.setDescription(dto.getDescription());
         job.setLocation(dto.getLocation());
         job.setEligibilityCriteria(dto.getEligibilityCriteria());
+        job.setEligibilityRules(dto.getEligibilityRules());
         job.setApplicationDeadline(dto.getApplicationDeadline());
         job.setSalaryLPA(dto.getSalaryLPA());
         job.setCompany(company);
@@ -71,6 +59,11 @@ public class JobOpeningService {
             job.setSalaryLPA(dto.getSalaryLPA());
             job.setStatus(JobOpeningStatus.valueOf(dto.getStatus().toUpperCase()));
 
+            // Older edit forms don't send the structured rules; keep the existing ones then
+            if (dto.getEligibilityRules() != null) {
+                job.setEligibilityRules(dto.getEligibilityRules());
+            }
+
             // ✅ Update company if provided
             if (dto.getCompanyId() != null) {
                 Company company = companyRepository.findById(dto.getCompanyId())
@@ -82,13 +75,6 @@ public class JobOpeningService {
         }).orElse(null);
     }
 
-    private User getAuthenticatedUser(String token) {
-        String jwt = token.substring(7);
-        String email = jwtUtil.extractEmail(jwt);
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found for email: " + email));
-    }
-
     public List<JobOpening> getOpeningsForCompanies(List<Long> companyIds) {
         return jobOpeningRepository.findByCompanyIdIn(companyIds);
     }
@@ -96,16 +82,12 @@ public class JobOpeningService {
 
 
     // ✅ Company HR can only see their own job openings
-    public List<JobOpening> getJobOpeningsForCurrentHR(String token) {
-        String jwt = token.substring(7); // Remove "Bearer "
-        String email = jwtUtil.extractEmail(jwt); // ✅ Use extractEmail
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Company company = companyRepository.findByCompanyHRs_Id(user.getId())
-                .orElseThrow(() -> new RuntimeException("Company not found"));
+    public List<JobOpening> getJobOpeningsForCurrentHR(AuthenticatedActor actor) {
+        if (actor.getCompanyId() == null) {
+            throw new RuntimeException("Company not found");
+        }
 
-        return jobOpeningRepository.findByCompanyId(company.getId());
+        return jobOpeningRepository.findByCompanyId(actor.getCompanyId());
     }
 
     public void deleteJobOpening(Long id) {
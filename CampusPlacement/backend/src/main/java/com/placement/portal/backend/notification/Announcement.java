@@ -0,0 +1,41 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.util.IdSequenceAllocator;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * An audience-wide notification, stored once instead of once per recipient.
+ * Recipients are resolved when a user reads their notifications; who has read
+ * or dismissed it is kept in announcement_reads ({@link AnnouncementReadRepository}).
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "announcements")
+public class Announcement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "announcements_id")
+    @TableGenerator(name = "announcements_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "announcements",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
+    private Long id;
+
+    private String title;
+
+    @Column(length = 1000)
+    private String message;
+
+    @Embedded
+    private NotificationAudience audience;
+
+    @ManyToOne
+    @JoinColumn(name = "sender_id")
+    private User sender;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -0,0 +1,59 @@
+package com.placement.portal.backend.notification;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC over announcement_reads (see db/announcement-reads.sql). Each mark is
+ * an insert of the user's own row, so readers of one announcement never contend.
+ */
+@Repository
+public class AnnouncementReadRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnnouncementReadRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns false when the user had already read it
+    boolean markRead(long announcementId, long userId) {
+        return jdbcTemplate.update("""
+                INSERT IGNORE INTO announcement_reads (announcement_id, user_id, read_at, dismissed)
+                VALUES (?, ?, ?, FALSE)""", announcementId, userId, Timestamp.valueOf(LocalDateTime.now())) > 0;
+    }
+
+    // One batch for read-all; rows that already exist are left alone
+    void markAllRead(Collection<Long> announcementIds, long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = announcementIds.stream().map(id -> new Object[]{id, userId, now}).toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT IGNORE INTO announcement_reads (announcement_id, user_id, read_at, dismissed)
+                VALUES (?, ?, ?, FALSE)""", rows);
+    }
+
+    // Dismissing also counts as read
+    void dismiss(long announcementId, long userId) {
+        jdbcTemplate.update("""
+                INSERT INTO announcement_reads (announcement_id, user_id, read_at, dismissed)
+                VALUES (?, ?, ?, TRUE)
+                ON DUPLICATE KEY UPDATE dismissed = TRUE""", announcementId, userId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /** Announcement id -> dismissed, for every announcement the user has read. */
+    Map<Long, Boolean> findByUser(long userId) {
+        Map<Long, Boolean> reads = new HashMap<>();
+        jdbcTemplate.query("SELECT announcement_id, dismissed FROM announcement_reads WHERE user_id = ?",
+                rs -> {
+                    reads.put(rs.getLong(1), rs.getBoolean(2));
+                }, userId);
+        return reads;
+    }
+}
@@ -0,0 +1,32 @@
+package com.placement.portal.backend.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
+
+    // Same criteria as UserRepository.findIdsByAudience, evaluated for one user
+    String VISIBLE_TO_USER = """
+        FROM Announcement a, User u
+        LEFT JOIN StudentProfile sp ON sp.user = u
+        WHERE u.id = :userId
+          AND (a.audience.role IS NULL OR a.audience.role MEMBER OF u.roles)
+          AND (a.audience.branch IS NULL OR a.audience.branch = sp.branch)
+          AND (a.audience.passingYear IS NULL OR a.audience.passingYear = sp.passingYear)
+          AND (a.audience.companyId IS NULL OR a.audience.companyId = u.company.id)
+        """;
+
+    @Query("SELECT a " + VISIBLE_TO_USER + " ORDER BY a.createdAt")
+    List<Announcement> findVisibleTo(@Param("userId") Long userId);
+
+    @Query("SELECT a.id " + VISIBLE_TO_USER)
+    List<Long> findVisibleIdsTo(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(a) " + VISIBLE_TO_USER + " AND a.id = :id")
+    long countVisible(@Param("id") Long id, @Param("userId") Long userId);
+}
@@ -0,0 +1,163 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.auth.UserRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fan-out on read: an announcement is one row whatever the audience size, and
+ * shows up in a user's notification list as a {@link Notification} view whose
+ * announcementId is set and whose readStatus comes from announcement_reads.
+ * A view's id is the negated announcement id, so the usual
+ * PUT /api/notifications/{id}/read and DELETE /api/notifications/{id} calls
+ * mark it read or dismiss it for that user.
+ *
+ * Unread announcements count towards the user's unread badge, are marked by
+ * read-all, and are listed in the keyset inbox alongside notification rows.
+ */
+@Service
+public class AnnouncementService {
+
+    private final AnnouncementRepository announcementRepository;
+    private final AnnouncementReadRepository announcementReadRepository;
+    private final UserRepository userRepository;
+    private final NotificationStreamService notificationStreamService;
+
+    public AnnouncementService(AnnouncementRepository announcementRepository,
+                               AnnouncementReadRepository announcementReadRepository,
+                               UserRepository userRepository,
+                               NotificationStreamService notificationStreamService) {
+        this.announcementRepository = announcementRepository;
+        this.announcementReadRepository = announcementReadRepository;
+        this.userRepository = userRepository;
+        this.notificationStreamService = notificationStreamService;
+    }
+
+    /** The announcement behind a notification view id, or null for an ordinary notification id. */
+    public static Long announcementIdOf(Long notificationId) {
+        return notificationId != null && notificationId < 0 ? -notificationId : null;
+    }
+
+    public Announcement create(BroadcastRequest request, AuthenticatedActor actor) {
+        request.getAudience().restrictTo(actor);
+        User sender = userRepository.findById(actor.getUserId())
+                .orElseThrow(() -> new RuntimeException("Sender not found"));
+
+        Announcement announcement = new Announcement();
+        announcement.setTitle(request.getTitle());
+        announcement.setMessage(request.getMessage());
+        announcement.setAudience(request.getAudience());
+        announcement.setSender(sender);
+        Announcement saved = announcementRepository.save(announcement);
+        push(saved);
+        return saved;
+    }
+
+    // Only users with an open stream need to know now; everyone else sees it on their next read
+    private void push(Announcement announcement) {
+        Collection<Long> connected = notificationStreamService.getConnectedUserIds();
+        if (connected.isEmpty()) {
+            return;
+        }
+        NotificationAudience audience = announcement.getAudience();
+        Set<Long> recipients = new HashSet<>(userRepository.findIdsByAudience(audience.getRole(), audience.getBranch(),
+                audience.getPassingYear(), audience.getCompanyId()));
+        NotificationEvent event = NotificationEvent.of(announcement);
+        connected.stream().filter(recipients::contains)
+                .forEach(userId -> notificationStreamService.publish(userId, event));
+    }
+
+    public List<Notification> getViewsFor(Long userId) {
+        List<Announcement> announcements = announcementRepository.findVisibleTo(userId);
+        if (announcements.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Boolean> reads = announcementReadRepository.findByUser(userId);
+        List<Announcement> shown = announcements.stream()
+                .filter(a -> !reads.getOrDefault(a.getId(), false))
+                .toList();
+        if (shown.isEmpty()) {
+            return List.of();
+        }
+        User recipient = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        return shown.stream().map(a -> view(a, recipient, reads.containsKey(a.getId()))).toList();
+    }
+
+    // Visible announcements the user has neither read nor dismissed
+    public long countUnread(Long userId) {
+        return unreadIds(userId).size();
+    }
+
+    /** Marks every visible announcement read for the user; returns how many were unread. */
+    public int markAllAsRead(Long userId) {
+        List<Long> unread = unreadIds(userId);
+        if (!unread.isEmpty()) {
+            announcementReadRepository.markAllRead(unread, userId);
+        }
+        return unread.size();
+    }
+
+    /** Inbox rows for the announcements still shown to the user, ids negated as for views. */
+    public List<NotificationInboxItem> getInboxItemsFor(Long userId) {
+        List<Announcement> announcements = announcementRepository.findVisibleTo(userId);
+        if (announcements.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Boolean> reads = announcementReadRepository.findByUser(userId);
+        return announcements.stream()
+                .filter(a -> !reads.getOrDefault(a.getId(), false))
+                .map(a -> new NotificationInboxItem(-a.getId(), a.getTitle(), a.getMessage(), reads.containsKey(a.getId()),
+                        a.getSender() != null ? a.getSender().getName() : null, a.getCreatedAt()))
+                .toList();
+    }
+
+    private List<Long> unreadIds(Long userId) {
+        List<Long> visible = announcementRepository.findVisibleIdsTo(userId);
+        if (visible.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> read = announcementReadRepository.findByUser(userId).keySet();
+        return visible.stream().filter(id -> !read.contains(id)).toList();
+    }
+
+    public Notification markAsRead(Long announcementId, Long userId) {
+        Announcement announcement = requireVisible(announcementId, userId);
+        announcementReadRepository.markRead(announcementId, userId);
+        User recipient = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        return view(announcement, recipient, true);
+    }
+
+    // Hides the announcement from this user's list only
+    public void dismiss(Long announcementId, Long userId) {
+        requireVisible(announcementId, userId);
+        announcementReadRepository.dismiss(announcementId, userId);
+    }
+
+    private Announcement requireVisible(Long announcementId, Long userId) {
+        if (userId == null || announcementRepository.countVisible(announcementId, userId) == 0) {
+            throw new RuntimeException("Announcement not found with id: " + announcementId);
+        }
+        return announcementRepository.findById(announcementId)
+                .orElseThrow(() -> new RuntimeException("Announcement not found with id: " + announcementId));
+    }
+
+    // Never persisted; the negative id keeps views apart from notification rows and from each other
+    private static Notification view(Announcement announcement, User recipient, boolean read) {
+        Notification notification = new Notification(recipient, announcement.getTitle(), announcement.getMessage());
+        notification.setId(-announcement.getId());
+        notification.setAnnouncementId(announcement.getId());
+        notification.setSender(announcement.getSender());
+        notification.setCreatedAt(announcement.getCreatedAt());
+        notification.setReadStatus(read);
+        return notification;
+    }
+}
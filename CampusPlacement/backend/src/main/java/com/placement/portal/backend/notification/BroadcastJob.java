@@ -0,0 +1,81 @@
+package com.placement.portal.backend.notification;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one broadcast, polled through GET /api/notifications/broadcast/{id}.
+ * Counters are updated by the broadcast thread and read by request threads.
+ * Only the sender and admins can see a job.
+ */
+@Getter
+public class BroadcastJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final String title;
+    @JsonIgnore
+    private final Long senderId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile Status status = Status.QUEUED;
+    private volatile String failureReason;
+    private volatile int recipients;
+
+    private final AtomicInteger delivered = new AtomicInteger();
+
+    public BroadcastJob(String id, String title, Long senderId) {
+        this.id = id;
+        this.title = title;
+        this.senderId = senderId;
+    }
+
+    public int getDelivered() {
+        return delivered.get();
+    }
+
+    public int getPercentComplete() {
+        return recipients == 0 ? (isFinished() ? 100 : 0) : (int) (100L * delivered.get() / recipients);
+    }
+
+    // Rows written per second since the worker picked the job up
+    public long getRowsPerSecond() {
+        LocalDateTime from = startedAt;
+        if (from == null) {
+            return 0;
+        }
+        long ms = Duration.between(from, finishedAt != null ? finishedAt : LocalDateTime.now()).toMillis();
+        return ms == 0 ? delivered.get() : delivered.get() * 1000L / ms;
+    }
+
+    void start(int recipients) {
+        this.recipients = recipients;
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void delivered(int count) {
+        delivered.addAndGet(count);
+    }
+
+    void complete() {
+        status = Status.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void fail(String reason) {
+        failureReason = reason;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,22 @@
+package com.placement.portal.backend.notification;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BroadcastRequest {
+
+    @NotBlank(message = "Title is required")
+    private String title;
+
+    @NotBlank(message = "Message is required")
+    private String message;
+
+    @NotNull(message = "Audience is required")
+    @Valid
+    private NotificationAudience audience;
+}
@@ -1,6 +1,7 @@
 package com.placement.portal.backend.notification;
 
 import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,11 +11,20 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_read_created", columnList = "user_id, read_status, created_at, id"),
+        // Newest-first walk for the HR company feed, probing users by primary key
+        @Index(name = "idx_notifications_created_id", columnList = "created_at, id"),
+        // Stream replay after a reconnect
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at, id")
+})
+@EntityListeners(NotificationPushListener.class)
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications_id")
+    @TableGenerator(name = "notifications_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "notifications",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     // The user who receives the notification
@@ -35,6 +45,10 @@ public class Notification {
     @JoinColumn(name = "sender_id")
     private User sender;
 
+    // Set only on views of an Announcement merged into a user's list
+    @Transient
+    private Long announcementId;
+
     // Constructors
     public Notification() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,53 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.Role;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Who an audience-wide notification goes to. Every criterion that is set must
+ * match (AND); students match branch / passing year through their profile.
+ */
+@Getter
+@Setter
+@Embeddable
+public class NotificationAudience {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "audience_role")
+    private Role role;
+
+    @Column(name = "audience_branch")
+    private String branch;
+
+    @Column(name = "audience_passing_year")
+    private Integer passingYear;
+
+    @Column(name = "audience_company_id")
+    private Long companyId;
+
+    public boolean isEmpty() {
+        return role == null && (branch == null || branch.isBlank()) && passingYear == null && companyId == null;
+    }
+
+    // HR can only reach their own company; blank branch means "any branch"
+    void restrictTo(AuthenticatedActor sender) {
+        if (sender.hasRole(Role.COMPANY_HR) && !sender.hasRole(Role.ADMIN)) {
+            if (sender.getCompanyId() == null) {
+                throw new RuntimeException("HR user is not linked to a company");
+            }
+            companyId = sender.getCompanyId();
+        }
+        if (branch != null && branch.isBlank()) {
+            branch = null;
+        }
+        if (isEmpty()) {
+            throw new IllegalArgumentException("Audience needs at least one of role, branch, passingYear, companyId");
+        }
+    }
+}
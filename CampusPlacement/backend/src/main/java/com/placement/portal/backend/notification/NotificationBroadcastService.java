@@ -0,0 +1,160 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.Role;
+import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.auth.UserRepository;
+import com.placement.portal.backend.util.IdSequenceAllocator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends one notification to a whole audience. The request returns at once with
+ * a job; a single worker thread resolves the recipients with one id query and
+ * writes the rows with JDBC batch inserts, one transaction per batch, so a
+ * broadcast to thousands of users is a handful of round trips instead of one
+ * HTTP call, lookup and insert per user. Progress and rows/second are on the job.
+ */
+@Service
+public class NotificationBroadcastService {
+
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSequenceAllocator idSequenceAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final int batchSize;
+
+    // One broadcast at a time; further requests wait in QUEUED
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("notification-broadcast-"));
+    private final Map<String, BroadcastJob> jobs = new ConcurrentHashMap<>();
+    private final Deque<String> jobOrder = new ConcurrentLinkedDeque<>();
+
+    public NotificationBroadcastService(UserRepository userRepository,
+                                        JdbcTemplate jdbcTemplate,
+                                        IdSequenceAllocator idSequenceAllocator,
+                                        TransactionTemplate transactionTemplate,
+                                        NotificationStreamService notificationStreamService,
+                                        NotificationUnreadCounter unreadCounter,
+                                        @Value("${app.notifications.broadcast.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSequenceAllocator = idSequenceAllocator;
+        this.transactionTemplate = transactionTemplate;
+        this.notificationStreamService = notificationStreamService;
+        this.unreadCounter = unreadCounter;
+        this.batchSize = batchSize;
+    }
+
+    public BroadcastJob submit(BroadcastRequest request, AuthenticatedActor sender) {
+        request.getAudience().restrictTo(sender);
+
+        BroadcastJob job = new BroadcastJob(UUID.randomUUID().toString(), request.getTitle(), sender.getUserId());
+        jobs.put(job.getId(), job);
+        jobOrder.addLast(job.getId());
+        pruneFinishedJobs();
+
+        runner.execute(() -> run(job, request, sender.getUserId()));
+        return job;
+    }
+
+    // Someone else's job is reported as missing
+    public Optional<BroadcastJob> getJob(String jobId, AuthenticatedActor actor) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> actor.hasRole(Role.ADMIN) || Objects.equals(job.getSenderId(), actor.getUserId()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void run(BroadcastJob job, BroadcastRequest request, Long senderId) {
+        try {
+            List<Long> recipients = resolve(request.getAudience());
+            job.start(recipients.size());
+            String senderName = senderId == null ? null : userRepository.findById(senderId).map(User::getName).orElse(null);
+            for (int from = 0; from < recipients.size(); from += batchSize) {
+                List<Long> batch = recipients.subList(from, Math.min(from + batchSize, recipients.size()));
+                // stamped per batch so created_at stays close to the commit that streams resume by
+                LocalDateTime now = LocalDateTime.now();
+                long firstId = transactionTemplate.execute(status -> insert(batch, request, senderId, Timestamp.valueOf(now)));
+                job.delivered(batch.size());
+                push(batch, firstId, request, senderName, now);
+            }
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+        }
+    }
+
+    List<Long> resolve(NotificationAudience audience) {
+        return userRepository.findIdsByAudience(audience.getRole(), audience.getBranch(),
+                audience.getPassingYear(), audience.getCompanyId());
+    }
+
+    // Rows were written with JDBC, so the entity listener never saw them
+    private void push(List<Long> userIds, long firstId, BroadcastRequest request, String senderName, LocalDateTime createdAt) {
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            unreadCounter.add(userId, 1);
+            if (notificationStreamService.isConnected(userId)) {
+                notificationStreamService.publish(userId, new NotificationEvent(
+                        firstId + i, request.getTitle(), request.getMessage(), senderName, createdAt));
+            }
+        }
+    }
+
+    private long insert(List<Long> userIds, BroadcastRequest request, Long senderId, Timestamp createdAt) {
+        // Ids come from the same pooled sequence Hibernate uses, reserved once per batch
+        long firstId = idSequenceAllocator.reserve("notifications", userIds.size());
+        int[] index = {0};
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notifications (id, user_id, title, message, read_status, created_at, sender_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                userIds, userIds.size(), (ps, userId) -> {
+                    ps.setLong(1, firstId + index[0]++);
+                    ps.setLong(2, userId);
+                    ps.setString(3, request.getTitle());
+                    ps.setString(4, request.getMessage());
+                    ps.setBoolean(5, false);
+                    ps.setTimestamp(6, createdAt);
+                    ps.setObject(7, senderId, Types.BIGINT);
+                });
+        return firstId;
+    }
+
+    private void pruneFinishedJobs() {
+        Iterator<String> it = jobOrder.iterator();
+        while (jobOrder.size() > MAX_RETAINED_JOBS && it.hasNext()) {
+            String id = it.next();
+            BroadcastJob old = jobs.get(id);
+            if (old == null || old.isFinished()) {
+                it.remove();
+                jobs.remove(id);
+            }
+        }
+    }
+}
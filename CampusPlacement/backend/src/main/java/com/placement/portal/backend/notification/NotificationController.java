@@ -1,17 +1,21 @@
 package com.placement.portal.backend.notification;
 
 import com.placement.portal.backend.auth.*;
-import com.placement.portal.backend.util.JwtUtil;
-import io.jsonwebtoken.JwtException;
+import com.placement.portal.backend.util.CursorPage;
+import com.placement.portal.backend.util.KeysetCursor;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -20,18 +24,24 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
     @Autowired
-    JwtUtil jwtUtil;
+    private NotificationBroadcastService notificationBroadcastService;
+    @Autowired
+    private AnnouncementService announcementService;
+    @Autowired
+    private NotificationStreamService notificationStreamService;
     @Autowired
     UserRepository userRepository;
     // Create a notification
     @PostMapping
     @PreAuthorize("hasAnyRole('COMPANY_HR', 'PLACEMENT_OFFICER')")
     public ResponseEntity<?> createNotification(
-            @RequestHeader("Authorization") String token,
+            @AuthenticationPrincipal AuthenticatedActor actor,
             @Valid @RequestBody NotificationDto dto) {
         try {
-            String email = jwtUtil.extractEmail(token.substring(7));
-            User sender = userRepository.findByEmail(email)
+            if (actor.getUserId() == null) {
+                throw new RuntimeException("Sender not found");
+            }
+            User sender = userRepository.findById(actor.getUserId())
                     .orElseThrow(() -> new RuntimeException("Sender not found"));
 
             Notification saved = notificationService.createNotification(dto, sender);
@@ -42,6 +52,94 @@ public class NotificationController {
     }
 
 
+    // Audience-wide notification, written in the background; poll the returned job for progress
+    @PostMapping("/broadcast")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER', 'COMPANY_HR')")
+    public ResponseEntity<?> broadcast(@AuthenticationPrincipal AuthenticatedActor actor,
+                                       @Valid @RequestBody BroadcastRequest request) {
+        try {
+            return ResponseEntity.accepted().body(notificationBroadcastService.submit(request, actor));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/broadcast/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER', 'COMPANY_HR')")
+    public ResponseEntity<BroadcastJob> getBroadcast(@PathVariable String jobId,
+                                                     @AuthenticationPrincipal AuthenticatedActor actor) {
+        return notificationBroadcastService.getJob(jobId, actor)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Audience-wide notification stored once; recipients see it in /user/{userId}
+    @PostMapping("/announcements")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER', 'COMPANY_HR')")
+    public ResponseEntity<?> createAnnouncement(@AuthenticationPrincipal AuthenticatedActor actor,
+                                                @Valid @RequestBody BroadcastRequest request) {
+        try {
+            return ResponseEntity.ok(announcementService.create(request, actor));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/announcements/{id}/read")
+    public ResponseEntity<?> markAnnouncementAsRead(@AuthenticationPrincipal AuthenticatedActor actor,
+                                                    @PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(announcementService.markAsRead(id, actor.getUserId()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Live feed of the caller's new notifications; send Last-Event-ID to resume after a reconnect
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@AuthenticationPrincipal AuthenticatedActor actor,
+                                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (actor.getUserId() == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        KeysetCursor resumeAfter = null;
+        try {
+            resumeAfter = KeysetCursor.decode(lastEventId);
+        } catch (IllegalArgumentException e) {
+            // not one of ours (or from before event ids were cursors): start without a replay
+        }
+        try {
+            return ResponseEntity.ok(notificationStreamService.connect(actor.getUserId(), resumeAfter));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    // Badge count for the caller, served from memory
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(Map.of("unread", notificationService.getUnreadCount(actor.getUserId())));
+    }
+
+    // Paged inbox for the caller; pass back nextCursor to get the next page
+    @GetMapping("/inbox")
+    public ResponseEntity<CursorPage<NotificationInboxItem>> getInbox(
+            @AuthenticationPrincipal AuthenticatedActor actor,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(notificationService.getInbox(actor.getUserId(), unreadOnly, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PutMapping("/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllAsRead(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(Map.of("updated", notificationService.markAllAsRead(actor.getUserId())));
+    }
+
     // Get notifications by user ID
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Notification>> getNotificationsByUser(@PathVariable Long userId) {
@@ -55,10 +153,15 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
-    // Mark a notification as read
+    // Mark a notification as read; negative ids are announcement views from /user/{userId}
     @PutMapping("/{id}/read")
-    public ResponseEntity<?> markNotificationAsRead(@PathVariable Long id) {
+    public ResponseEntity<?> markNotificationAsRead(@PathVariable Long id,
+                                                    @AuthenticationPrincipal AuthenticatedActor actor) {
         try {
+            Long announcementId = AnnouncementService.announcementIdOf(id);
+            if (announcementId != null) {
+                return ResponseEntity.ok(announcementService.markAsRead(announcementId, actor.getUserId()));
+            }
             Notification updatedNotification = notificationService.markAsRead(id);
             return ResponseEntity.ok(updatedNotification);
         } catch (Exception e) {
@@ -78,9 +181,16 @@ public class NotificationController {
         }
     }
 
+    // Deleting an announcement view dismisses it for the caller only
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteNotification(@PathVariable Long id) {
+    public ResponseEntity<?> deleteNotification(@PathVariable Long id,
+                                                @AuthenticationPrincipal AuthenticatedActor actor) {
         try {
+            Long announcementId = AnnouncementService.announcementIdOf(id);
+            if (announcementId != null) {
+                announcementService.dismiss(announcementId, actor.getUserId());
+                return ResponseEntity.ok("Notification deleted successfully");
+            }
             notificationService.deleteNotification(id);
             return ResponseEntity.ok("Notification deleted successfully");
         } catch (Exception e) {
@@ -91,15 +201,28 @@ public class NotificationController {
 
     @GetMapping("/hr")
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<List<NotificationDto>> getNotificationsForHr(@RequestHeader("Authorization") String token) {
-        List<NotificationDto> notifications = notificationService.getNotificationsForHr(token);
+    public ResponseEntity<List<NotificationDto>> getNotificationsForHr(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<NotificationDto> notifications = notificationService.getNotificationsForHr(actor);
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/hr/page")
+    @PreAuthorize("hasRole('COMPANY_HR')")
+    public ResponseEntity<CursorPage<NotificationDto>> getNotificationsPageForHr(
+            @AuthenticationPrincipal AuthenticatedActor actor,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(notificationService.getNotificationsPageForHr(actor, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/officer")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<NotificationDto>> getNotificationsForOfficer(@RequestHeader("Authorization") String token) {
-        List<NotificationDto> notifications = notificationService.getNotificationsForOfficer(token);
+    public ResponseEntity<List<NotificationDto>> getNotificationsForOfficer(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<NotificationDto> notifications = notificationService.getNotificationsForOfficer(actor);
         return ResponseEntity.ok(notifications);
     }
 
@@ -124,43 +247,28 @@ public class NotificationController {
     @GetMapping("/company-students")
     @PreAuthorize("hasAnyRole('ROLE_COMPANY_HR','ROLE_PLACEMENT_OFFICER')")
     public ResponseEntity<List<UserDto>> getStudentsUnderHrCompany(
-            @RequestHeader("Authorization") String token) {
+            @AuthenticationPrincipal AuthenticatedActor actor) {
 
-        // Validate token
-        if (token == null || !token.startsWith("Bearer ")) {
-            throw new BadCredentialsException("Invalid token format");
+        // Validate company association
+        if (actor.getCompanyId() == null) {
+            throw new IllegalStateException("HR is not associated with any company");
         }
 
-        try {
-            // Extract HR details
-            String email = jwtUtil.extractEmail(token.substring(7));
-            User hr = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new UsernameNotFoundException("HR not found"));
-
-            // Validate company association
-            if (hr.getCompany() == null) {
-                throw new IllegalStateException("HR is not associated with any company");
-            }
-
-            Long companyId = hr.getCompany().getId();
+        Long companyId = actor.getCompanyId();
 
-            // Get students
-            List<User> users = userRepository.findByCompanyIdAndRole(companyId, Role.STUDENT);
+        // Get students
+        List<User> users = userRepository.findByCompanyIdAndRole(companyId, Role.STUDENT);
 
-            // Convert to DTO
-            List<UserDto> dtos = users.stream()
-                    .map(u -> new UserDto(
-                            u.getId(),
-                            u.getName(),
-                            u.getEmail(),
-                            u.getCompany() != null ? u.getCompany().getId() : null))
-                    .toList();
-
-            return ResponseEntity.ok(dtos);
+        // Convert to DTO
+        List<UserDto> dtos = users.stream()
+                .map(u -> new UserDto(
+                        u.getId(),
+                        u.getName(),
+                        u.getEmail(),
+                        u.getCompany() != null ? u.getCompany().getId() : null))
+                .toList();
 
-        } catch (JwtException e) {
-            throw new BadCredentialsException("Invalid token");
-        }
+        return ResponseEntity.ok(dtos);
     }
 
 }
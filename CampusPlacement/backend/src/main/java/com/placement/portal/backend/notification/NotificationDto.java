@@ -4,10 +4,14 @@ import com.placement.portal.backend.auth.User;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
+@NoArgsConstructor
 public class NotificationDto {
 
     private Long id;
@@ -24,6 +28,21 @@ public class NotificationDto {
     private Boolean readStatus;
     private Long companyId;
     private String senderName;
+    private LocalDateTime createdAt;
+
+    // JPQL constructor expression for the HR feed
+    public NotificationDto(Long id, Long userId, String userName, String title, String message,
+                           boolean readStatus, Long companyId, String senderName, LocalDateTime createdAt) {
+        this.id = id;
+        this.userId = userId;
+        this.userName = userName;
+        this.title = title;
+        this.message = message;
+        this.readStatus = readStatus;
+        this.companyId = companyId;
+        this.senderName = senderName;
+        this.createdAt = createdAt;
+    }
 
     // Getters and setters
     public static NotificationDto fromEntity(Notification notification) {
@@ -36,6 +55,7 @@ public class NotificationDto {
         dto.setTitle(notification.getTitle());
         dto.setMessage(notification.getMessage());
         dto.setReadStatus(notification.isReadStatus());
+        dto.setCreatedAt(notification.getCreatedAt());
         dto.setCompanyId(user.getCompany() != null ? user.getCompany().getId() : null);
 
         if (notification.getSender() != null) {
@@ -0,0 +1,28 @@
+package com.placement.portal.backend.notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * What the notification stream sends for each new notification. Personal rows
+ * carry their id (also the SSE event id); announcements carry announcementId.
+ */
+public record NotificationEvent(Long id, Long announcementId, String title, String message,
+                                String senderName, LocalDateTime createdAt) {
+
+    // JPQL constructor expression for personal rows
+    public NotificationEvent(Long id, String title, String message, String senderName, LocalDateTime createdAt) {
+        this(id, null, title, message, senderName, createdAt);
+    }
+
+    static NotificationEvent of(Notification notification) {
+        return new NotificationEvent(notification.getId(), notification.getTitle(), notification.getMessage(),
+                notification.getSender() != null ? notification.getSender().getName() : null,
+                notification.getCreatedAt());
+    }
+
+    static NotificationEvent of(Announcement announcement) {
+        return new NotificationEvent(null, announcement.getId(), announcement.getTitle(), announcement.getMessage(),
+                announcement.getSender() != null ? announcement.getSender().getName() : null,
+                announcement.getCreatedAt());
+    }
+}
@@ -0,0 +1,8 @@
+package com.placement.portal.backend.notification;
+
+import java.time.LocalDateTime;
+
+// Row of GET /api/notifications/inbox, projected straight from the query (no user/sender entities)
+public record NotificationInboxItem(Long id, String title, String message, boolean readStatus,
+                                    String senderName, LocalDateTime createdAt) {
+}
@@ -0,0 +1,40 @@
+package com.placement.portal.backend.notification;
+
+import jakarta.persistence.PostPersist;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener pushing each new Notification to its recipient's open
+ * streams once the inserting transaction has committed.
+ */
+@Component
+public class NotificationPushListener {
+
+    private final NotificationStreamService notificationStreamService;
+
+    public NotificationPushListener(@Lazy NotificationStreamService notificationStreamService) {
+        this.notificationStreamService = notificationStreamService;
+    }
+
+    @PostPersist
+    public void onCreate(Notification notification) {
+        Long userId = notification.getUser().getId();
+        if (!notificationStreamService.isConnected(userId)) {
+            return;
+        }
+        NotificationEvent event = NotificationEvent.of(notification);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationStreamService.publish(userId, event);
+                }
+            });
+        } else {
+            notificationStreamService.publish(userId, event);
+        }
+    }
+}
@@ -1,13 +1,79 @@
 package com.placement.portal.backend.notification;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserId(Long userId);
-    List<Notification> findByUserIdIn(List<Long> userIds);
+
+    /**
+     * Notifications of every user in a company, newest first, in one statement:
+     * the company filter is a join, and the DTO is projected without loading
+     * User or Notification entities. Null cursor = first page; limit = page size + 1.
+     */
+    @Query("""
+        SELECT new com.placement.portal.backend.notification.NotificationDto(
+            n.id, u.id, u.name, n.title, n.message, n.readStatus, c.id, s.name, n.createdAt)
+        FROM Notification n
+        JOIN n.user u
+        JOIN u.company c
+        LEFT JOIN n.sender s
+        WHERE c.id = :companyId
+          AND (:cursorAt IS NULL OR n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.id < :cursorId))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationDto> findCompanyFeed(@Param("companyId") Long companyId,
+                                          @Param("cursorAt") LocalDateTime cursorAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Limit limit);
+
+    long countByUserIdAndReadStatusFalse(Long userId);
+
+    /**
+     * Keyset page of one user's inbox ordered by createdAt DESC, id DESC, served
+     * by idx_notifications_user_read_created. Pass limit = page size + 1.
+     */
+    @Query("""
+        SELECT new com.placement.portal.backend.notification.NotificationInboxItem(
+            n.id, n.title, n.message, n.readStatus, s.name, n.createdAt)
+        FROM Notification n LEFT JOIN n.sender s
+        WHERE n.user.id = :userId
+          AND (:unreadOnly = false OR n.readStatus = false)
+          AND (:cursorAt IS NULL OR n.createdAt < :cursorAt OR (n.createdAt = :cursorAt AND n.id < :cursorId))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationInboxItem> findInboxPage(@Param("userId") Long userId,
+                                              @Param("unreadOnly") boolean unreadOnly,
+                                              @Param("cursorAt") LocalDateTime cursorAt,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.readStatus = true WHERE n.user.id = :userId AND n.readStatus = false")
+    int markAllReadByUserId(@Param("userId") Long userId);
+
+    // Stream resumption: a user's notifications from a point shortly before their Last-Event-ID,
+    // in (createdAt, id) order (idx_notifications_user_created)
+    @Query("""
+        SELECT new com.placement.portal.backend.notification.NotificationEvent(
+            n.id, n.title, n.message, s.name, n.createdAt)
+        FROM Notification n LEFT JOIN n.sender s
+        WHERE n.user.id = :userId AND n.createdAt >= :from
+        ORDER BY n.createdAt, n.id
+    """)
+    List<NotificationEvent> findEventsSince(@Param("userId") Long userId,
+                                            @Param("from") LocalDateTime from,
+                                            Pageable pageable);
 
 }
@@ -1,13 +1,19 @@
 package com.placement.portal.backend.notification;
 
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.auth.User;
 import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.util.JwtUtil;
+import com.placement.portal.backend.util.CursorPage;
+import com.placement.portal.backend.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,7 +27,12 @@ public class NotificationService {
     private UserRepository userRepository;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private AnnouncementService announcementService;
+
+    @Autowired
+    private NotificationUnreadCounter unreadCounter;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     // Create notification
     public Notification createNotification(NotificationDto dto,User sender) throws Exception {
@@ -37,7 +48,11 @@ public class NotificationService {
         notification.setSender(sender);
         notification.setReadStatus(dto.getReadStatus() != null ? dto.getReadStatus() : false);
 
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        if (!saved.isReadStatus()) {
+            unreadCounter.add(saved.getUser().getId(), 1);
+        }
+        return saved;
     }
 
     public List<Notification> getAllNotifications() {
@@ -45,9 +60,18 @@ public class NotificationService {
     }
 
 
-    // Get notifications for a user
+    // Get notifications for a user: personal rows plus announcements addressed to them, oldest first
     public List<Notification> getNotificationsByUserId(Long userId) {
-        return notificationRepository.findByUserId(userId);
+        List<Notification> personal = notificationRepository.findByUserId(userId);
+        List<Notification> announcements = announcementService.getViewsFor(userId);
+        if (announcements.isEmpty()) {
+            return personal;
+        }
+        List<Notification> merged = new ArrayList<>(personal.size() + announcements.size());
+        merged.addAll(personal);
+        merged.addAll(announcements);
+        merged.sort(Comparator.comparing(Notification::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return merged;
     }
 
     // Mark notification as read
@@ -57,14 +81,75 @@ public class NotificationService {
             throw new Exception("Notification not found with id: " + notificationId);
         }
         Notification notification = notifOpt.get();
+        boolean wasUnread = !notification.isReadStatus();
         notification.setReadStatus(true);
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        if (wasUnread) {
+            unreadCounter.add(saved.getUser().getId(), -1);
+        }
+        return saved;
     }
 
     public void deleteNotification(Long id) {
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
         notificationRepository.delete(notification);
+        if (!notification.isReadStatus()) {
+            unreadCounter.add(notification.getUser().getId(), -1);
+        }
+    }
+
+    // Personal rows from the cached counter, plus announcements the user has not read
+    public long getUnreadCount(Long userId) {
+        return unreadCounter.get(userId) + announcementService.countUnread(userId);
+    }
+
+    // One UPDATE for the user's own rows and one batch of read marks for announcements;
+    // returns how many items changed
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllReadByUserId(userId);
+        unreadCounter.reset(userId);
+        return updated + announcementService.markAllAsRead(userId);
+    }
+
+    /**
+     * Keyset-paginated inbox, newest first, optionally unread only. Announcements
+     * addressed to the user are merged in under their negative view ids; there are
+     * few of them, so they are filtered against the cursor here rather than in SQL.
+     */
+    public CursorPage<NotificationInboxItem> getInbox(Long userId, boolean unreadOnly, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<NotificationInboxItem> rows = notificationRepository.findInboxPage(userId, unreadOnly,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1));
+        List<NotificationInboxItem> announcements = announcementService.getInboxItemsFor(userId).stream()
+                .filter(item -> !unreadOnly || !item.readStatus())
+                .filter(item -> after == null || isBefore(item, after))
+                .toList();
+        if (!announcements.isEmpty()) {
+            List<NotificationInboxItem> merged = new ArrayList<>(rows.size() + announcements.size());
+            merged.addAll(rows);
+            merged.addAll(announcements);
+            merged.sort(INBOX_ORDER);
+            rows = merged.subList(0, Math.min(merged.size(), pageSize + 1));
+        }
+        return CursorPage.of(rows, pageSize, item -> new KeysetCursor(item.createdAt(), item.id()));
+    }
+
+    private static final Comparator<NotificationInboxItem> INBOX_ORDER = Comparator
+            .comparing(NotificationInboxItem::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(NotificationInboxItem::id)
+            .reversed();
+
+    // Same condition as the inbox query's cursor clause
+    private static boolean isBefore(NotificationInboxItem item, KeysetCursor cursor) {
+        if (item.createdAt() == null) {
+            return false;
+        }
+        return item.createdAt().isBefore(cursor.at())
+                || (item.createdAt().isEqual(cursor.at()) && item.id() < cursor.id());
     }
 
     private NotificationDto convertToDto(Notification notification) {
@@ -78,29 +163,28 @@ public class NotificationService {
         return dto;
     }
 
-    public List<NotificationDto> getNotificationsForHr(String token) {
-        String email = jwtUtil.extractEmail(token.substring(7)); // Remove "Bearer "
-        User hrUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("HR not found"));
-
-        Long companyId = hrUser.getCompany().getId();
-
-        // Fetch all users of this company
-        List<User> companyUsers = userRepository.findByCompanyId(companyId);
-        List<Long> userIds = companyUsers.stream().map(User::getId).toList();
-
-        List<Notification> notifications = notificationRepository.findByUserIdIn(userIds);
-
-        return notifications.stream().map(notification -> {
-            NotificationDto dto = new NotificationDto();
-            dto.setId(notification.getId());
-            dto.setUserId(notification.getUser().getId());
-            dto.setUserName(notification.getUser().getName());
-            dto.setTitle(notification.getTitle());
-            dto.setMessage(notification.getMessage());
-            dto.setReadStatus(notification.isReadStatus());
-            return dto;
-        }).toList();
+    // Whole company feed, newest first; one statement however many users the company has
+    public List<NotificationDto> getNotificationsForHr(AuthenticatedActor actor) {
+        return notificationRepository.findCompanyFeed(requireCompanyId(actor), null, null, Limit.unlimited());
+    }
+
+    // Paged replacement for getNotificationsForHr; pass back nextCursor to get the next page
+    public CursorPage<NotificationDto> getNotificationsPageForHr(AuthenticatedActor actor, String cursor, int size) {
+        Long companyId = requireCompanyId(actor);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<NotificationDto> rows = notificationRepository.findCompanyFeed(companyId,
+                after != null ? after.at() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1));
+        return CursorPage.of(rows, pageSize, dto -> new KeysetCursor(dto.getCreatedAt(), dto.getId()));
+    }
+
+    private static Long requireCompanyId(AuthenticatedActor actor) {
+        if (actor.getCompanyId() == null) {
+            throw new UsernameNotFoundException("HR not found");
+        }
+        return actor.getCompanyId();
     }
 
     public Notification updateNotification(Long id, NotificationDto dto) throws Exception {
@@ -109,18 +193,24 @@ public class NotificationService {
 
         existing.setTitle(dto.getTitle());
         existing.setMessage(dto.getMessage());
+        boolean wasUnread = !existing.isReadStatus();
         existing.setReadStatus(dto.getReadStatus() != null ? dto.getReadStatus() : existing.isReadStatus());
 
-        return notificationRepository.save(existing);
+        Notification saved = notificationRepository.save(existing);
+        boolean isUnread = !saved.isReadStatus();
+        if (wasUnread != isUnread) {
+            unreadCounter.add(saved.getUser().getId(), isUnread ? 1 : -1);
+        }
+        return saved;
     }
 
-    public List<NotificationDto> getNotificationsForOfficer(String token) {
-        String email = jwtUtil.extractEmail(token.substring(7));
-        User officer = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("Officer not found"));
+    public List<NotificationDto> getNotificationsForOfficer(AuthenticatedActor actor) {
+        if (actor.getUserId() == null) {
+            throw new UsernameNotFoundException("Officer not found");
+        }
 
         // Example: fetch notifications sent to this officer
-        return notificationRepository.findByUserId(officer.getId())
+        return notificationRepository.findByUserId(actor.getUserId())
                 .stream()
                 .map(NotificationDto::fromEntity)
                 .toList();
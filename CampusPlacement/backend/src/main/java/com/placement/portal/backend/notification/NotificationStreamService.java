@@ -0,0 +1,273 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.util.KeysetCursor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-Sent Events push of new notifications, so dashboards stop polling the
+ * full list. Each user may hold a few streams (the oldest is closed when a new
+ * one goes over the limit) and the total is capped; past that, connect throws
+ * RejectedExecutionException (mapped to 503).
+ *
+ * The SSE event id is the notification's (createdAt, id) as a {@link KeysetCursor}.
+ * A reconnecting client sends it back as Last-Event-ID and gets its personal
+ * notifications in (createdAt, id) order, up to {@value #MAX_REPLAY}. Ids are
+ * handed out in pooled blocks, so they say nothing about commit order, and
+ * createdAt is stamped before the commit; replay therefore starts a short
+ * lookback before the last event to pick up rows that committed late. Events
+ * may arrive twice, so clients de-duplicate by id.
+ *
+ * Every stream has its own queue of pending events, drained by a small pool of
+ * push threads. Publishing and heartbeats only enqueue, so a committing request
+ * never waits on a client socket, and a stalled client holds up at most one push
+ * thread. A stream that falls more than {@value #MAX_QUEUED} events behind is
+ * closed; the client reconnects and replays what it missed.
+ */
+@Service
+public class NotificationStreamService {
+
+    static final int MAX_REPLAY = 100;
+    static final int MAX_QUEUED = 2 * MAX_REPLAY;
+
+    private final NotificationRepository notificationRepository;
+    private final long timeoutMs;
+    private final long replayLookbackMs;
+    private final int maxPerUser;
+    private final int maxConnections;
+
+    // Guarded by itself; connection counts are small and changes rare
+    private final Map<Long, List<Connection>> connectionsByUser = new HashMap<>();
+    private int connections;
+
+    private final ScheduledExecutorService heartbeats =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-heartbeat-"));
+    private final ExecutorService pushers;
+
+    public NotificationStreamService(NotificationRepository notificationRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.notifications.stream.timeout-ms:1800000}") long timeoutMs,
+                                     @Value("${app.notifications.stream.heartbeat-ms:25000}") long heartbeatMs,
+                                     @Value("${app.notifications.stream.max-per-user:3}") int maxPerUser,
+                                     @Value("${app.notifications.stream.max-connections:1000}") int maxConnections,
+                                     @Value("${app.notifications.stream.push-threads:4}") int pushThreads,
+                                     @Value("${app.notifications.stream.replay-lookback-ms:10000}") long replayLookbackMs) {
+        this.notificationRepository = notificationRepository;
+        this.timeoutMs = timeoutMs;
+        this.replayLookbackMs = replayLookbackMs;
+        this.maxPerUser = maxPerUser;
+        this.maxConnections = maxConnections;
+        this.pushers = Executors.newFixedThreadPool(pushThreads, new CustomizableThreadFactory("notification-push-"));
+        Gauge.builder("notifications.stream.connections", this, NotificationStreamService::getConnectionCount)
+                .register(meterRegistry);
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** @param lastEvent decoded Last-Event-ID, null for a fresh stream */
+    public SseEmitter connect(Long userId, KeysetCursor lastEvent) {
+        Connection connection = new Connection(userId, newEmitter());
+        Connection evicted = null;
+        synchronized (connectionsByUser) {
+            if (connections >= maxConnections) {
+                throw new RejectedExecutionException("Too many notification streams");
+            }
+            List<Connection> mine = connectionsByUser.computeIfAbsent(userId, k -> new ArrayList<>());
+            mine.add(connection);
+            connections++;
+            if (mine.size() > maxPerUser) {
+                evicted = mine.remove(0);
+                connections--;
+            }
+        }
+        if (evicted != null) {
+            evicted.close();
+            evicted.emitter.complete();
+        }
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        if (lastEvent != null) {
+            pushers.execute(() -> replay(connection, lastEvent));
+        }
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        synchronized (connectionsByUser) {
+            return connectionsByUser.containsKey(userId);
+        }
+    }
+
+    public Collection<Long> getConnectedUserIds() {
+        synchronized (connectionsByUser) {
+            return List.copyOf(connectionsByUser.keySet());
+        }
+    }
+
+    public int getConnectionCount() {
+        synchronized (connectionsByUser) {
+            return connections;
+        }
+    }
+
+    public void publish(Long userId, NotificationEvent event) {
+        snapshot(userId).forEach(connection -> connection.enqueue(sse(event)));
+    }
+
+    // Overridden by tests to watch or stall writes
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        pushers.shutdownNow();
+        List<Connection> all = new ArrayList<>();
+        synchronized (connectionsByUser) {
+            connectionsByUser.values().forEach(all::addAll);
+        }
+        all.forEach(connection -> connection.emitter.complete());
+    }
+
+    private void replay(Connection connection, KeysetCursor lastEvent) {
+        List<NotificationEvent> missed = notificationRepository.findEventsSince(connection.userId,
+                lastEvent.at().minus(Duration.ofMillis(replayLookbackMs)), PageRequest.of(0, MAX_REPLAY));
+        missed.forEach(event -> connection.enqueue(sse(event)));
+    }
+
+    private void heartbeat() {
+        List<Connection> all = new ArrayList<>();
+        synchronized (connectionsByUser) {
+            connectionsByUser.values().forEach(all::addAll);
+        }
+        all.forEach(connection -> connection.enqueue(SseEmitter.event().comment("heartbeat")));
+    }
+
+    private static SseEmitter.SseEventBuilder sse(NotificationEvent event) {
+        SseEmitter.SseEventBuilder sse = SseEmitter.event().name("notification").data(event);
+        if (event.id() != null && event.createdAt() != null) {
+            sse.id(new KeysetCursor(event.createdAt(), event.id()).encode());
+        }
+        return sse;
+    }
+
+    private void drop(Connection connection, Exception cause) {
+        remove(connection);
+        connection.emitter.completeWithError(cause);
+    }
+
+    private List<Connection> snapshot(Long userId) {
+        synchronized (connectionsByUser) {
+            List<Connection> mine = connectionsByUser.get(userId);
+            return mine == null ? List.of() : List.copyOf(mine);
+        }
+    }
+
+    private void remove(Connection connection) {
+        connection.close();
+        synchronized (connectionsByUser) {
+            List<Connection> mine = connectionsByUser.get(connection.userId);
+            if (mine != null && mine.remove(connection)) {
+                connections--;
+                if (mine.isEmpty()) {
+                    connectionsByUser.remove(connection.userId);
+                }
+            }
+        }
+    }
+
+    /** One open stream and the events not yet written to it. */
+    private final class Connection {
+
+        final Long userId;
+        final SseEmitter emitter;
+
+        // guarded by this
+        private final ArrayDeque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            boolean overflow = false;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (pending.size() < MAX_QUEUED) {
+                    pending.add(event);
+                    if (draining) {
+                        return;
+                    }
+                    draining = true;
+                } else {
+                    overflow = true;
+                    closed = true;
+                    pending.clear();
+                }
+            }
+            if (overflow) {
+                drop(this, new IOException("Notification stream fell more than " + MAX_QUEUED + " events behind"));
+                return;
+            }
+            try {
+                pushers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close(); // shutting down
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    next = closed ? null : pending.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    drop(this, e);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.placement.portal.backend.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory unread badge count per user. A user's count is loaded with one
+ * COUNT query on first use, then kept current by the code paths that create,
+ * read or delete notifications (after their write has committed). Updates for
+ * users that are not loaded are dropped, since the next load sees them anyway.
+ *
+ * The COUNT runs without holding any lock. Every add or reset bumps the user's
+ * version; a load that finishes to find the version moved returns its count but
+ * does not keep it, so the next read counts again. Entries are also reloaded
+ * after the TTL, which heals an update that lands just after a load.
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    private static final class Slot {
+        // guarded by this
+        long unread;
+        long loadedAt;
+        long version;
+        boolean loaded;
+    }
+
+    private final NotificationRepository notificationRepository;
+    private final long ttlMs;
+    private final Map<Long, Slot> counts = new ConcurrentHashMap<>();
+
+    public NotificationUnreadCounter(NotificationRepository notificationRepository,
+                                     @Value("${app.notifications.unread-count.ttl-ms:600000}") long ttlMs) {
+        this.notificationRepository = notificationRepository;
+        this.ttlMs = ttlMs;
+    }
+
+    public long get(Long userId) {
+        Slot slot = counts.computeIfAbsent(userId, id -> new Slot());
+        long seen;
+        synchronized (slot) {
+            if (slot.loaded && System.currentTimeMillis() - slot.loadedAt < ttlMs) {
+                return slot.unread;
+            }
+            seen = slot.version;
+        }
+        long unread = notificationRepository.countByUserIdAndReadStatusFalse(userId);
+        synchronized (slot) {
+            if (slot.version == seen) {
+                slot.unread = unread;
+                slot.loadedAt = System.currentTimeMillis();
+                slot.loaded = true;
+            }
+        }
+        return unread;
+    }
+
+    public void add(Long userId, long delta) {
+        Slot slot = counts.get(userId);
+        if (slot == null || delta == 0) {
+            return;
+        }
+        synchronized (slot) {
+            slot.version++;
+            if (slot.loaded) {
+                slot.unread = Math.max(0, slot.unread + delta);
+            }
+        }
+    }
+
+    // After bulk changes: the next read counts again, and so does any load already running
+    public void reset(Long userId) {
+        Slot slot = counts.get(userId);
+        if (slot == null) {
+            return;
+        }
+        synchronized (slot) {
+            slot.version++;
+            slot.loaded = false;
+        }
+    }
+}
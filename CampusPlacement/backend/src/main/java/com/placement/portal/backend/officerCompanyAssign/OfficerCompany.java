@@ -2,6 +2,7 @@ package com.placement.portal.backend.officerCompanyAssign;
 
 import com.placement.portal.backend.company.Company;
 import com.placement.portal.backend.placementOfficer.PlacementOfficer;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -12,7 +13,9 @@ import lombok.Setter;
 public class OfficerCompany {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "officer_company_id")
+    @TableGenerator(name = "officer_company_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "officer_company",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -1,9 +1,11 @@
 package com.placement.portal.backend.officerCompanyAssign;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.company.Company;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,24 +20,24 @@ public class OfficerCompanyController {
 
     @PostMapping("/assign/{companyId}")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<?> assign(@RequestHeader("Authorization") String token,
+    public ResponseEntity<?> assign(@AuthenticationPrincipal AuthenticatedActor actor,
                                     @PathVariable Long companyId) {
-        officerCompanyService.assignCompany(token, companyId);
+        officerCompanyService.assignCompany(actor, companyId);
         return ResponseEntity.ok("Company assigned successfully");
     }
 
     @DeleteMapping("/unassign/{companyId}")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<?> unassign(@RequestHeader("Authorization") String token,
+    public ResponseEntity<?> unassign(@AuthenticationPrincipal AuthenticatedActor actor,
                                       @PathVariable Long companyId) {
-        officerCompanyService.unassignCompany(token, companyId);
+        officerCompanyService.unassignCompany(actor, companyId);
         return ResponseEntity.ok("Company unassigned successfully");
     }
 
     @GetMapping("/officer-companies")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<Company>> getOfficerCompanies(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(officerCompanyService.getAssignedCompanies(token));
+    public ResponseEntity<List<Company>> getOfficerCompanies(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(officerCompanyService.getAssignedCompanies(actor));
     }
 
     @GetMapping("/officer-company-assignments")
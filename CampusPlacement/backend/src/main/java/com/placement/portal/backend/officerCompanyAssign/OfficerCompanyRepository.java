@@ -3,11 +3,18 @@ package com.placement.portal.backend.officerCompanyAssign;
 import com.placement.portal.backend.placementOfficer.PlacementOfficer;
 import com.placement.portal.backend.company.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface OfficerCompanyRepository extends JpaRepository<OfficerCompany, Long> {
     List<OfficerCompany> findByOfficer(PlacementOfficer officer);
+    List<OfficerCompany> findByOfficer_Id(Long officerId);
+
+    @Query("SELECT oc.company.id FROM OfficerCompany oc WHERE oc.officer.id = :officerId")
+    List<Long> findCompanyIdsByOfficerId(@Param("officerId") Long officerId);
+
     boolean existsByOfficerAndCompany(PlacementOfficer officer, Company company);
     void deleteByOfficerAndCompany(PlacementOfficer officer, Company company);
 }
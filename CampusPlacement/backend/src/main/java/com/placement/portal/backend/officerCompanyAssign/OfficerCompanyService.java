@@ -1,6 +1,6 @@
 package com.placement.portal.backend.officerCompanyAssign;
 
-import com.placement.portal.backend.util.JwtUtil;
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.company.Company;
 import com.placement.portal.backend.company.CompanyRepository;
 import com.placement.portal.backend.placementOfficer.PlacementOfficer;
@@ -18,13 +18,9 @@ public class OfficerCompanyService {
     private final OfficerCompanyRepository assignmentRepo;
     private final CompanyRepository companyRepo;
     private final PlacementOfficerRepository officerRepo;
-    private final JwtUtil jwtUtil;
 
-    public void assignCompany(String token, Long companyId) {
-        String email = jwtUtil.extractEmail(
-                token.substring(7));
-        PlacementOfficer officer = officerRepo.findByUserEmail(email)
-                .orElseThrow(() -> new RuntimeException("Officer not found"));
+    public void assignCompany(AuthenticatedActor actor, Long companyId) {
+        PlacementOfficer officer = getOfficer(actor);
 
         Company company = companyRepo.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
@@ -37,10 +33,8 @@ public class OfficerCompanyService {
         }
     }
 
-    public void unassignCompany(String token, Long companyId) {
-        String email = jwtUtil.extractEmail(token.substring(7));
-        PlacementOfficer officer = officerRepo.findByUserEmail(email)
-                .orElseThrow(() -> new RuntimeException("Officer not found"));
+    public void unassignCompany(AuthenticatedActor actor, Long companyId) {
+        PlacementOfficer officer = getOfficer(actor);
 
         Company company = companyRepo.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("Company not found"));
@@ -48,16 +42,29 @@ public class OfficerCompanyService {
         assignmentRepo.deleteByOfficerAndCompany(officer, company);
     }
 
-    public List<Company> getAssignedCompanies(String token) {
-        String email = jwtUtil.extractEmail(token.substring(7));
-        PlacementOfficer officer = officerRepo.findByUserEmail(email)
-                .orElseThrow(() -> new RuntimeException("Officer not found"));
-
-        return assignmentRepo.findByOfficer(officer).stream()
+    public List<Company> getAssignedCompanies(AuthenticatedActor actor) {
+        return assignmentRepo.findByOfficer_Id(requireOfficerId(actor)).stream()
                 .map(OfficerCompany::getCompany)
                 .toList();
     }
 
+    // Ids only, for callers that just filter by company
+    public List<Long> getAssignedCompanyIds(AuthenticatedActor actor) {
+        return assignmentRepo.findCompanyIdsByOfficerId(requireOfficerId(actor));
+    }
+
+    private PlacementOfficer getOfficer(AuthenticatedActor actor) {
+        return officerRepo.findById(requireOfficerId(actor))
+                .orElseThrow(() -> new RuntimeException("Officer not found"));
+    }
+
+    private Long requireOfficerId(AuthenticatedActor actor) {
+        if (actor.getOfficerId() == null) {
+            throw new RuntimeException("Officer not found");
+        }
+        return actor.getOfficerId();
+    }
+
     public List<OfficerCompanyDto> getAllAssignmentsForAdmin() {
         return assignmentRepo.findAll().stream().map(assignment -> {
             PlacementOfficer officer = assignment.getOfficer();
@@ -1,6 +1,7 @@
 package com.placement.portal.backend.onboarding;
 
 import com.placement.portal.backend.jobOffer.JobOffer;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -14,7 +15,9 @@ import java.time.LocalDate;
 public class Onboarding {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "onboarding_id")
+    @TableGenerator(name = "onboarding_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "onboarding",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     @OneToOne
@@ -1,8 +1,10 @@
 package com.placement.portal.backend.onboarding;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -16,8 +18,8 @@ public class OnboardingController {
 
     @GetMapping
     @PreAuthorize("hasRole('COMPANY_HR')")
-    public ResponseEntity<List<OnboardingDto>> getAllForHR(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(onboardingService.getAllForHR(token));
+    public ResponseEntity<List<OnboardingDto>> getAllForHR(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(onboardingService.getAllForHR(actor));
     }
 
 
@@ -29,8 +31,8 @@ public class OnboardingController {
 
     @GetMapping("/officer")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<OnboardingDto>> getAllForOfficer(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(onboardingService.getAllForOfficer(token));
+    public ResponseEntity<List<OnboardingDto>> getAllForOfficer(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(onboardingService.getAllForOfficer(actor));
     }
 
 
@@ -1,12 +1,9 @@
 package com.placement.portal.backend.onboarding;
 
-import com.placement.portal.backend.auth.User;
-import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.company.Company;
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.jobOffer.JobOffer;
 import com.placement.portal.backend.jobOffer.JobOfferRepository;
 import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
-import com.placement.portal.backend.util.JwtUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,8 +18,6 @@ public class OnboardingService {
 
     private final OnboardingRepository onboardingRepository;
     private final JobOfferRepository jobOfferRepository;
-    private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
     private final OfficerCompanyService officerCompanyService;
 
     public List<OnboardingDto> getAll() {
@@ -44,12 +39,11 @@ public class OnboardingService {
         return toDto(onboardingRepository.save(onboarding));
     }
 
-    public List<OnboardingDto> getAllForHR(String token) {
-        String email = jwtUtil.extractEmail(token.substring(7)); // remove "Bearer "
-        User hr = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("HR not found"));
-
-        Long companyId = hr.getCompany().getId();
+    public List<OnboardingDto> getAllForHR(AuthenticatedActor actor) {
+        Long companyId = actor.getCompanyId();
+        if (companyId == null) {
+            throw new RuntimeException("HR not found");
+        }
 
         List<Onboarding> onboardings = onboardingRepository.findByCompanyId(companyId);
         return onboardings.stream().map(this::toDto).toList();
@@ -72,13 +66,8 @@ public class OnboardingService {
         return toDto(onboardingRepository.save(onboarding));
     }
 
-    public List<OnboardingDto> getAllForOfficer(String token) {
-        String email = jwtUtil.extractEmail(token.replace("Bearer ", ""));
-        User officer = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Officer not found"));
-
-        List<Company> assignedCompanies = officerCompanyService.getAssignedCompanies(token);
-        List<Long> companyIds = assignedCompanies.stream().map(Company::getId).toList();
+    public List<OnboardingDto> getAllForOfficer(AuthenticatedActor actor) {
+        List<Long> companyIds = officerCompanyService.getAssignedCompanyIds(actor);
 
         List<Onboarding> onboardings = onboardingRepository.findByCompanyIds(companyIds);
 
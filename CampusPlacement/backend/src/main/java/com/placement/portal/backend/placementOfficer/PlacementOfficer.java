@@ -1,6 +1,8 @@
 package com.placement.portal.backend.placementOfficer;
 
 import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.auth.UserIdentityInvalidator;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,10 +12,13 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(UserIdentityInvalidator.class)
 public class PlacementOfficer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "placement_officer_id")
+    @TableGenerator(name = "placement_officer_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "placement_officer",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     @OneToOne
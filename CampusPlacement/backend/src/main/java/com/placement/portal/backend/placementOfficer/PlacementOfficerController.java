@@ -1,8 +1,10 @@
 package com.placement.portal.backend.placementOfficer;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,16 +30,16 @@ public class PlacementOfficerController {
 
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
     @GetMapping("/me")
-    public ResponseEntity<PlacementOfficerDto> getMyProfile(@RequestHeader("Authorization") String authHeader) {
-        return ResponseEntity.ok(service.getMyProfile(authHeader));
+    public ResponseEntity<PlacementOfficerDto> getMyProfile(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(service.getMyProfile(actor));
     }
 
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
     @PutMapping("/me")
     public ResponseEntity<PlacementOfficerDto> updateMyProfile(
-            @RequestHeader("Authorization") String authHeader,
+            @AuthenticationPrincipal AuthenticatedActor actor,
             @RequestBody PlacementOfficerDto dto) {
-        return ResponseEntity.ok(service.updateMyProfile(authHeader, dto));
+        return ResponseEntity.ok(service.updateMyProfile(actor, dto));
     }
 
 
@@ -1,8 +1,8 @@
 package com.placement.portal.backend.placementOfficer;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.auth.User;
 import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.util.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -18,9 +18,6 @@ public class PlacementOfficerService {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired
-    private JwtUtil jwtUtil;
-
     public PlacementOfficerDto create(PlacementOfficerDto dto) {
         User user = userRepository.findById(dto.getUserId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -37,26 +34,14 @@ public class PlacementOfficerService {
         return mapToDto(saved);
     }
 
-    public PlacementOfficerDto getMyProfile(String authHeader) {
-        String email = jwtUtil.extractEmailFromAuthorizationHeader(authHeader);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        PlacementOfficer officer = repository.findByUserId(user.getId())
-                .orElseThrow(() -> new RuntimeException("Placement Officer profile not found"));
+    public PlacementOfficerDto getMyProfile(AuthenticatedActor actor) {
+        PlacementOfficer officer = getOwnProfile(actor);
 
         return mapToDto(officer); // assuming you already have a method to convert entity to DTO
     }
 
-    public PlacementOfficerDto updateMyProfile(String authHeader, PlacementOfficerDto dto) {
-        String email = jwtUtil.extractEmailFromAuthorizationHeader(authHeader);
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        PlacementOfficer officer = repository.findByUserId(user.getId())
-                .orElseThrow(() -> new RuntimeException("Placement Officer profile not found"));
+    public PlacementOfficerDto updateMyProfile(AuthenticatedActor actor, PlacementOfficerDto dto) {
+        PlacementOfficer officer = getOwnProfile(actor);
 
         // Update only the allowed fields
         officer.setDepartment(dto.getDepartment());
@@ -94,6 +79,14 @@ public class PlacementOfficerService {
         repository.deleteById(id);
     }
 
+    private PlacementOfficer getOwnProfile(AuthenticatedActor actor) {
+        if (actor.getOfficerId() == null) {
+            throw new RuntimeException("Placement Officer profile not found");
+        }
+        return repository.findById(actor.getOfficerId())
+                .orElseThrow(() -> new RuntimeException("Placement Officer profile not found"));
+    }
+
     private PlacementOfficerDto mapToDto(PlacementOfficer officer) {
         return PlacementOfficerDto.builder()
                 .id(officer.getId())
@@ -0,0 +1,41 @@
+package com.placement.portal.backend.placementStats;
+
+import java.math.BigDecimal;
+
+/** Change to one placement_group_stats row, added column by column. */
+record GroupDelta(int students, int studentsWithOffers, int placedStudents, int offers,
+                  BigDecimal salarySum, int salaryCount) {
+
+    static final GroupDelta NONE = new GroupDelta(0, 0, 0, 0, BigDecimal.ZERO, 0);
+
+    /** What replacing {@code before} by {@code after} does to the student's branch and the overall totals; null = no row. */
+    static GroupDelta between(StudentStats before, StudentStats after) {
+        return of(after).minus(of(before));
+    }
+
+    static GroupDelta offers(int offers, BigDecimal salarySum, int salaryCount) {
+        return new GroupDelta(0, 0, 0, offers, salarySum, salaryCount);
+    }
+
+    boolean isZero() {
+        return students == 0 && studentsWithOffers == 0 && placedStudents == 0 && offers == 0
+                && salaryCount == 0 && salarySum.signum() == 0;
+    }
+
+    GroupDelta negate() {
+        return NONE.minus(this);
+    }
+
+    private static GroupDelta of(StudentStats s) {
+        if (s == null) {
+            return NONE;
+        }
+        return new GroupDelta(1, s.offers() > 0 ? 1 : 0, s.accepted() > 0 ? 1 : 0, s.offers(), s.salarySum(), s.salaryCount());
+    }
+
+    private GroupDelta minus(GroupDelta o) {
+        return new GroupDelta(students - o.students, studentsWithOffers - o.studentsWithOffers,
+                placedStudents - o.placedStudents, offers - o.offers, salarySum.subtract(o.salarySum),
+                salaryCount - o.salaryCount);
+    }
+}
@@ -0,0 +1,21 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.jobOffer.OfferStatus;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The parts of a JobOffer the placement stats depend on, as last written to the
+ * stats. Kept on the entity so an update can be turned into a delta.
+ */
+public record OfferStatsState(OfferStatus status, BigDecimal salary) {
+
+    // Onboarding and onboarded offers were accepted first, so they still count as placements
+    static final Set<OfferStatus> ACCEPTED = EnumSet.of(OfferStatus.ACCEPTED, OfferStatus.ONBOARDING, OfferStatus.ONBOARDED);
+
+    boolean accepted() {
+        return status != null && ACCEPTED.contains(status);
+    }
+}
@@ -0,0 +1,30 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.reportSummery.ReportCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/placement-stats")
+@RequiredArgsConstructor
+public class PlacementStatsController {
+
+    private final PlacementStatsService placementStatsService;
+    private final ReportCache reportCache;
+
+    // Recovery: recompute all placement stats from offers and student profiles
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> rebuild() {
+        long started = System.currentTimeMillis();
+        placementStatsService.rebuild();
+        reportCache.invalidateAll();
+        return ResponseEntity.ok(Map.of("rebuiltInMs", System.currentTimeMillis() - started));
+    }
+}
@@ -0,0 +1,69 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.jobOffer.JobOffer;
+import com.placement.portal.backend.studentProfile.StudentProfile;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener feeding JobOffer and StudentProfile changes into the
+ * placement stats during the flush, i.e. inside the writing transaction.
+ * Each entity remembers what was last counted for it (loaded or written), so
+ * an update is applied as the difference from that.
+ */
+@Component
+public class PlacementStatsListener {
+
+    private final PlacementStatsService statsService;
+
+    public PlacementStatsListener(@Lazy PlacementStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof JobOffer offer) {
+            offer.setStatsState(new OfferStatsState(offer.getStatus(), offer.getSalary()));
+        } else if (entity instanceof StudentProfile profile) {
+            profile.setStatsBranch(branchKey(profile));
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Object entity) {
+        if (entity instanceof JobOffer offer) {
+            OfferStatsState current = new OfferStatsState(offer.getStatus(), offer.getSalary());
+            statsService.offerChanged(offer.getJobApplication().getStudent().getId(),
+                    offer.getJobApplication().getId(), offer.getStatsState(), current);
+            offer.setStatsState(current);
+        } else if (entity instanceof StudentProfile profile) {
+            String branch = branchKey(profile);
+            if (profile.getStatsBranch() == null) {
+                statsService.studentAdded(profile.getId(), branch);
+            } else if (!branch.equals(profile.getStatsBranch())) {
+                statsService.studentBranchChanged(profile.getId(), profile.getStatsBranch(), branch);
+            }
+            profile.setStatsBranch(branch);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof JobOffer offer && offer.getStatsState() != null) {
+            statsService.offerChanged(offer.getJobApplication().getStudent().getId(),
+                    offer.getJobApplication().getId(), offer.getStatsState(), null);
+        } else if (entity instanceof StudentProfile profile) {
+            statsService.studentRemoved(profile.getId());
+        }
+    }
+
+    // Stats key a missing branch as ""; null on the entity means "not counted yet"
+    private static String branchKey(StudentProfile profile) {
+        return profile.getBranch() == null ? "" : profile.getBranch();
+    }
+}
@@ -0,0 +1,214 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.reportSummery.CompanySummeryDto;
+import com.placement.portal.backend.reportSummery.DepartmentSummeryDto;
+import com.placement.portal.backend.reportSummery.PlacementSummaryDto;
+import com.placement.portal.backend.reportSummery.StudentSummeryDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plain JDBC over placement_student_stats and placement_group_stats. Runs on the
+ * connection of the surrounding transaction, so it is safe to call while Hibernate
+ * is flushing the change being counted.
+ */
+@Repository
+public class PlacementStatsRepository {
+
+    enum Scope { OVERALL, BRANCH, COMPANY }
+
+    record CompanyRef(long id, String name) {
+    }
+
+    record BestOffer(BigDecimal salary, String company) {
+    }
+
+    private static final String ACCEPTED_STATUSES = "'ACCEPTED', 'ONBOARDING', 'ONBOARDED'";
+
+    private static final RowMapper<StudentStats> STUDENT_ROW = (rs, i) -> new StudentStats(
+            rs.getLong("student_id"), rs.getString("branch"), rs.getInt("offers"), rs.getBigDecimal("salary_sum"),
+            rs.getInt("salary_count"), rs.getInt("accepted"), rs.getBigDecimal("best_salary"), rs.getString("best_company"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlacementStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Optional<StudentStats> lockStudent(long studentId) {
+        return jdbcTemplate.query("SELECT * FROM placement_student_stats WHERE student_id = ? FOR UPDATE", STUDENT_ROW, studentId)
+                .stream().findFirst();
+    }
+
+    Optional<String> findProfileBranch(long studentId) {
+        return jdbcTemplate.queryForList("SELECT COALESCE(branch, '') FROM student_profiles WHERE id = ?", String.class, studentId)
+                .stream().findFirst();
+    }
+
+    Optional<CompanyRef> findCompanyOfApplication(long applicationId) {
+        return jdbcTemplate.query("""
+                SELECT c.id, c.name FROM job_application a
+                JOIN job_openings j ON j.id = a.job_opening_id
+                JOIN companies c ON c.id = j.company_id
+                WHERE a.id = ?""", (rs, i) -> new CompanyRef(rs.getLong(1), rs.getString(2)), applicationId)
+                .stream().findFirst();
+    }
+
+    // Walks the student's applications (student_id index) and their offers (job_application_id index)
+    Optional<BestOffer> findBestAcceptedOffer(long studentId) {
+        return jdbcTemplate.query("""
+                SELECT o.salary, c.name FROM job_application a
+                JOIN job_offers o ON o.job_application_id = a.id
+                JOIN job_openings j ON j.id = a.job_opening_id
+                JOIN companies c ON c.id = j.company_id
+                WHERE a.student_id = ? AND o.status IN (%s) AND o.salary IS NOT NULL
+                ORDER BY o.salary DESC, o.id DESC LIMIT 1""".formatted(ACCEPTED_STATUSES),
+                (rs, i) -> new BestOffer(rs.getBigDecimal(1), rs.getString(2)), studentId)
+                .stream().findFirst();
+    }
+
+    void insertStudents(List<StudentStats> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO placement_student_stats
+                    (student_id, branch, offers, salary_sum, salary_count, accepted, best_salary, best_company)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)""", rows, rows.size(), (ps, s) -> {
+            ps.setLong(1, s.studentId());
+            ps.setString(2, s.branch());
+            ps.setInt(3, s.offers());
+            ps.setBigDecimal(4, s.salarySum());
+            ps.setInt(5, s.salaryCount());
+            ps.setInt(6, s.accepted());
+            ps.setBigDecimal(7, s.bestSalary());
+            ps.setString(8, s.bestCompany());
+        });
+    }
+
+    void updateStudent(StudentStats s) {
+        jdbcTemplate.update("""
+                UPDATE placement_student_stats SET branch = ?, offers = ?, salary_sum = ?, salary_count = ?,
+                    accepted = ?, best_salary = ?, best_company = ?
+                WHERE student_id = ?""",
+                s.branch(), s.offers(), s.salarySum(), s.salaryCount(), s.accepted(), s.bestSalary(), s.bestCompany(),
+                s.studentId());
+    }
+
+    void deleteStudent(long studentId) {
+        jdbcTemplate.update("DELETE FROM placement_student_stats WHERE student_id = ?", studentId);
+    }
+
+    // Atomic add, creating the row on first use; name is only overwritten when given
+    void applyGroup(Scope scope, String key, String name, GroupDelta d) {
+        if (d.isZero()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO placement_group_stats
+                    (scope, group_key, name, students, students_with_offers, placed_students, offers, salary_sum, salary_count)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE
+                    name = COALESCE(VALUES(name), name),
+                    students = students + VALUES(students),
+                    students_with_offers = students_with_offers + VALUES(students_with_offers),
+                    placed_students = placed_students + VALUES(placed_students),
+                    offers = offers + VALUES(offers),
+                    salary_sum = salary_sum + VALUES(salary_sum),
+                    salary_count = salary_count + VALUES(salary_count)""",
+                scope.name(), key, name, d.students(), d.studentsWithOffers(), d.placedStudents(), d.offers(),
+                d.salarySum(), d.salaryCount());
+    }
+
+    boolean hasOverall() {
+        Integer n = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM placement_group_stats WHERE scope = 'OVERALL'", Integer.class);
+        return n != null && n > 0;
+    }
+
+    Optional<PlacementSummaryDto> findOverall() {
+        return jdbcTemplate.query("""
+                SELECT students, students_with_offers, salary_sum, salary_count
+                FROM placement_group_stats WHERE scope = 'OVERALL' AND group_key = ''""",
+                (rs, i) -> new PlacementSummaryDto(rs.getLong(1), rs.getLong(2), average(rs.getBigDecimal(3), rs.getInt(4))))
+                .stream().findFirst();
+    }
+
+    List<CompanySummeryDto> findCompanies() {
+        return jdbcTemplate.query("""
+                SELECT group_key, name, offers, salary_sum, salary_count
+                FROM placement_group_stats WHERE scope = 'COMPANY' AND offers > 0""",
+                (rs, i) -> new CompanySummeryDto(Long.valueOf(rs.getString(1)), rs.getString(2), rs.getLong(3),
+                        average(rs.getBigDecimal(4), rs.getInt(5))));
+    }
+
+    // A branch's placed students are those holding an accepted offer
+    List<DepartmentSummeryDto> findBranches() {
+        return jdbcTemplate.query("""
+                SELECT group_key, students, placed_students, salary_sum, salary_count
+                FROM placement_group_stats WHERE scope = 'BRANCH' AND students > 0""",
+                (rs, i) -> new DepartmentSummeryDto(rs.getString(1).isEmpty() ? null : rs.getString(1), rs.getLong(2),
+                        rs.getLong(3), average(rs.getBigDecimal(4), rs.getInt(5))));
+    }
+
+    List<StudentSummeryDto> findStudentsWithOffers() {
+        return jdbcTemplate.query("""
+                SELECT u.id, u.name, sp.branch, s.accepted, s.best_company, s.best_salary
+                FROM placement_student_stats s
+                JOIN student_profiles sp ON sp.id = s.student_id
+                JOIN users u ON u.id = sp.user_id
+                WHERE s.offers > 0""",
+                (rs, i) -> new StudentSummeryDto(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getInt(4) > 0,
+                        rs.getString(5), rs.getBigDecimal(6)));
+    }
+
+    /** Recomputes every row from job_offers / student_profiles. */
+    void rebuild() {
+        jdbcTemplate.update("DELETE FROM placement_group_stats");
+        jdbcTemplate.update("DELETE FROM placement_student_stats");
+        jdbcTemplate.update("""
+                INSERT INTO placement_student_stats
+                    (student_id, branch, offers, salary_sum, salary_count, accepted, best_salary, best_company)
+                SELECT sp.id, COALESCE(sp.branch, ''), COUNT(o.id), COALESCE(SUM(o.salary), 0), COUNT(o.salary),
+                    SUM(CASE WHEN o.status IN (%1$s) THEN 1 ELSE 0 END),
+                    MAX(CASE WHEN o.status IN (%1$s) THEN o.salary END),
+                    (SELECT c.name FROM job_offers bo
+                     JOIN job_application ba ON ba.id = bo.job_application_id
+                     JOIN job_openings bj ON bj.id = ba.job_opening_id
+                     JOIN companies c ON c.id = bj.company_id
+                     WHERE ba.student_id = sp.id AND bo.status IN (%1$s) AND bo.salary IS NOT NULL
+                     ORDER BY bo.salary DESC, bo.id DESC LIMIT 1)
+                FROM student_profiles sp
+                LEFT JOIN job_application a ON a.student_id = sp.id
+                LEFT JOIN job_offers o ON o.job_application_id = a.id
+                GROUP BY sp.id, sp.branch""".formatted(ACCEPTED_STATUSES));
+        jdbcTemplate.update("""
+                INSERT INTO placement_group_stats
+                    (scope, group_key, name, students, students_with_offers, placed_students, offers, salary_sum, salary_count)
+                SELECT 'OVERALL', '', NULL, COUNT(*), COALESCE(SUM(offers > 0), 0), COALESCE(SUM(accepted > 0), 0),
+                    COALESCE(SUM(offers), 0), COALESCE(SUM(salary_sum), 0), COALESCE(SUM(salary_count), 0)
+                FROM placement_student_stats""");
+        jdbcTemplate.update("""
+                INSERT INTO placement_group_stats
+                    (scope, group_key, name, students, students_with_offers, placed_students, offers, salary_sum, salary_count)
+                SELECT 'BRANCH', branch, NULL, COUNT(*), SUM(offers > 0), SUM(accepted > 0),
+                    SUM(offers), SUM(salary_sum), SUM(salary_count)
+                FROM placement_student_stats GROUP BY branch""");
+        jdbcTemplate.update("""
+                INSERT INTO placement_group_stats
+                    (scope, group_key, name, students, students_with_offers, placed_students, offers, salary_sum, salary_count)
+                SELECT 'COMPANY', CAST(c.id AS CHAR), c.name, 0, 0, 0, COUNT(o.id), COALESCE(SUM(o.salary), 0), COUNT(o.salary)
+                FROM job_offers o
+                JOIN job_application a ON a.id = o.job_application_id
+                JOIN job_openings j ON j.id = a.job_opening_id
+                JOIN companies c ON c.id = j.company_id
+                GROUP BY c.id, c.name""");
+    }
+
+    private static double average(BigDecimal sum, int count) {
+        return count == 0 ? 0 : sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP).doubleValue();
+    }
+}
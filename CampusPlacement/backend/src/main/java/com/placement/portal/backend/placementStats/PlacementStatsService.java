@@ -0,0 +1,138 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.placementStats.PlacementStatsRepository.CompanyRef;
+import com.placement.portal.backend.placementStats.PlacementStatsRepository.Scope;
+import com.placement.portal.backend.reportSummery.CompanySummeryDto;
+import com.placement.portal.backend.reportSummery.DepartmentSummeryDto;
+import com.placement.portal.backend.reportSummery.PlacementSummaryDto;
+import com.placement.portal.backend.reportSummery.StudentSummeryDto;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Placement aggregates per student, branch, company and overall, kept up to date
+ * by deltas. Every change locks the student's row, folds the offer or profile
+ * change into it, and adds the difference to the branch, overall and company
+ * rows. It runs inside the transaction making the change, so the stats commit
+ * or roll back with it. Writes that bypass JPA (bulk JPQL/SQL deletes, manual
+ * fixes) are not seen; {@link #rebuild()} recomputes everything from the source tables.
+ */
+@Service
+public class PlacementStatsService {
+
+    private final PlacementStatsRepository repository;
+
+    public PlacementStatsService(PlacementStatsRepository repository) {
+        this.repository = repository;
+    }
+
+    /** @param before the offer as last counted, null if new; @param after null if deleted */
+    public void offerChanged(long studentId, long applicationId, OfferStatsState before, OfferStatsState after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        CompanyRef company = repository.findCompanyOfApplication(applicationId).orElse(null);
+        StudentStats old = lockOrCreateStudent(studentId);
+        StudentStats updated = old.withOfferChange(before, after, company != null ? company.name() : null,
+                () -> repository.findBestAcceptedOffer(studentId));
+        repository.updateStudent(updated);
+        applyStudentDelta(updated.branch(), GroupDelta.between(old, updated));
+
+        if (company != null) {
+            GroupDelta companyDelta = GroupDelta.offers(updated.offers() - old.offers(),
+                    updated.salarySum().subtract(old.salarySum()), updated.salaryCount() - old.salaryCount());
+            repository.applyGroup(Scope.COMPANY, String.valueOf(company.id()), company.name(), companyDelta);
+        }
+    }
+
+    public void studentAdded(long studentId, String branch) {
+        studentsAdded(Map.of(studentId, branch == null ? "" : branch));
+    }
+
+    /** Bulk variant for inserts that bypass JPA (student import). */
+    public void studentsAdded(Map<Long, String> branchByStudentId) {
+        List<StudentStats> rows = new ArrayList<>(branchByStudentId.size());
+        Map<String, Integer> perBranch = new HashMap<>();
+        branchByStudentId.forEach((id, branch) -> {
+            String key = branch == null ? "" : branch;
+            rows.add(StudentStats.empty(id, key));
+            perBranch.merge(key, 1, Integer::sum);
+        });
+        repository.insertStudents(rows);
+        perBranch.forEach((branch, n) -> applyStudentDelta(branch, new GroupDelta(n, 0, 0, 0, BigDecimal.ZERO, 0)));
+    }
+
+    public void studentBranchChanged(long studentId, String oldBranch, String newBranch) {
+        String to = newBranch == null ? "" : newBranch;
+        StudentStats stats = lockOrCreateStudent(studentId);
+        if (stats.branch().equals(to)) {
+            return;
+        }
+        StudentStats moved = new StudentStats(studentId, to, stats.offers(), stats.salarySum(), stats.salaryCount(),
+                stats.accepted(), stats.bestSalary(), stats.bestCompany());
+        repository.updateStudent(moved);
+        GroupDelta contribution = GroupDelta.between(null, stats);
+        repository.applyGroup(Scope.BRANCH, stats.branch(), null, contribution.negate());
+        repository.applyGroup(Scope.BRANCH, to, null, contribution);
+    }
+
+    public void studentRemoved(long studentId) {
+        repository.lockStudent(studentId).ifPresent(stats -> {
+            repository.deleteStudent(studentId);
+            applyStudentDelta(stats.branch(), GroupDelta.between(stats, null));
+        });
+    }
+
+    @Transactional
+    public void rebuild() {
+        repository.rebuild();
+    }
+
+    // First start after the stats tables were added: fill them once
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (!repository.hasOverall()) {
+            repository.rebuild();
+        }
+    }
+
+    public PlacementSummaryDto getSummary() {
+        return repository.findOverall().orElseGet(() -> new PlacementSummaryDto(0, 0, 0));
+    }
+
+    public List<CompanySummeryDto> getCompanyStats() {
+        return repository.findCompanies();
+    }
+
+    public List<DepartmentSummeryDto> getBranchStats() {
+        return repository.findBranches();
+    }
+
+    public List<StudentSummeryDto> getStudentStats() {
+        return repository.findStudentsWithOffers();
+    }
+
+    // Rows for students that predate the stats (or were missed) are created on first touch
+    private StudentStats lockOrCreateStudent(long studentId) {
+        return repository.lockStudent(studentId).orElseGet(() -> {
+            String branch = repository.findProfileBranch(studentId).orElse("");
+            studentAdded(studentId, branch);
+            return StudentStats.empty(studentId, branch);
+        });
+    }
+
+    private void applyStudentDelta(String branch, GroupDelta delta) {
+        repository.applyGroup(Scope.BRANCH, branch, null, delta);
+        repository.applyGroup(Scope.OVERALL, "", null, delta);
+    }
+}
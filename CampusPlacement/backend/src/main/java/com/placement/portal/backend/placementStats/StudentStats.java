@@ -0,0 +1,62 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.placementStats.PlacementStatsRepository.BestOffer;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * One row of placement_student_stats: a student's offers folded into counters.
+ * bestSalary / bestCompany describe the highest-paid accepted offer, ties going
+ * to the newest offer as in {@link PlacementStatsRepository#rebuild()}.
+ */
+record StudentStats(long studentId, String branch, int offers, BigDecimal salarySum, int salaryCount,
+                    int accepted, BigDecimal bestSalary, String bestCompany) {
+
+    static StudentStats empty(long studentId, String branch) {
+        return new StudentStats(studentId, branch, 0, BigDecimal.ZERO, 0, 0, null, null);
+    }
+
+    /**
+     * @param bestAccepted the student's best accepted offer as now written; only asked when
+     *                     the change removes, lowers or ties the current best
+     */
+    StudentStats withOfferChange(OfferStatsState before, OfferStatsState after, String company,
+                                 Supplier<Optional<BestOffer>> bestAccepted) {
+        int offers = this.offers + (after != null ? 1 : 0) - (before != null ? 1 : 0);
+        BigDecimal salarySum = this.salarySum.add(salaryOf(after)).subtract(salaryOf(before));
+        int salaryCount = this.salaryCount + countOf(after) - countOf(before);
+        int accepted = this.accepted + (after != null && after.accepted() ? 1 : 0) - (before != null && before.accepted() ? 1 : 0);
+
+        BigDecimal bestSalary = this.bestSalary;
+        String bestCompany = this.bestCompany;
+        BigDecimal added = after != null && after.accepted() ? after.salary() : null;
+        int vsBest = added == null ? -1 : bestSalary == null ? 1 : added.compareTo(bestSalary);
+        if (accepted == 0) {
+            bestSalary = null;
+            bestCompany = null;
+        } else if (vsBest > 0) {
+            bestSalary = added;
+            bestCompany = company;
+        } else if (vsBest == 0 || isBest(before)) {
+            BestOffer best = bestAccepted.get().orElse(null);
+            bestSalary = best != null ? best.salary() : null;
+            bestCompany = best != null ? best.company() : null;
+        }
+        return new StudentStats(studentId, branch, offers, salarySum, salaryCount, accepted, bestSalary, bestCompany);
+    }
+
+    private boolean isBest(OfferStatsState state) {
+        return state != null && state.accepted() && state.salary() != null && bestSalary != null
+                && state.salary().compareTo(bestSalary) == 0;
+    }
+
+    private static BigDecimal salaryOf(OfferStatsState state) {
+        return state != null && state.salary() != null ? state.salary() : BigDecimal.ZERO;
+    }
+
+    private static int countOf(OfferStatsState state) {
+        return state != null && state.salary() != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.placement.portal.backend.reportSummery;
+
+import com.placement.portal.backend.salaryDistribution.SalaryDistributionDto;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the officer/admin dashboard shows, in one response. A part that
+ * timed out or failed is null and listed in {@code unavailable} with the reason.
+ */
+@Getter
+@Setter
+public class DashboardDto {
+    private PlacementSummaryDto summary;
+    private List<CompanySummeryDto> companyWise;
+    private List<DepartmentSummeryDto> departmentWise;
+    private List<StudentSummeryDto> studentWise;
+    private List<SalaryDistributionDto> salaryByBranch;
+    private Map<String, String> unavailable = new LinkedHashMap<>();
+    private long tookMs;
+}
@@ -0,0 +1,117 @@
+package com.placement.portal.backend.reportSummery;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.salaryDistribution.SalaryDimension;
+import com.placement.portal.backend.salaryDistribution.SalaryDistributionDto;
+import com.placement.portal.backend.salaryDistribution.SalaryDistributionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Composes the dashboard from the independent reports, run concurrently on the
+ * bounded reportQueryExecutor. Each part gets the same timeout, counted from
+ * when all parts were submitted; a part that misses it, fails or is rejected by
+ * the pool is left out and named in {@link DashboardDto#getUnavailable()}. Late
+ * parts keep running and still fill the report cache for the next load.
+ * Timed per part under {@code reports.dashboard.part{part,outcome}}.
+ */
+@Service
+public class DashboardService {
+
+    private static final int SALARY_BINS = 10;
+
+    private final ReportSummeryService reportService;
+    private final SalaryDistributionService salaryDistributionService;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMs;
+
+    public DashboardService(ReportSummeryService reportService,
+                            SalaryDistributionService salaryDistributionService,
+                            @Qualifier("reportQueryExecutor") ThreadPoolExecutor executor,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.reports.dashboard.query-timeout-ms:2000}") long timeoutMs) {
+        this.reportService = reportService;
+        this.salaryDistributionService = salaryDistributionService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public DashboardDto getDashboard(AuthenticatedActor actor) {
+        long start = System.nanoTime();
+        DashboardDto dashboard = new DashboardDto();
+
+        Part<PlacementSummaryDto> summary = submit("summary", () -> reportService.getPlacementSummary(actor));
+        Part<List<CompanySummeryDto>> companyWise = submit("companyWise", () -> reportService.getCompanyWiseReport(actor));
+        Part<List<DepartmentSummeryDto>> departmentWise = submit("departmentWise", () -> reportService.getDepartmentWiseReport(actor));
+        Part<List<StudentSummeryDto>> studentWise = submit("studentWise", () -> reportService.getStudentWiseReport(actor));
+        Part<List<SalaryDistributionDto>> salary = submit("salaryByBranch",
+                () -> salaryDistributionService.getDistribution(SalaryDimension.BRANCH, SALARY_BINS));
+
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        summary.await(deadline, dashboard, dashboard::setSummary);
+        companyWise.await(deadline, dashboard, dashboard::setCompanyWise);
+        departmentWise.await(deadline, dashboard, dashboard::setDepartmentWise);
+        studentWise.await(deadline, dashboard, dashboard::setStudentWise);
+        salary.await(deadline, dashboard, dashboard::setSalaryByBranch);
+
+        dashboard.setTookMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return dashboard;
+    }
+
+    private <T> Part<T> submit(String name, Supplier<T> query) {
+        try {
+            return new Part<>(name, CompletableFuture.supplyAsync(() -> {
+                long started = System.nanoTime();
+                try {
+                    T result = query.get();
+                    record(name, "ok", started);
+                    return result;
+                } catch (RuntimeException e) {
+                    record(name, "error", started);
+                    throw e;
+                }
+            }, executor));
+        } catch (RejectedExecutionException e) {
+            return new Part<>(name, CompletableFuture.failedFuture(e));
+        }
+    }
+
+    private void record(String part, String outcome, long startNanos) {
+        Timer.builder("reports.dashboard.part")
+                .tag("part", part)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private record Part<T>(String name, CompletableFuture<T> future) {
+
+        void await(long deadlineNanos, DashboardDto dashboard, Consumer<T> setter) {
+            try {
+                setter.accept(future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                dashboard.getUnavailable().put(name, "timeout");
+            } catch (ExecutionException e) {
+                dashboard.getUnavailable().put(name, e.getCause() instanceof RejectedExecutionException ? "busy" : "error");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dashboard.getUnavailable().put(name, "interrupted");
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.placement.portal.backend.reportSummery;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches report results per (report type, caller scope).
+ *
+ * Entries are dropped when a write to one of the report's {@link ReportSource}s
+ * commits, and in any case after the TTL. Concurrent misses for one key share a
+ * single computation. Each source has a generation counter; a result whose
+ * sources changed while it was being computed is handed to its waiters but not kept.
+ * Metrics: {@code reports.cache.requests{report,result=hit|miss|coalesced}}, {@code reports.cache.compute{report}},
+ * {@code reports.cache.size}.
+ */
+@Component
+public class ReportCache {
+
+    record Key(ReportType type, String scope) {
+    }
+
+    private record Entry(CompletableFuture<Object> value, long expiresAtNanos) {
+    }
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<ReportSource, AtomicLong> generations = new EnumMap<>(ReportSource.class);
+    private final MeterRegistry meterRegistry;
+    private final long ttlNanos;
+
+    public ReportCache(MeterRegistry meterRegistry, @Value("${app.reports.cache.ttl-ms:300000}") long ttlMs) {
+        this.meterRegistry = meterRegistry;
+        this.ttlNanos = ttlMs * 1_000_000L;
+        for (ReportSource source : ReportSource.values()) {
+            generations.put(source, new AtomicLong());
+        }
+        Gauge.builder("reports.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ReportType type, String scope, Supplier<T> compute) {
+        Key key = new Key(type, scope);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.expiresAtNanos() < 0 && !entry.value().isCompletedExceptionally()) {
+            count(type, "hit");
+            return (T) join(entry.value());
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        Entry candidate = new Entry(mine, now + ttlNanos);
+        Entry winner = entries.compute(key, (k, existing) ->
+                existing != null && existing != entry && System.nanoTime() - existing.expiresAtNanos() < 0 ? existing : candidate);
+        if (winner != candidate) {
+            // someone else is already computing (or just computed) this key
+            count(type, "coalesced");
+            return (T) join(winner.value());
+        }
+
+        count(type, "miss");
+        long generation = generationOf(type);
+        try {
+            T value = Timer.builder("reports.cache.compute").tag("report", type.name()).register(meterRegistry)
+                    .record(compute);
+            mine.complete(value);
+            if (generationOf(type) != generation) {
+                entries.remove(key, candidate);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            entries.remove(key, candidate);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /** Drops every cached report that reads from {@code source}. Call after the write has committed. */
+    public void invalidate(ReportSource source) {
+        generations.get(source).incrementAndGet();
+        entries.keySet().removeIf(key -> key.type().getSources().contains(source));
+    }
+
+    public void invalidateAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        entries.clear();
+    }
+
+    private long generationOf(ReportType type) {
+        long sum = 0;
+        Set<ReportSource> sources = type.getSources();
+        for (ReportSource source : sources) {
+            sum += generations.get(source).get();
+        }
+        return sum;
+    }
+
+    private static Object join(CompletableFuture<Object> value) {
+        try {
+            return value.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : e;
+        }
+    }
+
+    private void count(ReportType type, String result) {
+        Counter.builder("reports.cache.requests").tag("report", type.name()).tag("result", result)
+                .register(meterRegistry).increment();
+    }
+}
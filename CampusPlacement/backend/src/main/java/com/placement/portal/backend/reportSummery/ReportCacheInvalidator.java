@@ -0,0 +1,68 @@
+package com.placement.portal.backend.reportSummery;
+
+import com.placement.portal.backend.jobApplication.JobApplication;
+import com.placement.portal.backend.jobOffer.JobOffer;
+import com.placement.portal.backend.studentProfile.StudentProfile;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * JPA entity listener on JobOffer, JobApplication and StudentProfile that drops
+ * the cached reports reading them once the write commits. Sources touched in one
+ * transaction are collected and invalidated together, once, after commit.
+ * Writes that bypass JPA call {@link #sourceChanged} themselves.
+ */
+@Component
+public class ReportCacheInvalidator {
+
+    private final ReportCache reportCache;
+
+    public ReportCacheInvalidator(@Lazy ReportCache reportCache) {
+        this.reportCache = reportCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof JobOffer) {
+            sourceChanged(ReportSource.OFFERS);
+        } else if (entity instanceof JobApplication) {
+            sourceChanged(ReportSource.APPLICATIONS);
+        } else if (entity instanceof StudentProfile) {
+            sourceChanged(ReportSource.STUDENTS);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sourceChanged(ReportSource source) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reportCache.invalidate(source);
+            return;
+        }
+        Set<ReportSource> pending = (Set<ReportSource>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<ReportSource> sources = EnumSet.noneOf(ReportSource.class);
+            TransactionSynchronizationManager.bindResource(this, sources);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReportCacheInvalidator.this);
+                    if (status == STATUS_COMMITTED) {
+                        sources.forEach(reportCache::invalidate);
+                    }
+                }
+            });
+            pending = sources;
+        }
+        pending.add(source);
+    }
+}
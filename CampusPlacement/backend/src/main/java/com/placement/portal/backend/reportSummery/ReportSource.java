@@ -0,0 +1,6 @@
+package com.placement.portal.backend.reportSummery;
+
+/** Tables a report is computed from; a committed write to one invalidates the reports reading it. */
+public enum ReportSource {
+    OFFERS, APPLICATIONS, STUDENTS
+}
@@ -1,8 +1,12 @@
 package com.placement.portal.backend.reportSummery;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.salaryDistribution.SalaryDimension;
+import com.placement.portal.backend.salaryDistribution.SalaryDistributionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -13,29 +17,52 @@ import java.util.List;
 public class ReportSummeryController {
 
     private final ReportSummeryService reportService;
+    private final SalaryDistributionService salaryDistributionService;
+    private final DashboardService dashboardService;
+
+    // All of the below in one response, computed concurrently; see DashboardService
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER')")
+    public ResponseEntity<DashboardDto> getDashboard(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(dashboardService.getDashboard(actor));
+    }
 
     @GetMapping("/summary")
     @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER')")
-    public ResponseEntity<PlacementSummaryDto> getSummaryReport() {
-        return ResponseEntity.ok(reportService.getPlacementSummary());
+    public ResponseEntity<PlacementSummaryDto> getSummaryReport(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(reportService.getPlacementSummary(actor));
     }
 
     @GetMapping("/company-wise")
     @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER')")
-    public ResponseEntity<List<CompanySummeryDto>> getCompanyWiseReport() {
-        return ResponseEntity.ok(reportService.getCompanyWiseReport());
+    public ResponseEntity<List<CompanySummeryDto>> getCompanyWiseReport(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(reportService.getCompanyWiseReport(actor));
     }
 
     @GetMapping("/department-wise")
     @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER')")
-    public ResponseEntity<List<DepartmentSummeryDto>> getDepartmentWiseReport() {
-        return ResponseEntity.ok(reportService.getDepartmentWiseReport());
+    public ResponseEntity<List<DepartmentSummeryDto>> getDepartmentWiseReport(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(reportService.getDepartmentWiseReport(actor));
+    }
+
+    // by = overall | company | branch | passing_year
+    @GetMapping("/salary-distribution")
+    @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER')")
+    public ResponseEntity<?> getSalaryDistribution(@RequestParam(defaultValue = "overall") String by,
+                                                   @RequestParam(defaultValue = "10") int bins) {
+        SalaryDimension dimension;
+        try {
+            dimension = SalaryDimension.valueOf(by.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown grouping: " + by);
+        }
+        return ResponseEntity.ok(salaryDistributionService.getDistribution(dimension, bins));
     }
 
     @GetMapping("/student-wise")
     @PreAuthorize("hasAnyRole('ADMIN', 'PLACEMENT_OFFICER')")
-    public ResponseEntity<List<StudentSummeryDto>> getStudentWiseReport() {
-        return ResponseEntity.ok(reportService.getStudentWiseReport());
+    public ResponseEntity<List<StudentSummeryDto>> getStudentWiseReport(@AuthenticationPrincipal AuthenticatedActor actor) {
+        return ResponseEntity.ok(reportService.getStudentWiseReport(actor));
     }
 }
 
@@ -1,46 +1,40 @@
 package com.placement.portal.backend.reportSummery;
 
-
-
-import com.placement.portal.backend.jobApplication.JobApplicationRepository;
-import com.placement.portal.backend.studentProfile.StudentProfileRepository;
-import com.placement.portal.backend.company.CompanyRepository;
-import com.placement.portal.backend.jobOffer.JobOfferRepository;
-import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.auth.Role;
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.placementStats.PlacementStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
 
+// Reports read the incrementally maintained placement stats, cached per report and caller scope
 @Service
 @RequiredArgsConstructor
 public class ReportSummeryService {
 
-    private final StudentProfileRepository studentProfileRepository;
-    private final JobOfferRepository jobOfferRepository;
-    private final CompanyRepository companyRepository;
-    private final UserRepository userRepository;
+    // Every role allowed here (ADMIN, PLACEMENT_OFFICER) sees the whole campus
+    private static final String CAMPUS_SCOPE = "campus";
 
-    public PlacementSummaryDto getPlacementSummary() {
-        long total = studentProfileRepository.count();
-        long placed = jobOfferRepository.countDistinctCandidates();
-        double avgCtc = jobOfferRepository.findAverageSalary();
+    private final PlacementStatsService placementStatsService;
+    private final ReportCache reportCache;
 
-        return new PlacementSummaryDto(total, placed, avgCtc);
+    public PlacementSummaryDto getPlacementSummary(AuthenticatedActor actor) {
+        return reportCache.get(ReportType.SUMMARY, scopeOf(actor), placementStatsService::getSummary);
     }
 
-    public List<CompanySummeryDto> getCompanyWiseReport() {
-        return jobOfferRepository.findCompanyPlacementStats();
+    public List<CompanySummeryDto> getCompanyWiseReport(AuthenticatedActor actor) {
+        return reportCache.get(ReportType.COMPANY_WISE, scopeOf(actor), placementStatsService::getCompanyStats);
     }
 
-    public List<DepartmentSummeryDto> getDepartmentWiseReport() {
-        return studentProfileRepository.findDepartmentPlacementStats();
+    public List<DepartmentSummeryDto> getDepartmentWiseReport(AuthenticatedActor actor) {
+        return reportCache.get(ReportType.DEPARTMENT_WISE, scopeOf(actor), placementStatsService::getBranchStats);
     }
 
-    public List<StudentSummeryDto> getStudentWiseReport() {
-        return jobOfferRepository.findAllWithPlacementStatus();
+    public List<StudentSummeryDto> getStudentWiseReport(AuthenticatedActor actor) {
+        return reportCache.get(ReportType.STUDENT_WISE, scopeOf(actor), placementStatsService::getStudentStats);
     }
-}
 
+    private static String scopeOf(AuthenticatedActor actor) {
+        return CAMPUS_SCOPE;
+    }
+}
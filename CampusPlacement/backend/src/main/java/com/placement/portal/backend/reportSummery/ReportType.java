@@ -0,0 +1,22 @@
+package com.placement.portal.backend.reportSummery;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum ReportType {
+
+    SUMMARY(EnumSet.of(ReportSource.OFFERS, ReportSource.STUDENTS)),
+    COMPANY_WISE(EnumSet.of(ReportSource.OFFERS)),
+    DEPARTMENT_WISE(EnumSet.of(ReportSource.OFFERS, ReportSource.STUDENTS)),
+    STUDENT_WISE(EnumSet.of(ReportSource.OFFERS, ReportSource.STUDENTS));
+
+    private final Set<ReportSource> sources;
+
+    ReportType(Set<ReportSource> sources) {
+        this.sources = sources;
+    }
+
+    public Set<ReportSource> getSources() {
+        return sources;
+    }
+}
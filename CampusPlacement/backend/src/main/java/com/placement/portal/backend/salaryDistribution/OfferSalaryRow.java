@@ -0,0 +1,8 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import java.math.BigDecimal;
+
+/** One offer's salary with the attributes it is grouped by. */
+public record OfferSalaryRow(Long offerId, Long studentId, BigDecimal salary, String companyName,
+                             String branch, Integer passingYear) {
+}
@@ -0,0 +1,21 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import java.util.function.Function;
+
+public enum SalaryDimension {
+
+    OVERALL(row -> "All"),
+    COMPANY(row -> row.companyName() != null ? row.companyName() : "N/A"),
+    BRANCH(row -> row.branch() != null ? row.branch() : "N/A"),
+    PASSING_YEAR(row -> row.passingYear() != null ? row.passingYear().toString() : "N/A");
+
+    private final Function<OfferSalaryRow, String> key;
+
+    SalaryDimension(Function<OfferSalaryRow, String> key) {
+        this.key = key;
+    }
+
+    String keyOf(OfferSalaryRow row) {
+        return key.apply(row);
+    }
+}
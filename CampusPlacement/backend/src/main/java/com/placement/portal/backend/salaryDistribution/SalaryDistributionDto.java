@@ -0,0 +1,11 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import java.util.List;
+
+/** Percentiles, min and max are within 1% of an actual offer salary (see {@link SalarySketch}). */
+public record SalaryDistributionDto(String group, long offers, double min, double median, double p90, double p99,
+                                    double max, double mean, List<Bin> histogram) {
+
+    public record Bin(double from, double to, long offers) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import com.placement.portal.backend.jobOffer.JobOffer;
+import com.placement.portal.backend.studentProfile.StudentProfile;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener feeding JobOffer and StudentProfile changes into the
+ * salary sketches. Applied after commit, so the sketches re-read committed rows.
+ * A profile is only reported when its branch or passing year, the fields the
+ * sketches group by, differ from what it was loaded or last written with.
+ */
+@Component
+public class SalaryDistributionListener {
+
+    private final SalaryDistributionService salaryDistributionService;
+
+    public SalaryDistributionListener(@Lazy SalaryDistributionService salaryDistributionService) {
+        this.salaryDistributionService = salaryDistributionService;
+    }
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        if (entity instanceof StudentProfile profile) {
+            profile.setSalaryGroupKey(groupKey(profile));
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Object entity) {
+        if (entity instanceof StudentProfile profile) {
+            String key = groupKey(profile);
+            if (key.equals(profile.getSalaryGroupKey())) {
+                return; // CGPA, skills etc. do not move offers between groups
+            }
+            profile.setSalaryGroupKey(key);
+        }
+        report(entity);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        report(entity);
+    }
+
+    private void report(Object entity) {
+        if (entity instanceof JobOffer offer) {
+            Long offerId = offer.getId();
+            afterCommit(() -> salaryDistributionService.offerChanged(offerId));
+        } else if (entity instanceof StudentProfile profile) {
+            Long studentId = profile.getId();
+            afterCommit(() -> salaryDistributionService.studentChanged(studentId));
+        }
+    }
+
+    private static String groupKey(StudentProfile profile) {
+        return profile.getBranch() + "|" + profile.getPassingYear();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
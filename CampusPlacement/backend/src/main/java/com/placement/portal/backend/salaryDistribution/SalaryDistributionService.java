@@ -0,0 +1,224 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import com.placement.portal.backend.jobOffer.JobOfferRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Offer salary percentiles and histograms per company, branch and passing year.
+ *
+ * One {@link SalarySketch} per group is loaded from all offers on first use and
+ * then kept current: {@link SalaryDistributionListener} reports committed offer
+ * and profile changes, and only the affected offers are re-read and moved
+ * between sketches. The last counted row of each offer is kept so its old
+ * contribution can be taken out, and indexed by student so a profile change
+ * touches only that student's offers. Requests never touch the offers table.
+ *
+ * The monitor only guards the sketches. Changed ids are queued under it, and one
+ * thread at a time re-reads them without holding it, so requests and other hooks
+ * never wait on the database; ids queued meanwhile are picked up by that thread's
+ * next round. Changes reported while the initial load runs are queued too and
+ * re-read once it has been applied.
+ */
+@Service
+public class SalaryDistributionService {
+
+    static final int MAX_BINS = 50;
+
+    private final JobOfferRepository jobOfferRepository;
+    private final Object loadLock = new Object();
+
+    // guarded by this
+    private final Map<Long, OfferSalaryRow> counted = new HashMap<>();
+    private final Map<Long, Set<Long>> offersByStudent = new HashMap<>();
+    private final Map<SalaryDimension, Map<String, SalarySketch>> sketches = new EnumMap<>(SalaryDimension.class);
+    private final Set<Long> changedOffers = new HashSet<>();
+    private final Set<Long> changedStudents = new HashSet<>();
+    private boolean loading;
+    private boolean draining;
+    private volatile boolean loaded;
+
+    public SalaryDistributionService(JobOfferRepository jobOfferRepository) {
+        this.jobOfferRepository = jobOfferRepository;
+        for (SalaryDimension dimension : SalaryDimension.values()) {
+            sketches.put(dimension, new HashMap<>());
+        }
+    }
+
+    /** One entry per group of {@code dimension}, largest group first. */
+    public List<SalaryDistributionDto> getDistribution(SalaryDimension dimension, int bins) {
+        ensureLoaded();
+        int binCount = Math.min(Math.max(bins, 1), MAX_BINS);
+        List<SalaryDistributionDto> result = new ArrayList<>();
+        synchronized (this) {
+            sketches.get(dimension).forEach((group, sketch) -> result.add(toDto(group, sketch, binCount)));
+        }
+        result.sort(Comparator.comparingLong(SalaryDistributionDto::offers).reversed());
+        return result;
+    }
+
+    public void offerChanged(long offerId) {
+        synchronized (this) {
+            if (!loading) {
+                return; // the initial load will read it
+            }
+            changedOffers.add(offerId);
+        }
+        drain();
+    }
+
+    // Branch or passing year changes move all of the student's offers
+    public void studentChanged(long studentId) {
+        synchronized (this) {
+            if (!loading) {
+                return;
+            }
+            changedStudents.add(studentId);
+        }
+        drain();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            synchronized (this) {
+                loading = true;
+            }
+            List<OfferSalaryRow> rows;
+            try {
+                rows = jobOfferRepository.findAllSalaryRows();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    // the next attempt reads everything again
+                    loading = false;
+                    changedOffers.clear();
+                    changedStudents.clear();
+                }
+                throw e;
+            }
+            synchronized (this) {
+                rows.forEach(this::count);
+                loaded = true;
+            }
+        }
+        drain();
+    }
+
+    // Re-reads queued ids until none are left; returns at once if another thread is doing it
+    private void drain() {
+        synchronized (this) {
+            if (draining || !loaded) {
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            List<Long> offerIds;
+            List<Long> studentIds;
+            synchronized (this) {
+                if (changedOffers.isEmpty() && changedStudents.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                offerIds = new ArrayList<>(changedOffers);
+                studentIds = new ArrayList<>(changedStudents);
+                changedOffers.clear();
+                changedStudents.clear();
+            }
+            Map<Long, List<OfferSalaryRow>> byStudent = new HashMap<>();
+            Map<Long, Optional<OfferSalaryRow>> byOffer = new HashMap<>();
+            try {
+                studentIds.forEach(id -> byStudent.put(id, jobOfferRepository.findSalaryRowsByStudentId(id)));
+                offerIds.forEach(id -> byOffer.put(id, jobOfferRepository.findSalaryRowById(id)));
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changedOffers.addAll(offerIds);
+                    changedStudents.addAll(studentIds);
+                    draining = false;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                byStudent.forEach((studentId, rows) -> {
+                    Set<Long> offers = offersByStudent.get(studentId);
+                    if (offers != null) {
+                        List.copyOf(offers).forEach(this::uncount);
+                    }
+                    rows.forEach(this::recount);
+                });
+                byOffer.forEach((offerId, row) -> {
+                    uncount(offerId);
+                    row.ifPresent(this::count);
+                });
+            }
+        }
+    }
+
+    private void recount(OfferSalaryRow row) {
+        uncount(row.offerId());
+        count(row);
+    }
+
+    private void count(OfferSalaryRow row) {
+        counted.put(row.offerId(), row);
+        offersByStudent.computeIfAbsent(row.studentId(), k -> new HashSet<>()).add(row.offerId());
+        double salary = row.salary().doubleValue();
+        for (SalaryDimension dimension : SalaryDimension.values()) {
+            sketches.get(dimension).computeIfAbsent(dimension.keyOf(row), k -> new SalarySketch()).add(salary);
+        }
+    }
+
+    // Takes the offer's last counted row out of the sketches and the student index
+    private void uncount(long offerId) {
+        OfferSalaryRow row = counted.remove(offerId);
+        if (row == null) {
+            return;
+        }
+        Set<Long> offers = offersByStudent.get(row.studentId());
+        offers.remove(offerId);
+        if (offers.isEmpty()) {
+            offersByStudent.remove(row.studentId());
+        }
+        double salary = row.salary().doubleValue();
+        for (SalaryDimension dimension : SalaryDimension.values()) {
+            Map<String, SalarySketch> groups = sketches.get(dimension);
+            String key = dimension.keyOf(row);
+            SalarySketch sketch = groups.get(key);
+            sketch.remove(salary);
+            if (sketch.count() == 0) {
+                groups.remove(key);
+            }
+        }
+    }
+
+    private static SalaryDistributionDto toDto(String group, SalarySketch sketch, int bins) {
+        double min = sketch.quantile(0);
+        double max = sketch.quantile(1);
+        long[] counts = sketch.histogram(bins, min, max);
+        double width = (max - min) / bins;
+        List<SalaryDistributionDto.Bin> histogram = new ArrayList<>(bins);
+        for (int i = 0; i < bins; i++) {
+            histogram.add(new SalaryDistributionDto.Bin(round(min + i * width), round(min + (i + 1) * width), counts[i]));
+        }
+        return new SalaryDistributionDto(group, sketch.count(), round(min), round(sketch.quantile(0.5)),
+                round(sketch.quantile(0.9)), round(sketch.quantile(0.99)), round(max), round(sketch.mean()), histogram);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,101 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Relative-error quantile sketch (the DDSketch bucketing): a value v > 0 is
+ * counted in bucket ceil(log_gamma(v)), so any quantile read back is within
+ * {@link #RELATIVE_ACCURACY} of a true sample value. Unlike t-digest or KLL it
+ * is just bucket counts, so sketches merge by adding counts and a value can be
+ * removed again, which is what updated and deleted offers need.
+ * Size grows with the spread of salaries (a few hundred buckets for 1e4..1e8), not their number.
+ * Not thread-safe.
+ */
+public class SalarySketch {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount; // zero or negative values
+    private long count;
+    private double sum;
+
+    public void add(double value) {
+        adjust(value, 1);
+    }
+
+    public void remove(double value) {
+        adjust(value, -1);
+    }
+
+    public void merge(SalarySketch other) {
+        other.buckets.forEach((index, n) -> buckets.merge(index, n, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /** Value at quantile q in [0, 1] (0 = min, 1 = max); 0 when empty. */
+    public double quantile(double q) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return valueOf(bucket.getKey());
+            }
+        }
+        return valueOf(buckets.lastKey());
+    }
+
+    /**
+     * Counts per equal-width bin between the smallest and largest value.
+     * Each bucket is assigned whole to the bin holding its representative value.
+     */
+    public long[] histogram(int bins, double lower, double upper) {
+        long[] counts = new long[bins];
+        double width = (upper - lower) / bins;
+        if (zeroCount > 0) {
+            counts[0] += zeroCount;
+        }
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            int bin = width <= 0 ? 0 : (int) ((valueOf(bucket.getKey()) - lower) / width);
+            counts[Math.max(0, Math.min(bins - 1, bin))] += bucket.getValue();
+        }
+        return counts;
+    }
+
+    private void adjust(double value, long delta) {
+        count += delta;
+        sum += delta * value;
+        if (value <= 0) {
+            zeroCount += delta;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+        buckets.merge(index, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    // Midpoint (in relative terms) of bucket i, i.e. of (gamma^(i-1), gamma^i]
+    private static double valueOf(int index) {
+        return 2 * Math.pow(GAMMA, index) / (GAMMA + 1);
+    }
+}
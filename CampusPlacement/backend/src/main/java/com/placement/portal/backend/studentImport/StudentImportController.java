@@ -0,0 +1,34 @@
+package com.placement.portal.backend.studentImport;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin/students/import")
+public class StudentImportController {
+
+    private final StudentImportService studentImportService;
+
+    public StudentImportController(StudentImportService studentImportService) {
+        this.studentImportService = studentImportService;
+    }
+
+    // Body is a CSV file with a header row, or a JSON array of students
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StudentImportJob> importStudents(HttpServletRequest request) throws IOException {
+        boolean json = MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+        StudentImportJob job = studentImportService.submit(request.getInputStream(), json);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<StudentImportJob> getProgress(@PathVariable String jobId) {
+        return studentImportService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,12 @@
+package com.placement.portal.backend.studentImport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StudentImportError {
+    private int rowNumber;
+    private String email;
+    private String message;
+}
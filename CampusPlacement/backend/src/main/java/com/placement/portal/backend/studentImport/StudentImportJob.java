@@ -0,0 +1,84 @@
+package com.placement.portal.backend.studentImport;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one bulk import, polled through GET /api/admin/students/import/{id}.
+ * Counters are updated by the import thread and read by request threads.
+ */
+@Getter
+public class StudentImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+    private volatile Status status = Status.QUEUED;
+    private volatile String failureReason;
+
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger imported = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<StudentImportError> errors = Collections.synchronizedList(new ArrayList<>());
+
+    public StudentImportJob(String id) {
+        this.id = id;
+    }
+
+    public int getProcessedRows() {
+        return processed.get();
+    }
+
+    public int getImportedRows() {
+        return imported.get();
+    }
+
+    public int getFailedRows() {
+        return failed.get();
+    }
+
+    public List<StudentImportError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void rowsProcessed(int count) {
+        processed.addAndGet(count);
+    }
+
+    void rowsImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void rowFailed(StudentImportRow row, String message) {
+        failed.incrementAndGet();
+        errors.add(new StudentImportError(row.getRowNumber(), row.getEmail(), message));
+    }
+
+    void complete() {
+        status = Status.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void fail(String reason) {
+        failureReason = reason;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,178 @@
+package com.placement.portal.backend.studentImport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forward-only reader over a spooled import file, handing out rows in batches
+ * so memory stays bounded by the batch size rather than the file size.
+ */
+abstract class StudentImportReader implements Closeable {
+
+    protected int rowNumber;
+
+    static StudentImportReader open(Path file, boolean json, ObjectMapper objectMapper) throws IOException {
+        return json ? new Json(file, objectMapper) : new Csv(file);
+    }
+
+    /**
+     * Returns up to {@code size} rows, or an empty list at end of input.
+     */
+    List<StudentImportRow> nextBatch(int size) throws IOException {
+        List<StudentImportRow> batch = new ArrayList<>(size);
+        StudentImportRow row;
+        while (batch.size() < size && (row = next()) != null) {
+            row.setRowNumber(++rowNumber);
+            batch.add(row);
+        }
+        return batch;
+    }
+
+    protected abstract StudentImportRow next() throws IOException;
+
+    private static final class Json extends StudentImportReader {
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+
+        Json(Path file, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(file.toFile());
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IOException("JSON import must be an array of students");
+            }
+        }
+
+        // Reads the element as a tree first, so a badly typed value fails only its own row
+        @Override
+        protected StudentImportRow next() throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            JsonNode node = parser.readValueAsTree();
+            try {
+                return objectMapper.treeToValue(node, StudentImportRow.class);
+            } catch (JsonMappingException e) {
+                StudentImportRow row = new StudentImportRow();
+                JsonNode email = node.get("email");
+                row.setEmail(email != null && email.isTextual() ? email.asText() : null);
+                String field = fieldOf(e);
+                row.setParseError(field != null ? "Invalid value for " + field : "Invalid student object");
+                return row;
+            }
+        }
+
+        private static String fieldOf(JsonMappingException e) {
+            List<JsonMappingException.Reference> path = e.getPath();
+            return path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class Csv extends StudentImportReader {
+        private final BufferedReader reader;
+        private final String[] header;
+
+        Csv(Path file) throws IOException {
+            this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                reader.close();
+                throw new IOException("CSV import is empty");
+            }
+            this.header = split(headerLine.replace("\uFEFF", "")).toArray(String[]::new);
+        }
+
+        @Override
+        protected StudentImportRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            List<String> values = split(line);
+            Map<String, String> byName = new HashMap<>();
+            for (int i = 0; i < header.length && i < values.size(); i++) {
+                byName.put(header[i].trim(), values.get(i).trim());
+            }
+
+            StudentImportRow row = new StudentImportRow();
+            row.setName(blankToNull(byName.get("name")));
+            row.setEmail(blankToNull(byName.get("email")));
+            row.setPassword(blankToNull(byName.get("password")));
+            row.setEnrollmentNumber(blankToNull(byName.get("enrollmentNumber")));
+            row.setBranch(blankToNull(byName.get("branch")));
+            row.setDegree(blankToNull(byName.get("degree")));
+            row.setResumeLink(blankToNull(byName.get("resumeLink")));
+            row.setSkills(blankToNull(byName.get("skills")));
+            try {
+                String cgpa = blankToNull(byName.get("cgpa"));
+                row.setCgpa(cgpa != null ? Double.valueOf(cgpa) : null);
+                String passingYear = blankToNull(byName.get("passingYear"));
+                row.setPassingYear(passingYear != null ? Integer.valueOf(passingYear) : null);
+            } catch (NumberFormatException e) {
+                row.setParseError("cgpa and passingYear must be numbers");
+            }
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        // Splits one CSV line, honouring double-quoted fields and "" escapes
+        private static List<String> split(String line) {
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+
+        private static String blankToNull(String value) {
+            return value == null || value.isBlank() ? null : value;
+        }
+    }
+}
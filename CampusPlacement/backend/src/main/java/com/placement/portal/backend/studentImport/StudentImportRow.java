@@ -0,0 +1,40 @@
+package com.placement.portal.backend.studentImport;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One student in a bulk import file. CSV headers and JSON keys use these field names.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StudentImportRow {
+
+    @JsonIgnore
+    private int rowNumber;
+
+    private String name;
+    private String email;
+    private String password;
+
+    private String enrollmentNumber;
+    private String branch;
+    private String degree;
+    private Double cgpa;
+    private Integer passingYear;
+    private String resumeLink;
+    private String skills;
+
+    // Set by the reader when a value in this row cannot be parsed
+    @JsonIgnore
+    private String parseError;
+
+    // Filled in by the import job once the password has been hashed
+    @JsonIgnore
+    private String encodedPassword;
+}
@@ -0,0 +1,275 @@
+package com.placement.portal.backend.studentImport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.portal.backend.auth.Role;
+import com.placement.portal.backend.auth.UserRepository;
+import com.placement.portal.backend.placementStats.PlacementStatsService;
+import com.placement.portal.backend.reportSummery.ReportCacheInvalidator;
+import com.placement.portal.backend.reportSummery.ReportSource;
+import com.placement.portal.backend.util.IdSequenceAllocator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Bulk onboarding of students (users + user_roles + student_profiles).
+ *
+ * The upload is spooled to a temp file and processed on a single background
+ * thread in batches: emails are de-duplicated against the file and the DB one
+ * batch at a time, passwords are hashed on a dedicated pool, and each batch is
+ * written with JDBC batch inserts in its own transaction. A failed batch only
+ * fails its own rows.
+ */
+@Service
+public class StudentImportService {
+
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSequenceAllocator idSequenceAllocator;
+    private final PlacementStatsService placementStatsService;
+    private final ReportCacheInvalidator reportCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService hashingExecutor;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    // One import at a time; further uploads wait in QUEUED
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("student-import-"));
+    private final Map<String, StudentImportJob> jobs = new ConcurrentHashMap<>();
+    private final Deque<String> jobOrder = new ConcurrentLinkedDeque<>();
+
+    public StudentImportService(UserRepository userRepository,
+                                PasswordEncoder passwordEncoder,
+                                JdbcTemplate jdbcTemplate,
+                                IdSequenceAllocator idSequenceAllocator,
+                                PlacementStatsService placementStatsService,
+                                ReportCacheInvalidator reportCacheInvalidator,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("importHashingExecutor") ExecutorService hashingExecutor,
+                                ObjectMapper objectMapper,
+                                @Value("${app.student-import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idSequenceAllocator = idSequenceAllocator;
+        this.placementStatsService = placementStatsService;
+        this.reportCacheInvalidator = reportCacheInvalidator;
+        this.transactionTemplate = transactionTemplate;
+        this.hashingExecutor = hashingExecutor;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public StudentImportJob submit(InputStream body, boolean json) throws IOException {
+        Path file = Files.createTempFile("student-import-", json ? ".json" : ".csv");
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        StudentImportJob job = new StudentImportJob(UUID.randomUUID().toString());
+        jobs.put(job.getId(), job);
+        jobOrder.addLast(job.getId());
+        pruneFinishedJobs();
+
+        runner.execute(() -> run(job, file, json));
+        return job;
+    }
+
+    public Optional<StudentImportJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void run(StudentImportJob job, Path file, boolean json) {
+        job.start();
+        try (StudentImportReader reader = StudentImportReader.open(file, json, objectMapper)) {
+            Set<String> seenEmails = new HashSet<>();
+            List<StudentImportRow> batch;
+            while (!(batch = reader.nextBatch(batchSize)).isEmpty()) {
+                importBatch(job, batch, seenEmails);
+                job.rowsProcessed(batch.size());
+            }
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void importBatch(StudentImportJob job, List<StudentImportRow> batch, Set<String> seenEmails) {
+        List<StudentImportRow> valid = new ArrayList<>(batch.size());
+        for (StudentImportRow row : batch) {
+            String error = validate(row);
+            if (error != null) {
+                job.rowFailed(row, error);
+            } else if (!seenEmails.add(row.getEmail())) {
+                job.rowFailed(row, "Duplicate email in file");
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // One IN query per batch instead of a findByEmail per student. MySQL's collation matches
+        // case-insensitively but returns emails as stored, so lowercase them like the rows
+        Set<String> existing = new HashSet<>();
+        for (String email : userRepository.findExistingEmails(valid.stream().map(StudentImportRow::getEmail).toList())) {
+            existing.add(email.toLowerCase(Locale.ROOT));
+        }
+        List<StudentImportRow> fresh = new ArrayList<>(valid.size());
+        for (StudentImportRow row : valid) {
+            if (existing.contains(row.getEmail())) {
+                job.rowFailed(row, "Email already exists");
+            } else {
+                fresh.add(row);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        hashPasswords(fresh);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(fresh));
+            job.rowsImported(fresh.size());
+        } catch (Exception e) {
+            fresh.forEach(row -> job.rowFailed(row, "Batch insert failed: " + e.getMessage()));
+        }
+    }
+
+    private void hashPasswords(List<StudentImportRow> rows) {
+        List<Future<?>> futures = new ArrayList<>(rows.size());
+        for (StudentImportRow row : rows) {
+            futures.add(hashingExecutor.submit(() -> row.setEncodedPassword(passwordEncoder.encode(row.getPassword()))));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Student import interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private void insert(List<StudentImportRow> rows) {
+        // Ids come from the same pooled sequence Hibernate uses, reserved once per batch
+        long firstUserId = idSequenceAllocator.reserve("users", rows.size());
+        long firstProfileId = idSequenceAllocator.reserve("student_profiles", rows.size());
+        Map<String, Long> idsByEmail = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            idsByEmail.put(rows.get(i).getEmail(), firstUserId + i);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, name, email, password, enabled, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, idsByEmail.get(row.getEmail()));
+                    ps.setString(2, row.getName());
+                    ps.setString(3, row.getEmail());
+                    ps.setString(4, row.getEncodedPassword());
+                    ps.setBoolean(5, true);
+                    ps.setTimestamp(6, now);
+                });
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_roles (user_id, roles) VALUES (?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, idsByEmail.get(row.getEmail()));
+                    ps.setString(2, Role.STUDENT.name());
+                });
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO student_profiles (id, enrollment_number, branch, degree, cgpa, passing_year, resume_link, skills, user_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    long userId = idsByEmail.get(row.getEmail());
+                    ps.setLong(1, firstProfileId + (userId - firstUserId));
+                    ps.setString(2, row.getEnrollmentNumber());
+                    ps.setString(3, row.getBranch());
+                    ps.setString(4, row.getDegree());
+                    ps.setObject(5, row.getCgpa(), Types.DOUBLE);
+                    ps.setObject(6, row.getPassingYear(), Types.INTEGER);
+                    ps.setString(7, row.getResumeLink());
+                    ps.setString(8, row.getSkills());
+                    ps.setLong(9, userId);
+                });
+
+        // These rows skip the JPA listeners, so count them in the placement stats here
+        Map<Long, String> branchByProfileId = new HashMap<>();
+        for (StudentImportRow row : rows) {
+            branchByProfileId.put(firstProfileId + (idsByEmail.get(row.getEmail()) - firstUserId), row.getBranch());
+        }
+        placementStatsService.studentsAdded(branchByProfileId);
+        reportCacheInvalidator.sourceChanged(ReportSource.STUDENTS);
+    }
+
+    private String validate(StudentImportRow row) {
+        if (row.getParseError() != null) {
+            return row.getParseError();
+        }
+        if (row.getName() == null || row.getName().isBlank()) {
+            return "Name is required";
+        }
+        if (row.getEmail() == null || !row.getEmail().contains("@")) {
+            return "A valid email is required";
+        }
+        if (row.getPassword() == null || row.getPassword().isBlank()) {
+            return "Password is required";
+        }
+        if (row.getCgpa() != null && (row.getCgpa() < 0 || row.getCgpa() > 10)) {
+            return "CGPA must be between 0 and 10";
+        }
+        row.setEmail(row.getEmail().trim().toLowerCase(Locale.ROOT));
+        return null;
+    }
+
+    // Keeps the last few finished jobs around for polling; running ones are never dropped
+    private void pruneFinishedJobs() {
+        Iterator<String> it = jobOrder.iterator();
+        while (jobOrder.size() > MAX_RETAINED_JOBS && it.hasNext()) {
+            String id = it.next();
+            StudentImportJob old = jobs.get(id);
+            if (old == null || old.isFinished()) {
+                it.remove();
+                jobs.remove(id);
+            }
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package com.placement.portal.backend.studentProfile;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.auth.UserIdentityInvalidator;
+import com.placement.portal.backend.eligibility.EligibilityChangeListener;
+import com.placement.portal.backend.placementStats.PlacementStatsListener;
+import com.placement.portal.backend.reportSummery.ReportCacheInvalidator;
+import com.placement.portal.backend.salaryDistribution.SalaryDistributionListener;
+import com.placement.portal.backend.util.IdSequenceAllocator;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "student_profiles")
+@EntityListeners({UserIdentityInvalidator.class, EligibilityChangeListener.class, PlacementStatsListener.class,
+        ReportCacheInvalidator.class, SalaryDistributionListener.class})
 public class StudentProfile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "student_profiles_id")
+    @TableGenerator(name = "student_profiles_id", table = IdSequenceAllocator.TABLE, pkColumnValue = "student_profiles",
+            allocationSize = IdSequenceAllocator.ALLOCATION_SIZE)
     private Long id;
 
     private String enrollmentNumber;
@@ -24,6 +35,14 @@ public class StudentProfile {
     @JoinColumn(name = "user_id", unique = true)
     private User user;
 
+    // Branch as last counted in the placement stats; null until counted
+    @Transient
+    private String statsBranch;
+
+    // Branch and passing year as last reported to the salary distribution; null until loaded or written
+    @Transient
+    private String salaryGroupKey;
+
     public Long getId() {
         return id;
     }
@@ -95,4 +114,22 @@ public class StudentProfile {
     public void setUser(User user) {
         this.user = user;
     }
+
+    @JsonIgnore
+    public String getStatsBranch() {
+        return statsBranch;
+    }
+
+    public void setStatsBranch(String statsBranch) {
+        this.statsBranch = statsBranch;
+    }
+
+    @JsonIgnore
+    public String getSalaryGroupKey() {
+        return salaryGroupKey;
+    }
+
+    public void setSalaryGroupKey(String salaryGroupKey) {
+        this.salaryGroupKey = salaryGroupKey;
+    }
 }
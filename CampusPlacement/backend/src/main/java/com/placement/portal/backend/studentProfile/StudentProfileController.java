@@ -1,12 +1,12 @@
 package com.placement.portal.backend.studentProfile;
 
+import com.placement.portal.backend.auth.AuthenticatedActor;
 import com.placement.portal.backend.auth.User;
 import com.placement.portal.backend.auth.UserRepository;
-import com.placement.portal.backend.company.Company;
 import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
-import com.placement.portal.backend.util.JwtUtil;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,18 +18,15 @@ import java.util.Optional;
 public class StudentProfileController {
 
     private final StudentProfileService profileService;
-    private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
     private final OfficerCompanyService officerCompanyService;
 
     public StudentProfileController(
             StudentProfileService profileService,
-            JwtUtil jwtUtil,
             UserRepository userRepository,
             OfficerCompanyService officerCompanyService
     ) {
         this.profileService = profileService;
-        this.jwtUtil = jwtUtil;
         this.userRepository = userRepository;
         this.officerCompanyService = officerCompanyService;
     }
@@ -39,10 +36,11 @@ public class StudentProfileController {
     @PreAuthorize("hasRole('STUDENT')")
     public ResponseEntity<StudentProfile> saveProfile(
             @RequestBody StudentProfileDto dto,
-            @RequestHeader("Authorization") String authHeader
+            @AuthenticationPrincipal AuthenticatedActor actor
     ) {
-        String email = jwtUtil.extractEmail(authHeader.substring(7));
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = actor.getUserId() != null
+                ? userRepository.findById(actor.getUserId())
+                : Optional.empty();
 
         if (userOpt.isPresent()) {
             User user = userOpt.get();
@@ -59,12 +57,9 @@ public class StudentProfileController {
     // STUDENT: Get own profile
     @GetMapping("/me")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<?> getOwnProfile(@RequestHeader("Authorization") String authHeader) {
-        String email = jwtUtil.extractEmail(authHeader.substring(7));
-        Optional<User> userOpt = userRepository.findByEmail(email);
-
-        if (userOpt.isPresent()) {
-            Optional<StudentProfile> profile = profileService.getByUserId(userOpt.get().getId());
+    public ResponseEntity<?> getOwnProfile(@AuthenticationPrincipal AuthenticatedActor actor) {
+        if (actor.getUserId() != null) {
+            Optional<StudentProfile> profile = profileService.getByUserId(actor.getUserId());
             return ResponseEntity.ok(profile.orElse(null)); // 200 with null if not found
         }
         return ResponseEntity.badRequest().body("User not found");
@@ -89,9 +84,8 @@ public class StudentProfileController {
     // PLACEMENT OFFICER: View students of assigned companies
     @GetMapping("/officer")
     @PreAuthorize("hasRole('PLACEMENT_OFFICER')")
-    public ResponseEntity<List<StudentProfile>> getStudentsForOfficer(@RequestHeader("Authorization") String token) {
-        List<Company> assignedCompanies = officerCompanyService.getAssignedCompanies(token);
-        List<Long> companyIds = assignedCompanies.stream().map(Company::getId).toList();
+    public ResponseEntity<List<StudentProfile>> getStudentsForOfficer(@AuthenticationPrincipal AuthenticatedActor actor) {
+        List<Long> companyIds = officerCompanyService.getAssignedCompanyIds(actor);
         List<StudentProfile> students = profileService.getStudentsForCompanies(companyIds);
         return ResponseEntity.ok(students);
     }
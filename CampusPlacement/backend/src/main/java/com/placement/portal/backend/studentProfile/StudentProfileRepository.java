@@ -1,10 +1,14 @@
 package com.placement.portal.backend.studentProfile;
 
-import com.placement.portal.backend.reportSummery.DepartmentSummeryDto;
-import com.placement.portal.backend.reportSummery.StudentSummeryDto;
+import com.placement.portal.backend.eligibility.EligibleCandidate;
+import com.placement.portal.backend.eligibility.StudentEligibilityRow;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,22 +18,26 @@ public interface StudentProfileRepository extends JpaRepository<StudentProfile,
     boolean existsByUserId(Long userId);
     Optional<StudentProfile> findByUserEmail(String email);
 
-    // Department-wise placement stats
+    List<StudentProfile> findByUser_Company_IdIn(List<Long> companyIds);
+
+    // SELECT ... FOR UPDATE on the profile row; serialises one student's offer acceptances across instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sp.id FROM StudentProfile sp WHERE sp.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Query("SELECT new com.placement.portal.backend.eligibility.StudentEligibilityRow(sp.id, sp.cgpa, sp.branch, sp.degree, sp.passingYear, sp.skills) FROM StudentProfile sp")
+    List<StudentEligibilityRow> findAllEligibilityRows();
+
+    @Query("SELECT new com.placement.portal.backend.eligibility.StudentEligibilityRow(sp.id, sp.cgpa, sp.branch, sp.degree, sp.passingYear, sp.skills) FROM StudentProfile sp WHERE sp.id IN :ids")
+    List<StudentEligibilityRow> findEligibilityRowsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("""
-        SELECT new com.placement.portal.backend.reportSummery.DepartmentSummeryDto(
-            sp.branch,
-            COUNT(sp),
-            COUNT(DISTINCT jo.id),
-            COALESCE(AVG(jo.salary), 0)
-        )
-        FROM StudentProfile sp
-        LEFT JOIN JobApplication ja ON ja.student.id = sp.id
-        LEFT JOIN JobOffer jo ON jo.jobApplication.id = ja.id
-        GROUP BY sp.branch
+        SELECT new com.placement.portal.backend.eligibility.EligibleCandidate(
+            sp.id, u.name, u.email, sp.branch, sp.degree, sp.cgpa, sp.passingYear)
+        FROM StudentProfile sp JOIN sp.user u
+        WHERE sp.id IN :ids
     """)
-    List<DepartmentSummeryDto> findDepartmentPlacementStats();
-
-    List<StudentProfile> findByUser_Company_IdIn(List<Long> companyIds);
+    List<EligibleCandidate> findEligibleCandidates(@Param("ids") Collection<Long> ids);
 
 
 }
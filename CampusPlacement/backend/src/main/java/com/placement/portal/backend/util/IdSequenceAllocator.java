@@ -0,0 +1,46 @@
+package com.placement.portal.backend.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Entities take their ids from the {@value #TABLE} table (one row per entity
+ * table) through a pooled {@code @TableGenerator}, so Hibernate reserves
+ * {@value #ALLOCATION_SIZE} ids per round trip and can batch inserts, which
+ * IDENTITY columns prevent. Code that inserts with plain JDBC must reserve its
+ * ids here too, otherwise it would collide with blocks Hibernate already holds.
+ *
+ * The stored value is the last id handed out (hibernate.id.generator.stored_last_used)
+ * and blocks start right after it (pooled-lo optimizer); rows are seeded from
+ * MAX(id) of each table by db/id-sequences.sql.
+ */
+@Component
+public class IdSequenceAllocator {
+
+    public static final String TABLE = "id_sequences";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reserves {@code count} consecutive ids for {@code sequenceName} and returns the first.
+     * Runs in its own transaction, like Hibernate's generator, so the row lock is held only briefly.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String sequenceName, int count) {
+        Long lastUsed = jdbcTemplate.query(
+                "SELECT next_val FROM " + TABLE + " WHERE sequence_name = ? FOR UPDATE",
+                rs -> rs.next() ? rs.getLong(1) : null, sequenceName);
+        if (lastUsed == null) {
+            throw new RuntimeException("No id sequence row for " + sequenceName);
+        }
+        jdbcTemplate.update("UPDATE " + TABLE + " SET next_val = ? WHERE sequence_name = ?", lastUsed + count, sequenceName);
+        return lastUsed + 1;
+    }
+}
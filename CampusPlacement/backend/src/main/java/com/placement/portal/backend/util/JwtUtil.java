@@ -16,6 +16,15 @@ public class JwtUtil {
 
     private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
 
+    // Parsers are immutable and thread-safe, so build it once instead of per call
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    private final VerifiedTokenCache tokenCache;
+
+    public JwtUtil(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
     public String generateToken(String email, List<String> roles) {
         return Jwts.builder()
                 .setSubject(email)
@@ -26,19 +35,32 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of the token and returns its claims.
+     * Callers that need more than one value from the token should call this
+     * once and read the claims, rather than calling the extract methods.
+     * Tokens verified before are served from {@link VerifiedTokenCache} until they expire.
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        tokenCache.put(token, claims);
+        return claims;
+    }
+
     public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
 
-    @SuppressWarnings("unchecked")
     public List<String> extractRoles(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return extractRoles(parseClaims(token));
+    }
+
+    public List<String> extractRoles(Claims claims) {
         Object roles = claims.get("roles");
 
         if (roles instanceof List<?>) {
@@ -62,7 +84,7 @@ public class JwtUtil {
 
     public boolean isTokenValid(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (JwtException e) {
             return false;
@@ -0,0 +1,39 @@
+package com.placement.portal.backend.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * One lock per key, created on demand and dropped when nobody holds or waits
+ * for it. Callers on different keys never block each other.
+ */
+public class KeyedLocks<K> {
+
+    private final ConcurrentHashMap<K, Entry> locks = new ConcurrentHashMap<>();
+
+    public <T> T withLock(K key, Supplier<T> action) {
+        Entry entry = locks.compute(key, (k, existing) -> {
+            Entry e = existing != null ? existing : new Entry();
+            e.users++;
+            return e;
+        });
+        entry.lock.lock();
+        try {
+            return action.get();
+        } finally {
+            entry.lock.unlock();
+            locks.computeIfPresent(key, (k, e) -> --e.users == 0 ? null : e);
+        }
+    }
+
+    int size() {
+        return locks.size();
+    }
+
+    // users is only touched inside compute/computeIfPresent, which are atomic per key
+    private static final class Entry {
+        final ReentrantLock lock = new ReentrantLock();
+        int users;
+    }
+}
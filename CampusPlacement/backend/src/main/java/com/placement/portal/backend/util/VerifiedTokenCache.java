@@ -0,0 +1,146 @@
+package com.placement.portal.backend.util;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded LRU cache of claims that already passed signature verification.
+ * Entries are keyed by the SHA-256 digest of the token (raw tokens are never kept)
+ * and are dropped once the token's own {@code exp} is reached, so a hit can skip
+ * both the HMAC check and the JSON decoding.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final int maxSize;
+    private final Map<ByteBuffer, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${app.jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Entry> eldest) {
+                if (size() > VerifiedTokenCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached claims for this token, or null if it was never verified
+     * or has expired since.
+     */
+    public Claims get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        ByteBuffer key = digest(token);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.incrementAndGet();
+                return entry.claims;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores claims that have just been verified. Tokens without an expiry are not
+     * cached, since there would be nothing bounding how long they stay trusted.
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (maxSize <= 0 || expiration == null) {
+            return;
+        }
+        ByteBuffer key = digest(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(claims, expiration.getTime()));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public double hitRatio() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.cache.size", this, VerifiedTokenCache::size)
+                .description("Verified tokens currently cached")
+                .register(registry);
+        Gauge.builder("jwt.cache.hit.ratio", this, VerifiedTokenCache::hitRatio)
+                .description("Share of token verifications served from the cache")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, AtomicLong::get)
+                .description("Entries dropped for size or expiry")
+                .register(registry);
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest md = SHA_256.get();
+        md.reset();
+        return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private record Entry(Claims claims, long expiresAt) {
+    }
+}
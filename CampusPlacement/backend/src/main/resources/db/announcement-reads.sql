@@ -0,0 +1,10 @@
+-- Who has read or dismissed an announcement: one row per (announcement, user), written with
+-- INSERT IGNORE / ON DUPLICATE KEY by AnnouncementReadRepository, so read marks never lock the announcement.
+CREATE TABLE IF NOT EXISTS announcement_reads (
+    announcement_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    read_at DATETIME(6) NOT NULL,
+    dismissed BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (announcement_id, user_id),
+    KEY idx_announcement_reads_user (user_id, announcement_id)
+);
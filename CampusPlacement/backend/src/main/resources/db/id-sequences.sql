@@ -0,0 +1,40 @@
+-- Seeds the pooled id generator (IdSequenceAllocator) from the ids already in each table.
+-- Runs after Hibernate's schema update on every start. When Hibernate creates id_sequences it
+-- already inserts a starting row per sequence, so rows are raised to MAX(id) rather than only
+-- inserted when missing; GREATEST never moves a sequence backwards.
+-- next_val holds the last id handed out, so the first block starts at MAX(id) + 1.
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'users', COALESCE(MAX(id), 0) FROM users
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'companies', COALESCE(MAX(id), 0) FROM companies
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'student_profiles', COALESCE(MAX(id), 0) FROM student_profiles
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'placement_officer', COALESCE(MAX(id), 0) FROM placement_officer
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'officer_company', COALESCE(MAX(id), 0) FROM officer_company
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'job_openings', COALESCE(MAX(id), 0) FROM job_openings
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'job_application', COALESCE(MAX(id), 0) FROM job_application
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'job_offers', COALESCE(MAX(id), 0) FROM job_offers
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'interview_schedules', COALESCE(MAX(id), 0) FROM interview_schedules
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'onboarding', COALESCE(MAX(id), 0) FROM onboarding
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'notifications', COALESCE(MAX(id), 0) FROM notifications
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'feedback', COALESCE(MAX(id), 0) FROM feedback
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'help_request', COALESCE(MAX(id), 0) FROM help_request
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'help_article', COALESCE(MAX(id), 0) FROM help_article
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'announcements', COALESCE(MAX(id), 0) FROM announcements
+    ON DUPLICATE KEY UPDATE next_val = GREATEST(COALESCE(next_val, 0), VALUES(next_val));
@@ -0,0 +1,2 @@
+-- Rows created before job_offers.version existed start at version 0
+UPDATE job_offers SET version = 0 WHERE version IS NULL;
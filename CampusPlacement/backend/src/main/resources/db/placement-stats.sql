@@ -0,0 +1,26 @@
+-- Placement report aggregates, maintained by PlacementStatsService in the same transaction
+-- as the offer / student profile change; rebuilt from scratch by POST /api/admin/placement-stats/rebuild.
+CREATE TABLE IF NOT EXISTS placement_student_stats (
+    student_id BIGINT NOT NULL PRIMARY KEY,
+    branch VARCHAR(255) NOT NULL,
+    offers INT NOT NULL,
+    salary_sum DECIMAL(19, 2) NOT NULL,
+    salary_count INT NOT NULL,
+    accepted INT NOT NULL,
+    best_salary DECIMAL(19, 2),
+    best_company VARCHAR(255)
+);
+
+-- scope OVERALL (group_key ''), BRANCH (group_key = branch, '' for none) or COMPANY (group_key = company id)
+CREATE TABLE IF NOT EXISTS placement_group_stats (
+    scope VARCHAR(16) NOT NULL,
+    group_key VARCHAR(255) NOT NULL,
+    name VARCHAR(255),
+    students INT NOT NULL,
+    students_with_offers INT NOT NULL,
+    placed_students INT NOT NULL,
+    offers INT NOT NULL,
+    salary_sum DECIMAL(19, 2) NOT NULL,
+    salary_count INT NOT NULL,
+    PRIMARY KEY (scope, group_key)
+);
@@ -0,0 +1,40 @@
+package com.placement.portal.backend.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserIdentityServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserIdentityService service = new UserIdentityService(userRepository, 100);
+
+    @Test
+    void cachesResolvedIdentity() {
+        when(userRepository.findIdentityByEmail("hr@acme.com"))
+                .thenReturn(Optional.of(new UserIdentity(1L, 7L, null, null)));
+
+        service.resolve("hr@acme.com");
+        service.resolve("hr@acme.com");
+
+        verify(userRepository, times(1)).findIdentityByEmail("hr@acme.com");
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotCached() {
+        // The user is moved to company 8 while the first load is still reading company 7
+        when(userRepository.findIdentityByEmail("hr@acme.com")).thenAnswer(inv -> {
+            service.invalidateUser(1L);
+            return Optional.of(new UserIdentity(1L, 7L, null, null));
+        }).thenReturn(Optional.of(new UserIdentity(1L, 8L, null, null)));
+
+        assertEquals(7L, service.resolve("hr@acme.com").getCompanyId());
+        assertEquals(0, service.size());
+        assertEquals(8L, service.resolve("hr@acme.com").getCompanyId());
+        assertEquals(8L, service.resolve("hr@acme.com").getCompanyId());
+        verify(userRepository, times(2)).findIdentityByEmail("hr@acme.com");
+    }
+}
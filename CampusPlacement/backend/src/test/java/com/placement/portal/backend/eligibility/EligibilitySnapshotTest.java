@@ -0,0 +1,74 @@
+package com.placement.portal.backend.eligibility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EligibilitySnapshotTest {
+
+    private static final String[] BRANCHES = {"CSE", "ECE", "Mechanical", "Civil", null};
+    private static final String[] DEGREES = {"B.Tech", "M.Tech", "MCA"};
+    private static final String[] SKILLS = {"java", "python", "sql", "react", "spring"};
+
+    @Test
+    void singleStudentRulesReportEachUnmetCondition() {
+        EligibilityRules rules = new EligibilityRules();
+        rules.setMinCgpa(7.5);
+        rules.setAllowedBranches("CSE, ECE");
+        rules.setRequiredSkills("Java;SQL");
+        CompiledEligibility compiled = CompiledEligibility.compile(rules);
+
+        assertTrue(compiled.isEligible(new StudentEligibilityRow(1L, 8.0, "cse", "B.Tech", 2025, "java, sql, react")));
+        assertEquals(List.of("CGPA below 7.5", "Branch not eligible", "Missing required skills"),
+                compiled.unmet(new StudentEligibilityRow(2L, null, "Civil", "B.Tech", 2025, "java")));
+        assertTrue(CompiledEligibility.compile(null).isEligible(new StudentEligibilityRow(3L, null, null, null, null, null)));
+    }
+
+    @Test
+    void bulkEvaluationMatchesPerStudentRules() {
+        List<StudentEligibilityRow> students = randomStudents(12_000, new Random(42));
+        EligibilitySnapshot snapshot = new EligibilitySnapshot(students);
+
+        EligibilityRules rules = new EligibilityRules();
+        rules.setMinCgpa(7.0);
+        rules.setAllowedBranches("cse,ece");
+        rules.setAllowedDegrees("B.Tech");
+        rules.setMinPassingYear(2025);
+        rules.setMaxPassingYear(2026);
+        rules.setRequiredSkills("java");
+        CompiledEligibility compiled = CompiledEligibility.compile(rules);
+
+        BitSet eligible = snapshot.evaluate(compiled);
+
+        int expected = 0;
+        for (int i = 0; i < students.size(); i++) {
+            boolean one = compiled.isEligible(students.get(i));
+            assertEquals(one, eligible.get(i), "row " + i);
+            if (one) expected++;
+        }
+        assertTrue(expected > 0);
+        assertEquals(expected, eligible.cardinality());
+    }
+
+    private static List<StudentEligibilityRow> randomStudents(int count, Random random) {
+        List<StudentEligibilityRow> rows = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            StringBuilder skills = new StringBuilder();
+            for (String skill : SKILLS) {
+                if (random.nextBoolean()) skills.append(skill).append(',');
+            }
+            rows.add(new StudentEligibilityRow(id,
+                    random.nextInt(10) == 0 ? null : 5 + random.nextDouble() * 5,
+                    BRANCHES[random.nextInt(BRANCHES.length)],
+                    DEGREES[random.nextInt(DEGREES.length)],
+                    2023 + random.nextInt(5),
+                    skills.toString()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,103 @@
+package com.placement.portal.backend.eligibility;
+
+import com.placement.portal.backend.jobOpening.JobOpening;
+import com.placement.portal.backend.jobOpening.JobOpeningRepository;
+import com.placement.portal.backend.jobOpening.JobOpeningStatus;
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import com.placement.portal.backend.util.CursorPage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EligibleOpeningsFeedTest {
+
+    private final JobOpeningRepository jobOpeningRepository = mock(JobOpeningRepository.class);
+    private final StudentProfileRepository studentProfileRepository = mock(StudentProfileRepository.class);
+    private final EligibilityService eligibilityService = mock(EligibilityService.class);
+    private final EligibleOpeningsFeed feed = new EligibleOpeningsFeed(jobOpeningRepository, studentProfileRepository, eligibilityService);
+
+    @Test
+    void feedIsPagedNewestFirstAndFollowsOpeningChanges() {
+        when(jobOpeningRepository.findWithCompanyByStatus(JobOpeningStatus.OPEN)).thenReturn(List.of(
+                job(1L, JobOpeningStatus.OPEN, null), job(2L, JobOpeningStatus.OPEN, null),
+                job(3L, JobOpeningStatus.OPEN, null), job(4L, JobOpeningStatus.OPEN, 9.0)));
+        when(studentProfileRepository.findEligibilityRowsByIdIn(List.of(7L)))
+                .thenReturn(List.of(new StudentEligibilityRow(7L, 8.0, "CSE", "B.Tech", 2025, "java")));
+
+        CursorPage<OpeningCard> first = feed.getFeed(7L, null, 2);
+        assertEquals(List.of(3L, 2L), first.getItems().stream().map(OpeningCard::id).toList());
+        CursorPage<OpeningCard> second = feed.getFeed(7L, first.getNextCursor(), 2);
+        assertEquals(List.of(1L), second.getItems().stream().map(OpeningCard::id).toList());
+        assertNull(second.getNextCursor());
+
+        // New opening the student qualifies for is added without recomputing the student
+        when(jobOpeningRepository.findWithCompanyById(5L)).thenReturn(Optional.of(job(5L, JobOpeningStatus.OPEN, null)));
+        when(eligibilityService.eligibleStudentIds(any())).thenReturn(Set.of(7L));
+        feed.openingChanged(5L);
+        // Closing an opening removes it
+        when(jobOpeningRepository.findWithCompanyById(2L)).thenReturn(Optional.of(job(2L, JobOpeningStatus.CLOSED, null)));
+        feed.openingChanged(2L);
+
+        assertEquals(List.of(5L, 3L, 1L), feed.getFeed(7L, null, 10).getItems().stream().map(OpeningCard::id).toList());
+        verify(studentProfileRepository, times(1)).findEligibilityRowsByIdIn(List.of(7L));
+    }
+
+    @Test
+    void setComputedDuringAnOpeningChangeIsNotKept() {
+        when(jobOpeningRepository.findWithCompanyByStatus(JobOpeningStatus.OPEN))
+                .thenReturn(List.of(job(1L, JobOpeningStatus.OPEN, null)));
+        when(studentProfileRepository.findEligibilityRowsByIdIn(List.of(8L)))
+                .thenReturn(List.of(new StudentEligibilityRow(8L, 8.0, "CSE", "B.Tech", 2025, "java")));
+        feed.getFeed(8L, null, 10);
+
+        // Opening 2 is published while student 7's set is being computed from the old openings
+        when(jobOpeningRepository.findWithCompanyById(2L)).thenReturn(Optional.of(job(2L, JobOpeningStatus.OPEN, null)));
+        when(eligibilityService.eligibleStudentIds(any())).thenReturn(Set.of(7L, 8L));
+        when(studentProfileRepository.findEligibilityRowsByIdIn(List.of(7L))).thenAnswer(inv -> {
+            feed.openingChanged(2L);
+            return List.of(new StudentEligibilityRow(7L, 8.0, "CSE", "B.Tech", 2025, "java"));
+        }).thenReturn(List.of(new StudentEligibilityRow(7L, 8.0, "CSE", "B.Tech", 2025, "java")));
+
+        feed.getFeed(7L, null, 10);
+
+        assertEquals(List.of(2L, 1L), feed.getFeed(7L, null, 10).getItems().stream().map(OpeningCard::id).toList());
+        verify(studentProfileRepository, times(2)).findEligibilityRowsByIdIn(List.of(7L));
+    }
+
+    @Test
+    void openingPublishedDuringTheLoadIsApplied() {
+        // the load reads the OPEN openings before opening 2 commits
+        when(jobOpeningRepository.findWithCompanyByStatus(JobOpeningStatus.OPEN)).thenAnswer(inv -> {
+            feed.openingChanged(2L);
+            return List.of(job(1L, JobOpeningStatus.OPEN, null));
+        });
+        when(jobOpeningRepository.findWithCompanyById(2L)).thenReturn(Optional.of(job(2L, JobOpeningStatus.OPEN, null)));
+        when(eligibilityService.eligibleStudentIds(any())).thenReturn(Set.of(7L));
+        when(studentProfileRepository.findEligibilityRowsByIdIn(List.of(7L)))
+                .thenReturn(List.of(new StudentEligibilityRow(7L, 8.0, "CSE", "B.Tech", 2025, "java")));
+
+        assertEquals(List.of(2L, 1L), feed.getFeed(7L, null, 10).getItems().stream().map(OpeningCard::id).toList());
+        verify(jobOpeningRepository).findWithCompanyById(2L);
+    }
+
+    private static JobOpening job(Long id, JobOpeningStatus status, Double minCgpa) {
+        JobOpening job = new JobOpening();
+        job.setId(id);
+        job.setTitle("Job " + id);
+        job.setStatus(status);
+        job.setApplicationDeadline(LocalDate.now().plusDays(3));
+        if (minCgpa != null) {
+            EligibilityRules rules = new EligibilityRules();
+            rules.setMinCgpa(minCgpa);
+            job.setEligibilityRules(rules);
+        }
+        return job;
+    }
+}
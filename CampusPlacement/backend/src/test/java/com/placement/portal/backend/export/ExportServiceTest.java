@@ -0,0 +1,123 @@
+package com.placement.portal.backend.export;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.UserIdentity;
+import com.placement.portal.backend.interviewSchedule.InterviewScheduleRepository;
+import com.placement.portal.backend.jobApplication.JobApplicationRepository;
+import com.placement.portal.backend.jobOffer.JobOfferDto;
+import com.placement.portal.backend.jobOffer.JobOfferRepository;
+import com.placement.portal.backend.jobOffer.OfferStatus;
+import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportServiceTest {
+
+    private final JobOfferRepository jobOfferRepository = mock(JobOfferRepository.class);
+    private final OfficerCompanyService officerCompanyService = mock(OfficerCompanyService.class);
+    private final ExportService service = new ExportService(jobOfferRepository, mock(JobApplicationRepository.class),
+            mock(InterviewScheduleRepository.class), officerCompanyService);
+
+    private final AuthenticatedActor admin = new AuthenticatedActor("admin@campus.edu", List.of("ADMIN"),
+            new UserIdentity(1L, null, null, null));
+
+    @Test
+    void csvEscapesCellsAndNeutralisesFormulas() {
+        assertEquals("\"Acme, Inc\"", CsvTabularWriter.cell("Acme, Inc"));
+        assertEquals("\"say \"\"hi\"\"\"", CsvTabularWriter.cell("say \"hi\""));
+        assertEquals("'=HYPERLINK(1)", CsvTabularWriter.cell("=HYPERLINK(1)"));
+        assertEquals("-5", CsvTabularWriter.cell(-5));
+        assertEquals("1200000", CsvTabularWriter.cell(new BigDecimal("1.2E+6")));
+    }
+
+    @Test
+    void xlsxIsAValidPackageWithEscapedInlineStrings() throws Exception {
+        when(jobOfferRepository.streamDtos(true, List.of(-1L))).thenReturn(offers(3).stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportDataset.OFFERS, ExportFormat.XLSX, admin, out);
+
+        Map<String, String> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry e; (e = zip.getNextEntry()) != null; ) {
+                parts.put(e.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertTrue(parts.keySet().containsAll(List.of("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml")));
+        String sheet = parts.get("xl/worksheets/sheet1.xml");
+        assertTrue(sheet.contains("<row r=\"4\">"));
+        assertTrue(sheet.contains("R&amp;D &lt;3&gt;"));
+        assertTrue(sheet.endsWith("</sheetData></worksheet>"));
+    }
+
+    @Test
+    void largeExportIsWrittenRowByRowAndClosesTheCursor() throws Exception {
+        int rows = 500_000;
+        AtomicBoolean closed = new AtomicBoolean();
+        // lazily generated: rows exist only while being written
+        when(jobOfferRepository.streamDtos(true, List.of(-1L))).thenReturn(LongStream.rangeClosed(1, rows)
+                .mapToObj(ExportServiceTest::offer)
+                .onClose(() -> closed.set(true)));
+        CountingOutputStream out = new CountingOutputStream();
+
+        service.export(ExportDataset.OFFERS, ExportFormat.CSV, admin, out);
+
+        assertEquals(rows + 1, out.lines);
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void officerWithoutCompaniesGetsHeaderOnly() throws Exception {
+        AuthenticatedActor officer = new AuthenticatedActor("po@campus.edu", List.of("PLACEMENT_OFFICER"),
+                new UserIdentity(3L, null, null, 9L));
+        when(officerCompanyService.getAssignedCompanyIds(officer)).thenReturn(List.of());
+        when(jobOfferRepository.streamDtos(false, List.of(-1L))).thenReturn(java.util.stream.Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(ExportDataset.OFFERS, ExportFormat.CSV, officer, out);
+
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).split("\r\n").length);
+    }
+
+    private static List<JobOfferDto> offers(int n) {
+        return LongStream.rangeClosed(1, n).mapToObj(ExportServiceTest::offer).toList();
+    }
+
+    private static JobOfferDto offer(long id) {
+        return new JobOfferDto(id, id, "Student " + id, LocalDate.of(2026, 3, 1), new BigDecimal("800000"),
+                OfferStatus.PENDING, null, null, "R&D <3>", "Pune", "Acme");
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') lines++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') lines++;
+            }
+        }
+    }
+}
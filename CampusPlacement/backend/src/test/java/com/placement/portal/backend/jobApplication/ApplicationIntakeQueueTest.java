@@ -0,0 +1,97 @@
+package com.placement.portal.backend.jobApplication;
+
+import com.placement.portal.backend.jobOpening.JobIntakeInfo;
+import com.placement.portal.backend.jobOpening.JobOpeningRepository;
+import com.placement.portal.backend.jobOpening.JobOpeningStatus;
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// The writer thread is not started here, so tickets stay queued
+class ApplicationIntakeQueueTest {
+
+    private final JobOpeningRepository jobOpeningRepository = mock(JobOpeningRepository.class);
+
+    private final ApplicationIntakeQueue intake = new ApplicationIntakeQueue(
+            mock(JobApplicationRepository.class), mock(StudentProfileRepository.class), jobOpeningRepository,
+            mock(TransactionTemplate.class), new SimpleMeterRegistry(), 2, 100, 50, 1_000);
+
+    @Test
+    void repeatSubmissionsCollapseOntoOneTicket() {
+        openJob(10L);
+
+        IntakeTicket first = intake.submit(1L, 10L, "cv.pdf", "k-1");
+        IntakeTicket samePair = intake.submit(1L, 10L, "cv-v2.pdf", "k-2");
+        IntakeTicket sameKey = intake.submit(1L, 10L, "cv.pdf", "k-1");
+
+        assertSame(first, samePair);
+        assertSame(first, sameKey);
+        assertEquals(1, intake.depth());
+        assertSame(first, intake.getTicket(1L, "k-2").orElseThrow());
+        // Job status is looked up once and then served from the short-lived cache
+        verify(jobOpeningRepository, times(1)).findIntakeInfo(10L);
+    }
+
+    @Test
+    void idempotencyKeysAreScopedPerStudent() {
+        openJob(10L);
+        openJob(11L);
+
+        IntakeTicket mine = intake.submit(1L, 10L, "cv.pdf", "same-key");
+        IntakeTicket theirs = intake.submit(2L, 11L, "cv.pdf", "same-key");
+
+        assertNotSame(mine, theirs);
+        assertEquals(2L, theirs.getStudentId());
+        assertEquals(11L, theirs.getJobOpeningId());
+        assertEquals(2, intake.depth());
+        assertSame(mine, intake.getTicket(1L, "same-key").orElseThrow());
+        assertSame(theirs, intake.getTicket(2L, "same-key").orElseThrow());
+        assertTrue(intake.getTicket(3L, "same-key").isEmpty());
+    }
+
+    @Test
+    void reusingAKeyForAnotherJobIsRefused() {
+        openJob(10L);
+        openJob(11L);
+
+        intake.submit(1L, 10L, "cv.pdf", "k-1");
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> intake.submit(1L, 11L, "cv.pdf", "k-1"));
+        assertEquals(1, intake.depth());
+    }
+
+    @Test
+    void fullQueueRejectsInsteadOfBlocking() {
+        openJob(10L);
+
+        intake.submit(1L, 10L, "cv.pdf", null);
+        intake.submit(2L, 10L, "cv.pdf", null);
+
+        assertThrows(RejectedExecutionException.class, () -> intake.submit(3L, 10L, "cv.pdf", null));
+    }
+
+    @Test
+    void closedOrExpiredJobsAreRefusedUpFront() {
+        when(jobOpeningRepository.findIntakeInfo(20L))
+                .thenReturn(Optional.of(new JobIntakeInfo(JobOpeningStatus.CLOSED, null)));
+        when(jobOpeningRepository.findIntakeInfo(21L))
+                .thenReturn(Optional.of(new JobIntakeInfo(JobOpeningStatus.OPEN, LocalDate.now().minusDays(1))));
+
+        assertThrows(IllegalArgumentException.class, () -> intake.submit(1L, 20L, "cv.pdf", null));
+        assertThrows(IllegalArgumentException.class, () -> intake.submit(1L, 21L, "cv.pdf", null));
+        assertEquals(0, intake.depth());
+    }
+
+    private void openJob(Long jobId) {
+        when(jobOpeningRepository.findIntakeInfo(jobId))
+                .thenReturn(Optional.of(new JobIntakeInfo(JobOpeningStatus.OPEN, LocalDate.now().plusDays(1))));
+    }
+}
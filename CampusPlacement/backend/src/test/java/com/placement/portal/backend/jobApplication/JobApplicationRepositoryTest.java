@@ -0,0 +1,97 @@
+package com.placement.portal.backend.jobApplication;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement counts against a real schema (H2 in MySQL mode): each list read is
+ * one prepared statement with the student, user, opening and company joined
+ * in, however many applications come back.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobApplicationRepositoryTest {
+
+    private static final int STUDENTS = 25;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        jdbcTemplate.update("INSERT INTO companies (id, name) VALUES (7, 'Acme'), (8, 'Globex')");
+        jdbcTemplate.update("INSERT INTO job_openings (id, company_id, title, salarylpa) VALUES (1, 7, 'SDE', 12), (2, 8, 'Analyst', 8)");
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email, enabled) VALUES (?, ?, ?, TRUE)",
+                IntStream.rangeClosed(1, STUDENTS).mapToObj(i -> new Object[]{i, "Student " + i, "s" + i + "@campus.edu"}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO student_profiles (id, user_id, branch, degree) VALUES (?, ?, 'CSE', 'B.Tech')",
+                IntStream.rangeClosed(1, STUDENTS).mapToObj(i -> new Object[]{i, i}).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_application");
+        jdbcTemplate.update("DELETE FROM student_profiles");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM job_openings");
+        jdbcTemplate.update("DELETE FROM companies");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 500})
+    void listReadsAreOneStatementEach(int applications) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO job_application (id, applied_at, job_opening_id, student_id, resume_link, status)
+                VALUES (?, ?, ?, ?, 'resume.pdf', 'APPLIED')""",
+                IntStream.rangeClosed(1, applications).mapToObj(i -> new Object[]{
+                        i, Timestamp.valueOf(now.minusMinutes(i)), i % 2 + 1, i % STUDENTS + 1}).toList());
+
+        assertEquals(applications, oneStatement(() -> jobApplicationRepository.findAllDtos()).size());
+        List<JobApplicationDto> both = oneStatement(() -> jobApplicationRepository.findDtosByCompanyIds(List.of(7L, 8L)));
+        assertEquals(applications, both.size());
+        both.forEach(a -> assertEquals(a.getJobOpeningId() == 1L ? "Acme" : "Globex", a.getCompanyName()));
+        List<JobApplicationDto> mine = oneStatement(() -> jobApplicationRepository.findDtosByStudentId(1L));
+        assertEquals(applications / STUDENTS, mine.size());
+        mine.forEach(a -> assertEquals("Student 1", a.getStudentName()));
+    }
+
+    // Runs the read and checks it prepared exactly one statement and loaded no entities
+    private <T> T oneStatement(Supplier<T> read) {
+        statistics.clear();
+        T result = read.get();
+        assertEquals(1, statistics.getPrepareStatementCount(), "statements prepared");
+        assertEquals(0, statistics.getEntityLoadCount(), "entities loaded");
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package com.placement.portal.backend.jobApplication;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.UserIdentity;
+import com.placement.portal.backend.eligibility.EligibilityService;
+import com.placement.portal.backend.jobOpening.JobOpeningRepository;
+import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
+import com.placement.portal.backend.reportSummery.ReportCacheInvalidator;
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+/**
+ * Each list read makes one projection call on the repository, however many rows
+ * come back, and no per-row lookups. The repositories are mocks; the statements
+ * those calls prepare are counted in JobApplicationRepositoryTest.
+ */
+class JobApplicationServiceTest {
+
+    private final JobApplicationRepository jobApplicationRepository = mock(JobApplicationRepository.class);
+    private final StudentProfileRepository studentProfileRepository = mock(StudentProfileRepository.class);
+    private final JobOpeningRepository jobOpeningRepository = mock(JobOpeningRepository.class);
+    private final OfficerCompanyService officerCompanyService = mock(OfficerCompanyService.class);
+
+    private final JobApplicationService service = new JobApplicationService(
+            jobApplicationRepository, studentProfileRepository, jobOpeningRepository, officerCompanyService,
+            mock(EligibilityService.class), mock(ReportCacheInvalidator.class));
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1_000})
+    void hrListingIsOneRepositoryCall(int rows) {
+        AuthenticatedActor hr = actor("COMPANY_HR", new UserIdentity(1L, 7L, null, null));
+        when(jobApplicationRepository.findDtosByCompanyIds(List.of(7L))).thenReturn(dtos(rows));
+
+        assertEquals(rows, service.getApplicationsForCurrentHR(hr).size());
+        assertEquals(rows, service.getApplicationsGroupedByStatusForCurrentHR(hr)
+                .get(JobApplicationStatus.APPLIED).size());
+
+        verify(jobApplicationRepository, times(2)).findDtosByCompanyIds(List.of(7L));
+        verifyNoMoreInteractions(jobApplicationRepository, jobOpeningRepository, studentProfileRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1_000})
+    void officerListingIsTwoRepositoryCalls(int rows) {
+        AuthenticatedActor officer = actor("PLACEMENT_OFFICER", new UserIdentity(2L, null, null, 3L));
+        when(officerCompanyService.getAssignedCompanyIds(officer)).thenReturn(List.of(7L, 8L));
+        when(jobApplicationRepository.findDtosByCompanyIds(List.of(7L, 8L))).thenReturn(dtos(rows));
+
+        assertEquals(rows, service.getApplicationsForOfficer(officer).size());
+
+        verify(officerCompanyService).getAssignedCompanyIds(officer);
+        verify(jobApplicationRepository).findDtosByCompanyIds(List.of(7L, 8L));
+        verifyNoMoreInteractions(jobApplicationRepository, jobOpeningRepository, studentProfileRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1_000})
+    void studentAndAdminListingsAreOneRepositoryCall(int rows) {
+        AuthenticatedActor student = actor("STUDENT", new UserIdentity(4L, null, 5L, null));
+        when(jobApplicationRepository.findDtosByStudentId(5L)).thenReturn(dtos(rows));
+        when(jobApplicationRepository.findAllDtos()).thenReturn(dtos(rows));
+
+        assertEquals(rows, service.getApplicationsByCurrentStudent(student).size());
+        assertEquals(rows, service.getAllApplications().size());
+
+        verify(jobApplicationRepository).findDtosByStudentId(5L);
+        verify(jobApplicationRepository).findAllDtos();
+        verifyNoMoreInteractions(jobApplicationRepository, jobOpeningRepository, studentProfileRepository);
+    }
+
+    @Test
+    void pipelineBoardQueriesOnlyNonEmptyLanes() {
+        AuthenticatedActor hr = actor("COMPANY_HR", new UserIdentity(1L, 7L, null, null));
+        when(jobApplicationRepository.countByStatusForCompany(7L, null)).thenReturn(List.of(
+                new JobApplicationStatusCount(JobApplicationStatus.APPLIED, 40L),
+                new JobApplicationStatusCount(JobApplicationStatus.HIRED, 2L)));
+        when(jobApplicationRepository.findPage(anyBoolean(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(dtos(11));
+
+        HiringPipelineView board = service.getHiringPipeline(null, 10, hr);
+
+        assertEquals(40L, board.getCounts().get(JobApplicationStatus.APPLIED));
+        assertEquals(0L, board.getCounts().get(JobApplicationStatus.REJECTED));
+        assertEquals(10, board.getLanes().get(JobApplicationStatus.APPLIED).getItems().size());
+        assertNotNull(board.getLanes().get(JobApplicationStatus.APPLIED).getNextCursor());
+        assertTrue(board.getLanes().get(JobApplicationStatus.REJECTED).getItems().isEmpty());
+
+        verify(jobApplicationRepository).countByStatusForCompany(7L, null);
+        verify(jobApplicationRepository, times(2))
+                .findPage(anyBoolean(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verifyNoMoreInteractions(jobApplicationRepository);
+    }
+
+    private static AuthenticatedActor actor(String role, UserIdentity identity) {
+        return new AuthenticatedActor(role.toLowerCase() + "@campus.edu", List.of(role), identity);
+    }
+
+    private static List<JobApplicationDto> dtos(int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        return LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> JobApplicationDto.builder()
+                        .id(id)
+                        .status(JobApplicationStatus.APPLIED)
+                        .appliedAt(now.minusMinutes(id))
+                        .build())
+                .toList();
+    }
+}
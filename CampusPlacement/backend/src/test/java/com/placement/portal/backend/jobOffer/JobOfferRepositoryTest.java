@@ -0,0 +1,130 @@
+package com.placement.portal.backend.jobOffer;
+
+import com.placement.portal.backend.util.RecordingStatementInspector;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobOfferRepositoryTest {
+
+    private static final int STUDENTS = 20;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO companies (id, name) VALUES (7, 'Acme'), (8, 'Globex')");
+        jdbcTemplate.update("INSERT INTO job_openings (id, company_id, title, salarylpa) VALUES (1, 7, 'SDE', 12), (2, 8, 'Analyst', 8)");
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email, enabled) VALUES (?, ?, ?, TRUE)",
+                IntStream.rangeClosed(1, STUDENTS).mapToObj(i -> new Object[]{i, "Student " + i, "s" + i + "@campus.edu"}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO student_profiles (id, user_id, branch) VALUES (?, ?, 'CSE')",
+                IntStream.rangeClosed(1, STUDENTS).mapToObj(i -> new Object[]{i, i}).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_offers");
+        jdbcTemplate.update("DELETE FROM job_application");
+        jdbcTemplate.update("DELETE FROM student_profiles");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM job_openings");
+        jdbcTemplate.update("DELETE FROM companies");
+    }
+
+    /**
+     * Offer listings are one prepared statement with the application, opening,
+     * company, student and user joined in, however many offers come back.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 500})
+    void listReadsAreOneStatementEach(int offers) {
+        insertOffers(offers, i -> i % STUDENTS + 1, i -> "PENDING", i -> 500_000);
+
+        assertEquals(offers, oneStatement(() -> jobOfferRepository.findAllDtos()).size());
+        List<JobOfferDto> both = oneStatement(() -> jobOfferRepository.findDtosByCompanyIds(List.of(7L, 8L)));
+        assertEquals(offers, both.size());
+        both.forEach(o -> assertNotNull(o.getCompany()));
+        List<JobOfferDto> mine = oneStatement(() -> jobOfferRepository.findDtosByStudentEmail("s1@campus.edu"));
+        assertEquals(offers / STUDENTS, mine.size());
+        mine.forEach(o -> assertEquals("Student 1", o.getCandidateName()));
+    }
+
+    /**
+     * An HR edit may join a transaction that has already read, fixing its REPEATABLE READ
+     * snapshot; only a locking read sees an acceptance committed after that. H2 does not
+     * reproduce InnoDB's locking-read visibility, so this checks the statement sent.
+     */
+    @Test
+    void policyReadIsALockingRead() {
+        insertOffers(2, i -> 1, i -> i == 1 ? "ACCEPTED" : "PENDING", i -> i == 1 ? 1_200_000 : 900_000);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        RecordingStatementInspector.clear();
+
+        List<BigDecimal> accepted = tx.execute(status ->
+                jobOfferRepository.findSalariesByStudentAndStatusIn(1L, OfferAcceptanceService.ACCEPTED_STATES));
+
+        assertEquals(List.of(new BigDecimal("1200000.00")), accepted);
+        assertEquals(1, RecordingStatementInspector.statements().size());
+        assertTrue(RecordingStatementInspector.statements().get(0).endsWith(" for update"),
+                RecordingStatementInspector.statements().get(0));
+    }
+
+    // Application i (1-based) for opening i % 2 + 1, with one offer of the same id
+    private void insertOffers(int count, IntUnaryOperator studentOf, IntFunction<String> statusOf, IntUnaryOperator salaryOf) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO job_application (id, applied_at, job_opening_id, student_id, resume_link, status)
+                VALUES (?, CURRENT_TIMESTAMP, ?, ?, 'resume.pdf', 'OFFERED')""",
+                IntStream.rangeClosed(1, count).mapToObj(i -> new Object[]{i, i % 2 + 1, studentOf.applyAsInt(i)}).toList());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO job_offers (id, job_application_id, offer_date, salary, status, version)
+                VALUES (?, ?, CURRENT_DATE, ?, ?, 0)""",
+                IntStream.rangeClosed(1, count).mapToObj(i -> new Object[]{i, i, salaryOf.applyAsInt(i), statusOf.apply(i)}).toList());
+    }
+
+    // Runs the read and checks it prepared exactly one statement and loaded no entities
+    private <T> T oneStatement(Supplier<T> read) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        T result = read.get();
+        assertEquals(1, statistics.getPrepareStatementCount(), "statements prepared");
+        assertEquals(0, statistics.getEntityLoadCount(), "entities loaded");
+        return result;
+    }
+}
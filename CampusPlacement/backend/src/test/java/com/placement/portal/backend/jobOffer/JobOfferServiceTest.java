@@ -0,0 +1,64 @@
+package com.placement.portal.backend.jobOffer;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.UserIdentity;
+import com.placement.portal.backend.jobApplication.JobApplicationRepository;
+import com.placement.portal.backend.officerCompanyAssign.OfficerCompanyService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * Offer listings make one projection call on the repository however many offers
+ * or applications exist, with no per-application offer lookups. The repositories
+ * are mocks; JobOfferRepositoryTest counts the statements those calls prepare.
+ */
+class JobOfferServiceTest {
+
+    private final JobOfferRepository jobOfferRepository = mock(JobOfferRepository.class);
+    private final JobApplicationRepository jobApplicationRepository = mock(JobApplicationRepository.class);
+    private final OfficerCompanyService officerCompanyService = mock(OfficerCompanyService.class);
+
+    private final JobOfferService service = new JobOfferService(jobOfferRepository, jobApplicationRepository, officerCompanyService,
+            mock(OfferAcceptanceService.class));
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2_000})
+    void studentHrAndOfficerListingsAreOneRepositoryCallEach(int rows) {
+        AuthenticatedActor student = actor("STUDENT", new UserIdentity(1L, null, 5L, null));
+        AuthenticatedActor hr = actor("COMPANY_HR", new UserIdentity(2L, 7L, null, null));
+        AuthenticatedActor officer = actor("PLACEMENT_OFFICER", new UserIdentity(3L, null, null, 9L));
+        when(jobOfferRepository.findDtosByStudentEmail(student.getEmail())).thenReturn(offers(rows));
+        when(jobOfferRepository.findDtosByCompanyIds(List.of(7L))).thenReturn(offers(rows));
+        when(officerCompanyService.getAssignedCompanyIds(officer)).thenReturn(List.of(7L, 8L));
+        when(jobOfferRepository.findDtosByCompanyIds(List.of(7L, 8L))).thenReturn(offers(rows));
+
+        assertEquals(rows, service.getOffersForStudent(student).size());
+        assertEquals(rows, service.getOffersByHR(hr).size());
+        assertEquals(rows, service.getOffersForOfficer(officer).size());
+
+        verify(jobOfferRepository).findDtosByStudentEmail(student.getEmail());
+        verify(jobOfferRepository).findDtosByCompanyIds(List.of(7L));
+        verify(jobOfferRepository).findDtosByCompanyIds(List.of(7L, 8L));
+        verifyNoMoreInteractions(jobOfferRepository);
+        verifyNoInteractions(jobApplicationRepository);
+    }
+
+    private static AuthenticatedActor actor(String role, UserIdentity identity) {
+        return new AuthenticatedActor(role.toLowerCase() + "@campus.edu", List.of(role), identity);
+    }
+
+    private static List<JobOfferDto> offers(int rows) {
+        return LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> new JobOfferDto(id, id, "Student " + id, LocalDate.now(), BigDecimal.TEN,
+                        OfferStatus.PENDING, null, null, "SDE", null, "Acme"))
+                .toList();
+    }
+}
@@ -0,0 +1,179 @@
+package com.placement.portal.backend.jobOffer;
+
+import com.placement.portal.backend.studentProfile.StudentProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Many threads accept offers for the same students at once. The repositories are
+ * backed by an in-memory map with a sleep between the policy read and the write,
+ * so an unguarded read-check-write would let several acceptances through.
+ */
+class OfferAcceptanceServiceTest {
+
+    private static final int STUDENTS = 20;
+    private static final int OFFERS_PER_STUDENT = 8;
+    private static final BigDecimal DREAM = new BigDecimal("1000000");
+
+    private final Map<Long, JobOffer> offers = new ConcurrentHashMap<>();
+    private final Map<Long, Long> ownerOf = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    void singleOfferPolicyAcceptsExactlyOneOfferPerStudent() throws Exception {
+        OfferAcceptanceService service = service(PlacementPolicy.Mode.SINGLE_OFFER, i -> new BigDecimal("500000"));
+
+        int accepted = acceptAllConcurrently(service);
+
+        assertEquals(STUDENTS, accepted);
+        for (long student = 1; student <= STUDENTS; student++) {
+            assertEquals(1, acceptedFor(student), "student " + student);
+        }
+        // students are locked independently, so unrelated acceptances overlap
+        assertTrue(maxInFlight.get() > 1, "acceptances for different students never overlapped");
+    }
+
+    @Test
+    void dreamExceptionAllowsOneDreamOfferOnTopOfARegularOne() throws Exception {
+        // each student gets alternating regular and dream offers
+        OfferAcceptanceService service = service(PlacementPolicy.Mode.DREAM_EXCEPTION,
+                id -> ((id - 1) / STUDENTS) % 2 == 0 ? DREAM : new BigDecimal("400000"));
+
+        acceptAllConcurrently(service);
+
+        for (long student = 1; student <= STUDENTS; student++) {
+            long total = acceptedFor(student);
+            long dream = acceptedFor(student, o -> o.getSalary().compareTo(DREAM) >= 0);
+            assertTrue(dream <= 1 && total - dream <= 1 && total >= 1,
+                    "student " + student + " accepted " + total + " offers, " + dream + " dream");
+            // a dream acceptance first closes the door on everything else
+            assertTrue(total == 1 || dream == 1);
+        }
+    }
+
+    @Test
+    void rejectsAcceptanceOfAnotherStudentsOffer() {
+        OfferAcceptanceService service = service(PlacementPolicy.Mode.SINGLE_OFFER, i -> BigDecimal.TEN);
+
+        assertThrows(RuntimeException.class, () -> service.respond(1L, OfferStatus.ACCEPTED, 2L));
+        assertEquals(OfferStatus.PENDING, offers.get(1L).getStatus());
+    }
+
+    @Test
+    void hrStatusEditsAreCheckedAgainstThePolicy() {
+        OfferAcceptanceService service = service(PlacementPolicy.Mode.SINGLE_OFFER, i -> BigDecimal.TEN);
+        long second = 1L + STUDENTS; // same student as offer 1
+
+        service.changeStatus(1L, OfferStatus.ACCEPTED);
+        assertThrows(OfferConflictException.class, () -> service.changeStatus(second, OfferStatus.ONBOARDING));
+        assertEquals(OfferStatus.PENDING, offers.get(second).getStatus());
+
+        // moving within the accepted group is not a second acceptance
+        service.changeStatus(1L, OfferStatus.ONBOARDING);
+        assertEquals(OfferStatus.ONBOARDING, offers.get(1L).getStatus());
+        service.changeStatus(1L, OfferStatus.REJECTED);
+        service.changeStatus(second, OfferStatus.ACCEPTED);
+        assertEquals(OfferStatus.ACCEPTED, offers.get(second).getStatus());
+    }
+
+    private int acceptAllConcurrently(OfferAcceptanceService service) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (long offerId : offers.keySet()) {
+            results.add(pool.submit(() -> {
+                start.await();
+                try {
+                    service.respond(offerId, OfferStatus.ACCEPTED, ownerOf.get(offerId));
+                    return true;
+                } catch (OfferConflictException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int accepted = 0;
+        for (Future<Boolean> f : results) {
+            if (f.get()) {
+                accepted++;
+            }
+        }
+        pool.shutdown();
+        return accepted;
+    }
+
+    private OfferAcceptanceService service(PlacementPolicy.Mode mode, LongFunction<BigDecimal> salary) {
+        for (long id = 1; id <= (long) STUDENTS * OFFERS_PER_STUDENT; id++) {
+            JobOffer offer = new JobOffer();
+            offer.setId(id);
+            offer.setStatus(OfferStatus.PENDING);
+            offer.setSalary(salary.apply(id));
+            offers.put(id, offer);
+            ownerOf.put(id, studentOf(id));
+        }
+
+        JobOfferRepository offerRepo = mock(JobOfferRepository.class);
+        when(offerRepo.findStudentIdByOfferId(anyLong())).thenAnswer(inv -> Optional.ofNullable(ownerOf.get(inv.<Long>getArgument(0))));
+        when(offerRepo.findById(anyLong())).thenAnswer(inv -> Optional.ofNullable(offers.get(inv.<Long>getArgument(0))));
+        when(offerRepo.findSalariesByStudentAndStatusIn(anyLong(), anyCollection())).thenAnswer(inv -> {
+            long student = inv.getArgument(0);
+            Collection<OfferStatus> statuses = inv.getArgument(1);
+            List<BigDecimal> salaries = offers.values().stream()
+                    .filter(o -> ownerOf.get(o.getId()) == student && statuses.contains(o.getStatus()))
+                    .map(JobOffer::getSalary)
+                    .toList();
+            Thread.sleep(2); // widen the window between the check and the write
+            return salaries;
+        });
+        when(offerRepo.saveAndFlush(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        when(tx.execute(any())).thenAnswer(inv -> {
+            int now = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(now, Math::max);
+            try {
+                return inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        return new OfferAcceptanceService(offerRepo, mock(StudentProfileRepository.class), tx, mode, DREAM);
+    }
+
+    private long acceptedFor(long student) {
+        return acceptedFor(student, o -> true);
+    }
+
+    private long acceptedFor(long student, Predicate<JobOffer> filter) {
+        return offers.values().stream()
+                .filter(o -> ownerOf.get(o.getId()) == student && o.getStatus() == OfferStatus.ACCEPTED)
+                .filter(filter)
+                .count();
+    }
+
+    private static long studentOf(long offerId) {
+        return (offerId - 1) % STUDENTS + 1;
+    }
+}
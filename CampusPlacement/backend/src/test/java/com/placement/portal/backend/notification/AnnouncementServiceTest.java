@@ -0,0 +1,108 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.auth.User;
+import com.placement.portal.backend.auth.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AnnouncementServiceTest {
+
+    private final AnnouncementRepository announcementRepository = mock(AnnouncementRepository.class);
+    private final AnnouncementReadRepository announcementReadRepository = mock(AnnouncementReadRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final AnnouncementService service = new AnnouncementService(announcementRepository, announcementReadRepository,
+            userRepository, mock(NotificationStreamService.class));
+
+    @Test
+    void announcementsAppearAsNotificationViews() {
+        User recipient = User.builder().id(42L).name("Asha").build();
+        when(announcementRepository.findVisibleTo(42L)).thenReturn(List.of(
+                announcement(1L, "Drive"), announcement(2L, "Results"), announcement(3L, "Dismissed")));
+        when(announcementReadRepository.findByUser(42L)).thenReturn(Map.of(1L, false, 3L, true));
+        when(userRepository.findById(42L)).thenReturn(Optional.of(recipient));
+
+        List<Notification> views = service.getViewsFor(42L);
+
+        assertEquals(List.of(1L, 2L), views.stream().map(Notification::getAnnouncementId).toList());
+        // ids the ordinary read/delete endpoints understand, distinct from notification rows
+        assertEquals(List.of(-1L, -2L), views.stream().map(Notification::getId).toList());
+        assertEquals(1L, AnnouncementService.announcementIdOf(views.get(0).getId()));
+        assertNull(AnnouncementService.announcementIdOf(7L));
+        assertSame(recipient, views.get(0).getUser());
+        assertTrue(views.get(0).isReadStatus());
+        assertFalse(views.get(1).isReadStatus());
+    }
+
+    @Test
+    void readAndDismissWriteTheUsersOwnRow() {
+        User recipient = User.builder().id(42L).name("Asha").build();
+        when(announcementRepository.countVisible(1L, 42L)).thenReturn(1L);
+        when(announcementRepository.findById(1L)).thenReturn(Optional.of(announcement(1L, "Drive")));
+        when(userRepository.findById(42L)).thenReturn(Optional.of(recipient));
+
+        Notification view = service.markAsRead(1L, 42L);
+        service.dismiss(1L, 42L);
+
+        assertTrue(view.isReadStatus());
+        assertEquals(-1L, view.getId());
+        verify(announcementReadRepository).markRead(1L, 42L);
+        verify(announcementReadRepository).dismiss(1L, 42L);
+        verify(announcementRepository, never()).save(any());
+    }
+
+    @Test
+    void noLookupsWhenNothingIsAddressedToTheUser() {
+        when(announcementRepository.findVisibleTo(42L)).thenReturn(List.of());
+
+        assertTrue(service.getViewsFor(42L).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void unreadCountAndReadAllCoverOnlyAnnouncementsWithoutARow() {
+        when(announcementRepository.findVisibleIdsTo(42L)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(announcementReadRepository.findByUser(42L)).thenReturn(Map.of(1L, false, 3L, true));
+
+        assertEquals(2, service.countUnread(42L));
+        assertEquals(2, service.markAllAsRead(42L));
+        verify(announcementReadRepository).markAllRead(List.of(2L, 4L), 42L);
+    }
+
+    @Test
+    void inboxItemsSkipDismissedAnnouncements() {
+        when(announcementRepository.findVisibleTo(42L)).thenReturn(List.of(
+                announcement(1L, "Drive"), announcement(2L, "Results"), announcement(3L, "Dismissed")));
+        when(announcementReadRepository.findByUser(42L)).thenReturn(Map.of(1L, false, 3L, true));
+
+        List<NotificationInboxItem> items = service.getInboxItemsFor(42L);
+
+        assertEquals(List.of(-1L, -2L), items.stream().map(NotificationInboxItem::id).toList());
+        assertTrue(items.get(0).readStatus());
+        assertFalse(items.get(1).readStatus());
+    }
+
+    @Test
+    void cannotMarkAnnouncementOutsideAudience() {
+        when(announcementRepository.countVisible(1L, 42L)).thenReturn(0L);
+
+        assertThrows(RuntimeException.class, () -> service.markAsRead(1L, 42L));
+        assertThrows(RuntimeException.class, () -> service.dismiss(1L, 42L));
+        verifyNoInteractions(announcementReadRepository);
+    }
+
+    private static Announcement announcement(Long id, String title) {
+        Announcement announcement = new Announcement();
+        announcement.setId(id);
+        announcement.setTitle(title);
+        announcement.setMessage(title + " details");
+        return announcement;
+    }
+}
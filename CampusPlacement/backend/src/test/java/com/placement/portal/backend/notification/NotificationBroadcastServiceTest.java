@@ -0,0 +1,127 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.Role;
+import com.placement.portal.backend.auth.UserIdentity;
+import com.placement.portal.backend.auth.UserRepository;
+import com.placement.portal.backend.util.IdSequenceAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * A broadcast is one recipient query plus one id reservation and one JDBC batch
+ * per batchSize rows, never a statement per recipient.
+ */
+class NotificationBroadcastServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final IdSequenceAllocator idSequenceAllocator = mock(IdSequenceAllocator.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final NotificationStreamService notificationStreamService = mock(NotificationStreamService.class);
+
+    private final NotificationBroadcastService service = new NotificationBroadcastService(
+            userRepository, jdbcTemplate, idSequenceAllocator, transactionTemplate, notificationStreamService,
+            mock(NotificationUnreadCounter.class), 1_000);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fansOutInBatches() throws Exception {
+        List<Long> recipients = LongStream.rangeClosed(1, 2_500).boxed().toList();
+        when(userRepository.findIdsByAudience(Role.STUDENT, "CSE", 2026, null)).thenReturn(recipients);
+        when(idSequenceAllocator.reserve(eq("notifications"), anyInt())).thenReturn(100L);
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(notificationStreamService.isConnected(7L)).thenReturn(true);
+
+        BroadcastJob job = service.submit(request(Role.STUDENT, "CSE", 2026), actor("PLACEMENT_OFFICER", null));
+        await(job);
+
+        assertEquals(BroadcastJob.Status.COMPLETED, job.getStatus());
+        assertEquals(2_500, job.getRecipients());
+        assertEquals(2_500, job.getDelivered());
+        assertEquals(100, job.getPercentComplete());
+
+        verify(userRepository).findIdsByAudience(Role.STUDENT, "CSE", 2026, null);
+        verify(idSequenceAllocator, times(2)).reserve("notifications", 1_000);
+        verify(idSequenceAllocator).reserve("notifications", 500);
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO notifications"),
+                anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(notificationStreamService).publish(eq(7L), argThat(e -> e.id() == 106L));
+        verify(notificationStreamService, times(1)).publish(any(), any());
+    }
+
+    @Test
+    void hrIsScopedToOwnCompany() throws Exception {
+        when(userRepository.findIdsByAudience(any(), any(), any(), any())).thenReturn(List.of());
+
+        BroadcastRequest request = request(null, null, null);
+        request.getAudience().setCompanyId(99L);
+        await(service.submit(request, actor("COMPANY_HR", 7L)));
+
+        verify(userRepository).findIdsByAudience(null, null, null, 7L);
+    }
+
+    @Test
+    void onlyTheSenderOrAnAdminSeesAJob() throws Exception {
+        when(userRepository.findIdsByAudience(any(), any(), any(), any())).thenReturn(List.of());
+        BroadcastRequest request = request(null, null, null);
+        request.getAudience().setCompanyId(7L);
+        BroadcastJob job = service.submit(request, actor("COMPANY_HR", 7L));
+        await(job);
+
+        AuthenticatedActor otherHr = new AuthenticatedActor("other@acme.com", List.of("COMPANY_HR"),
+                new UserIdentity(2L, 7L, null, null));
+        AuthenticatedActor admin = new AuthenticatedActor("admin@campus.edu", List.of("ADMIN"),
+                new UserIdentity(3L, null, null, null));
+        assertEquals(Optional.of(job), service.getJob(job.getId(), actor("COMPANY_HR", 7L)));
+        assertEquals(Optional.empty(), service.getJob(job.getId(), otherHr));
+        assertEquals(Optional.of(job), service.getJob(job.getId(), admin));
+    }
+
+    @Test
+    void rejectsEmptyAudience() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(request(null, " ", null), actor("ADMIN", null)));
+    }
+
+    private static void await(BroadcastJob job) throws InterruptedException {
+        for (int i = 0; i < 500 && !job.isFinished(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isFinished(), "broadcast did not finish");
+    }
+
+    private static BroadcastRequest request(Role role, String branch, Integer passingYear) {
+        NotificationAudience audience = new NotificationAudience();
+        audience.setRole(role);
+        audience.setBranch(branch);
+        audience.setPassingYear(passingYear);
+        BroadcastRequest request = new BroadcastRequest();
+        request.setTitle("Drive");
+        request.setMessage("Registration closes Friday");
+        request.setAudience(audience);
+        return request;
+    }
+
+    private static AuthenticatedActor actor(String role, Long companyId) {
+        return new AuthenticatedActor(role.toLowerCase() + "@campus.edu", List.of(role),
+                new UserIdentity(1L, companyId, null, null));
+    }
+}
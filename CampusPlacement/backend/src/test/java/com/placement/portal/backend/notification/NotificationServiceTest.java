@@ -0,0 +1,157 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.UserIdentity;
+import com.placement.portal.backend.auth.UserRepository;
+import com.placement.portal.backend.util.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Statement-count contract for the HR feed: one repository call per page
+ * whatever the company size, no per-company user lookup and no entity loading.
+ * Rows are spread over companySize users, with several notifications sharing a
+ * timestamp so the cursor's id tie-break is exercised.
+ *
+ * Not a benchmark: the repository is a mock. HrNotificationFeedBenchmark (src/jmh,
+ * benchmark profile) times the feed query against a real schema.
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final int ROWS_PER_USER = 3;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private AnnouncementService announcementService;
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+    @InjectMocks
+    private NotificationService service;
+
+    private final AuthenticatedActor hr = new AuthenticatedActor("hr@acme.com", List.of("COMPANY_HR"),
+            new UserIdentity(1L, 7L, null, null));
+
+    @Test
+    void unreadAnnouncementsCountTowardsTheBadgeAndAreMarkedByReadAll() {
+        when(unreadCounter.get(42L)).thenReturn(3L);
+        when(announcementService.countUnread(42L)).thenReturn(2L);
+        when(notificationRepository.markAllReadByUserId(42L)).thenReturn(3);
+        when(announcementService.markAllAsRead(42L)).thenReturn(2);
+
+        assertEquals(5, service.getUnreadCount(42L));
+        assertEquals(5, service.markAllAsRead(42L));
+        verify(unreadCounter).reset(42L);
+    }
+
+    @Test
+    void inboxMergesAnnouncementsIntoTheKeysetOrder() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<NotificationInboxItem> personal = List.of(
+                item(5L, base.plusMinutes(4), false), item(4L, base.plusMinutes(2), true), item(3L, base, false));
+        when(notificationRepository.findInboxPage(eq(42L), anyBoolean(), any(), any(), any())).thenAnswer(inv -> {
+            boolean unreadOnly = inv.getArgument(1);
+            LocalDateTime cursorAt = inv.getArgument(2);
+            Long cursorId = inv.getArgument(3);
+            return personal.stream()
+                    .filter(n -> !unreadOnly || !n.readStatus())
+                    .filter(n -> cursorAt == null || n.createdAt().isBefore(cursorAt)
+                            || (n.createdAt().isEqual(cursorAt) && n.id() < cursorId))
+                    .limit(inv.<Limit>getArgument(4).max())
+                    .toList();
+        });
+        when(announcementService.getInboxItemsFor(42L)).thenReturn(List.of(
+                item(-1L, base.plusMinutes(3), false), item(-2L, base.plusMinutes(2), true)));
+
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<NotificationInboxItem> page = service.getInbox(42L, false, cursor, 2);
+            page.getItems().forEach(n -> ids.add(n.id()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(5L, -1L, 4L, -2L, 3L), ids);
+        assertEquals(List.of(5L, -1L, 3L), service.getInbox(42L, true, null, 10).getItems().stream()
+                .map(NotificationInboxItem::id).toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5_000})
+    void fullFeedIsOneStatement(int companySize) {
+        when(notificationRepository.findCompanyFeed(7L, null, null, Limit.unlimited()))
+                .thenReturn(feed(companySize));
+
+        assertEquals(companySize * ROWS_PER_USER, service.getNotificationsForHr(hr).size());
+
+        verify(notificationRepository).findCompanyFeed(7L, null, null, Limit.unlimited());
+        verifyNoMoreInteractions(notificationRepository);
+        verifyNoInteractions(userRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5_000})
+    void pagedFeedWalksEveryRowOnceWithOneStatementPerPage(int companySize) {
+        List<NotificationDto> feed = feed(companySize);
+        when(notificationRepository.findCompanyFeed(eq(7L), any(), any(), any())).thenAnswer(inv -> {
+            LocalDateTime cursorAt = inv.getArgument(1);
+            Long cursorId = inv.getArgument(2);
+            int limit = inv.<Limit>getArgument(3).max();
+            return feed.stream()
+                    .filter(n -> cursorAt == null || n.getCreatedAt().isBefore(cursorAt)
+                            || (n.getCreatedAt().isEqual(cursorAt) && n.getId() < cursorId))
+                    .limit(limit)
+                    .toList();
+        });
+
+        Set<Long> seen = new HashSet<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            CursorPage<NotificationDto> page = service.getNotificationsPageForHr(hr, cursor, 100);
+            page.getItems().forEach(n -> assertTrue(seen.add(n.getId()), "row " + n.getId() + " repeated"));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(feed.size(), seen.size());
+        assertEquals((feed.size() + 99) / 100, pages);
+        verify(notificationRepository, times(pages)).findCompanyFeed(eq(7L), any(), any(), any());
+        verifyNoInteractions(userRepository);
+    }
+
+    private static NotificationInboxItem item(Long id, LocalDateTime at, boolean read) {
+        return new NotificationInboxItem(id, "Title " + id, "Message " + id, read, "Officer", at);
+    }
+
+    // Newest first, as the query orders it
+    private static List<NotificationDto> feed(int companySize) {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        return LongStream.rangeClosed(1, (long) companySize * ROWS_PER_USER)
+                .mapToObj(id -> new NotificationDto(id, 100 + (id % companySize), "User " + (id % companySize),
+                        "Title " + id, "Message " + id, id % 2 == 0, 7L, "Officer", base.plusMinutes(id / 4)))
+                .sorted(Comparator.comparing(NotificationDto::getCreatedAt).thenComparing(NotificationDto::getId).reversed())
+                .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.placement.portal.backend.notification;
+
+import com.placement.portal.backend.util.KeysetCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotificationStreamServiceTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+
+    // emitters handed out by connect, in order; a plain SseEmitter when empty
+    private final Deque<SseEmitter> nextEmitters = new ArrayDeque<>();
+
+    private final NotificationStreamService service = new NotificationStreamService(
+            notificationRepository, new SimpleMeterRegistry(), 60_000, 60_000, 2, 3, 2, 10_000) {
+        @Override
+        SseEmitter newEmitter() {
+            SseEmitter next = nextEmitters.poll();
+            return next != null ? next : super.newEmitter();
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void newStreamReplacesOldestOverPerUserLimit() {
+        service.connect(1L, null);
+        service.connect(1L, null);
+        service.connect(1L, null);
+
+        assertEquals(2, service.getConnectionCount());
+        assertTrue(service.isConnected(1L));
+        assertFalse(service.isConnected(2L));
+    }
+
+    @Test
+    void rejectsOverTotalLimit() {
+        service.connect(1L, null);
+        service.connect(2L, null);
+        service.connect(3L, null);
+
+        assertThrows(RejectedExecutionException.class, () -> service.connect(4L, null));
+        assertEquals(List.of(1L, 2L, 3L), service.getConnectedUserIds().stream().sorted().toList());
+    }
+
+    @Test
+    void resumesShortlyBeforeTheLastEvent() {
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 10, 0);
+        KeysetCursor last = KeysetCursor.decode(new KeysetCursor(at, 40L).encode());
+        LocalDateTime from = at.minusSeconds(10);
+        when(notificationRepository.findEventsSince(1L, from, PageRequest.of(0, NotificationStreamService.MAX_REPLAY)))
+                .thenReturn(List.of(new NotificationEvent(41L, "Drive", "Tomorrow", "Officer", at)));
+
+        service.connect(1L, last);
+        service.connect(2L, null);
+
+        verify(notificationRepository, timeout(1_000))
+                .findEventsSince(1L, from, PageRequest.of(0, NotificationStreamService.MAX_REPLAY));
+        verifyNoMoreInteractions(notificationRepository);
+    }
+
+    @Test
+    void stalledClientDoesNotHoldUpOthersAndIsDroppedWhenItFallsBehind() throws Exception {
+        CountDownLatch unstall = new CountDownLatch(1);
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        nextEmitters.add(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                stalled.countDown();
+                try {
+                    unstall.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        nextEmitters.add(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                delivered.countDown();
+            }
+        });
+        service.connect(1L, null);
+        service.connect(2L, null);
+        NotificationEvent event = new NotificationEvent(1L, "Drive", "Tomorrow", null, LocalDateTime.now());
+
+        service.publish(1L, event);
+        assertTrue(stalled.await(1, TimeUnit.SECONDS));
+        service.publish(2L, event);
+        assertTrue(delivered.await(1, TimeUnit.SECONDS), "second client waited on the stalled one");
+
+        for (int i = 0; i <= NotificationStreamService.MAX_QUEUED; i++) {
+            service.publish(1L, event);
+        }
+        assertFalse(service.isConnected(1L));
+        assertTrue(service.isConnected(2L));
+        unstall.countDown();
+    }
+}
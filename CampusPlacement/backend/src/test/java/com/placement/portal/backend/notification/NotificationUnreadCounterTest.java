@@ -0,0 +1,85 @@
+package com.placement.portal.backend.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotificationUnreadCounterTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+
+    @Test
+    void countsOnceThenTracksChangesInMemory() throws Exception {
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 60_000);
+        when(notificationRepository.countByUserIdAndReadStatusFalse(1L)).thenReturn(5L);
+
+        assertEquals(5, counter.get(1L));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            pool.execute(() -> counter.add(1L, 1));
+            pool.execute(() -> counter.add(1L, -1));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        counter.add(1L, -3);
+        assertEquals(2, counter.get(1L));
+        counter.add(1L, -10);
+        assertEquals(0, counter.get(1L));
+        verify(notificationRepository, times(1)).countByUserIdAndReadStatusFalse(1L);
+    }
+
+    @Test
+    void updatesForUnloadedUsersAreDropped() {
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 60_000);
+        when(notificationRepository.countByUserIdAndReadStatusFalse(2L)).thenReturn(3L);
+
+        counter.add(2L, 1);
+
+        assertEquals(3, counter.get(2L));
+    }
+
+    @Test
+    void changeDuringALoadIsNotLostAndLoadsDoNotBlockOtherUsers() throws Exception {
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 60_000);
+        ExecutorService other = Executors.newSingleThreadExecutor();
+        // a notification is created, and a mark-all-read resets, while user 1's count is in flight
+        when(notificationRepository.countByUserIdAndReadStatusFalse(1L)).thenAnswer(inv -> {
+            counter.add(1L, 1);
+            assertEquals(2, other.submit(() -> counter.get(2L)).get(5, TimeUnit.SECONDS));
+            return 5L;
+        }).thenAnswer(inv -> {
+            counter.reset(1L);
+            return 6L;
+        }).thenReturn(0L);
+        when(notificationRepository.countByUserIdAndReadStatusFalse(2L)).thenReturn(2L);
+
+        assertEquals(5, counter.get(1L));
+        assertEquals(6, counter.get(1L));
+        assertEquals(0, counter.get(1L));
+        assertEquals(0, counter.get(1L));
+        verify(notificationRepository, times(3)).countByUserIdAndReadStatusFalse(1L);
+        other.shutdown();
+    }
+
+    @Test
+    void resetAndExpiryRecount() {
+        NotificationUnreadCounter counter = new NotificationUnreadCounter(notificationRepository, 60_000);
+        when(notificationRepository.countByUserIdAndReadStatusFalse(1L)).thenReturn(4L, 0L);
+
+        assertEquals(4, counter.get(1L));
+        counter.reset(1L);
+        assertEquals(0, counter.get(1L));
+
+        NotificationUnreadCounter expired = new NotificationUnreadCounter(notificationRepository, 0);
+        expired.get(1L);
+        expired.get(1L);
+        verify(notificationRepository, times(4)).countByUserIdAndReadStatusFalse(1L);
+    }
+}
@@ -0,0 +1,64 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.reportSummery.DepartmentSummeryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlacementStatsRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private PlacementStatsRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/placement-stats.sql")).execute(dataSource);
+        repository = new PlacementStatsRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM placement_group_stats");
+    }
+
+    @Test
+    void branchReportCountsStudentsWithAnAcceptedOfferAsPlaced() {
+        // 4 students, 3 with offers, 1 of them accepted
+        repository.applyGroup(PlacementStatsRepository.Scope.BRANCH, "CSE", null,
+                new GroupDelta(4, 3, 1, 5, new BigDecimal("3000000"), 5));
+        repository.applyGroup(PlacementStatsRepository.Scope.BRANCH, "CSE", null,
+                new GroupDelta(0, 0, 1, 0, BigDecimal.ZERO, 0));
+
+        List<DepartmentSummeryDto> branches = repository.findBranches();
+
+        assertEquals(1, branches.size());
+        assertEquals("CSE", branches.get(0).getDepartment());
+        assertEquals(4, branches.get(0).getTotalStudents());
+        assertEquals(2, branches.get(0).getPlacedStudents());
+        assertEquals(600000.0, branches.get(0).getAverageCTC());
+    }
+}
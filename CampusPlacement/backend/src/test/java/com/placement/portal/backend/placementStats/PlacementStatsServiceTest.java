@@ -0,0 +1,230 @@
+package com.placement.portal.backend.placementStats;
+
+import com.placement.portal.backend.jobOffer.OfferStatus;
+import com.placement.portal.backend.placementStats.PlacementStatsRepository.BestOffer;
+import com.placement.portal.backend.placementStats.PlacementStatsRepository.CompanyRef;
+import com.placement.portal.backend.placementStats.PlacementStatsRepository.Scope;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Applies a long random sequence of offer and profile changes through the delta
+ * path and checks every aggregate against a from-scratch recomputation.
+ */
+class PlacementStatsServiceTest {
+
+    private static final String[] BRANCHES = {"CSE", "ECE", "MECH", ""};
+    private static final OfferStatus[] STATUSES = OfferStatus.values();
+
+    private final InMemoryStats store = new InMemoryStats();
+    private final PlacementStatsService service = new PlacementStatsService(store);
+
+    // source of truth: offers and branches as they would be in the database
+    private final Map<Long, String> branchOf = new HashMap<>();
+    private final Map<Long, Offer> offers = new HashMap<>();
+
+    private record Offer(long studentId, long applicationId, long companyId, OfferStatsState state) {
+    }
+
+    @Test
+    void incrementalStatsMatchRecomputationAfterRandomChanges() {
+        Random random = new Random(42);
+        long nextStudent = 1, nextOffer = 1;
+
+        for (int step = 0; step < 20_000; step++) {
+            int action = random.nextInt(10);
+            if (action == 0 || branchOf.isEmpty()) {
+                long id = nextStudent++;
+                String branch = BRANCHES[random.nextInt(BRANCHES.length)];
+                branchOf.put(id, branch);
+                service.studentAdded(id, branch);
+            } else if (action == 1) {
+                long id = anyKey(branchOf, random);
+                String branch = BRANCHES[random.nextInt(BRANCHES.length)];
+                service.studentBranchChanged(id, branchOf.get(id), branch);
+                branchOf.put(id, branch);
+            } else if (action == 2 && !offers.isEmpty()) {
+                Offer removed = offers.remove(anyKey(offers, random));
+                service.offerChanged(removed.studentId(), removed.applicationId(), removed.state(), null);
+            } else if (action <= 5 && !offers.isEmpty()) {
+                long id = anyKey(offers, random);
+                Offer o = offers.get(id);
+                Offer changed = new Offer(o.studentId(), o.applicationId(), o.companyId(), randomState(random));
+                offers.put(id, changed);
+                service.offerChanged(o.studentId(), o.applicationId(), o.state(), changed.state());
+            } else {
+                long id = nextOffer++;
+                Offer created = new Offer(anyKey(branchOf, random), id, 1 + random.nextInt(5), randomState(random));
+                store.companyOfApplication.put(id, created.companyId());
+                offers.put(id, created);
+                service.offerChanged(created.studentId(), id, null, created.state());
+            }
+        }
+
+        Map<Long, StudentStats> expected = recomputeStudents();
+        assertEquals(expected, store.students);
+        assertEquals(recomputeGroups(expected), store.groups);
+    }
+
+    @Test
+    void removingOrLoweringTheBestAcceptedOfferFallsBackToTheNextBest() {
+        branchOf.put(1L, "CSE");
+        service.studentAdded(1L, "CSE");
+        create(10, 1, new OfferStatsState(OfferStatus.ACCEPTED, BigDecimal.valueOf(900_000)));
+        create(11, 2, new OfferStatsState(OfferStatus.ONBOARDING, BigDecimal.valueOf(600_000)));
+        assertBest(900_000, "Company 1");
+
+        Offer best = offers.remove(10L);
+        service.offerChanged(1L, 10L, best.state(), null);
+        assertBest(600_000, "Company 2");
+
+        create(12, 3, new OfferStatsState(OfferStatus.ACCEPTED, BigDecimal.valueOf(800_000)));
+        change(12, new OfferStatsState(OfferStatus.ACCEPTED, BigDecimal.valueOf(500_000)));
+        assertBest(600_000, "Company 2");
+
+        change(11, new OfferStatsState(OfferStatus.REJECTED, BigDecimal.valueOf(600_000)));
+        assertBest(500_000, "Company 3");
+
+        change(12, new OfferStatsState(OfferStatus.PENDING, BigDecimal.valueOf(500_000)));
+        assertNull(store.students.get(1L).bestSalary());
+        assertNull(store.students.get(1L).bestCompany());
+        assertEquals(recomputeStudents(), store.students);
+    }
+
+    private void create(long id, long companyId, OfferStatsState state) {
+        store.companyOfApplication.put(id, companyId);
+        offers.put(id, new Offer(1L, id, companyId, state));
+        service.offerChanged(1L, id, null, state);
+    }
+
+    private void change(long id, OfferStatsState state) {
+        Offer o = offers.get(id);
+        offers.put(id, new Offer(o.studentId(), id, o.companyId(), state));
+        service.offerChanged(o.studentId(), id, o.state(), state);
+    }
+
+    private void assertBest(long salary, String company) {
+        StudentStats stats = store.students.get(1L);
+        assertEquals(BigDecimal.valueOf(salary), stats.bestSalary());
+        assertEquals(company, stats.bestCompany());
+    }
+
+    private Map<Long, StudentStats> recomputeStudents() {
+        Map<Long, StudentStats> students = new HashMap<>();
+        branchOf.forEach((id, branch) -> {
+            List<OfferStatsState> states = offers.values().stream()
+                    .filter(o -> o.studentId() == id).map(Offer::state).toList();
+            BigDecimal salarySum = states.stream().map(OfferStatsState::salary).filter(Objects::nonNull)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            int salaryCount = (int) states.stream().filter(st -> st.salary() != null).count();
+            int accepted = (int) states.stream().filter(OfferStatsState::accepted).count();
+            BestOffer best = bestAccepted(id).orElse(null);
+            students.put(id, new StudentStats(id, branch, states.size(), salarySum, salaryCount, accepted,
+                    best != null ? best.salary() : null, best != null ? best.company() : null));
+        });
+        return students;
+    }
+
+    // ORDER BY salary DESC, id DESC over the student's accepted offers, as the SQL does
+    private Optional<BestOffer> bestAccepted(long studentId) {
+        return offers.values().stream()
+                .filter(o -> o.studentId() == studentId && o.state().accepted() && o.state().salary() != null)
+                .max(Comparator.comparing((Offer o) -> o.state().salary()).thenComparingLong(Offer::applicationId))
+                .map(o -> new BestOffer(o.state().salary(), "Company " + o.companyId()));
+    }
+
+    private Map<String, GroupDelta> recomputeGroups(Map<Long, StudentStats> students) {
+        Map<String, GroupDelta> groups = new HashMap<>();
+        for (Offer o : offers.values()) {
+            add(groups, Scope.COMPANY + ":" + o.companyId(), GroupDelta.offers(1,
+                    o.state().salary() == null ? BigDecimal.ZERO : o.state().salary(), o.state().salary() == null ? 0 : 1));
+        }
+        for (StudentStats s : students.values()) {
+            GroupDelta d = GroupDelta.between(null, s);
+            add(groups, Scope.BRANCH + ":" + s.branch(), d);
+            add(groups, Scope.OVERALL + ":", d);
+        }
+        groups.values().removeIf(GroupDelta::isZero);
+        return groups;
+    }
+
+    private static void add(Map<String, GroupDelta> groups, String key, GroupDelta d) {
+        groups.merge(key, d, (a, b) -> new GroupDelta(a.students() + b.students(), a.studentsWithOffers() + b.studentsWithOffers(),
+                a.placedStudents() + b.placedStudents(), a.offers() + b.offers(), a.salarySum().add(b.salarySum()),
+                a.salaryCount() + b.salaryCount()));
+    }
+
+    private static OfferStatsState randomState(Random random) {
+        BigDecimal salary = random.nextInt(8) == 0 ? null : BigDecimal.valueOf(300_000 + random.nextInt(20) * 50_000L);
+        return new OfferStatsState(STATUSES[random.nextInt(STATUSES.length)], salary);
+    }
+
+    private static <K> K anyKey(Map<K, ?> map, Random random) {
+        List<K> keys = new ArrayList<>(map.keySet());
+        return keys.get(random.nextInt(keys.size()));
+    }
+
+    /** The JDBC repository's contract over plain maps; job_offers is the test's offer map. */
+    private final class InMemoryStats extends PlacementStatsRepository {
+        final Map<Long, StudentStats> students = new HashMap<>();
+        final Map<String, GroupDelta> groups = new HashMap<>();
+        final Map<Long, Long> companyOfApplication = new HashMap<>();
+
+        InMemoryStats() {
+            super(null);
+        }
+
+        @Override
+        Optional<StudentStats> lockStudent(long studentId) {
+            return Optional.ofNullable(students.get(studentId));
+        }
+
+        @Override
+        Optional<String> findProfileBranch(long studentId) {
+            return Optional.empty();
+        }
+
+        @Override
+        Optional<CompanyRef> findCompanyOfApplication(long applicationId) {
+            return Optional.ofNullable(companyOfApplication.get(applicationId)).map(id -> new CompanyRef(id, "Company " + id));
+        }
+
+        @Override
+        Optional<BestOffer> findBestAcceptedOffer(long studentId) {
+            return bestAccepted(studentId);
+        }
+
+        @Override
+        void insertStudents(List<StudentStats> rows) {
+            rows.forEach(s -> students.put(s.studentId(), s));
+        }
+
+        @Override
+        void updateStudent(StudentStats s) {
+            students.put(s.studentId(), s);
+        }
+
+        @Override
+        void deleteStudent(long studentId) {
+            students.remove(studentId);
+        }
+
+        @Override
+        void applyGroup(Scope scope, String key, String name, GroupDelta d) {
+            add(groups, scope + ":" + key, d);
+            groups.values().removeIf(GroupDelta::isZero);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.placement.portal.backend.reportSummery;
+
+import com.placement.portal.backend.auth.AuthenticatedActor;
+import com.placement.portal.backend.auth.UserIdentity;
+import com.placement.portal.backend.salaryDistribution.SalaryDistributionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DashboardServiceTest {
+
+    private final ReportSummeryService reportService = mock(ReportSummeryService.class);
+    private final SalaryDistributionService salaryService = mock(SalaryDistributionService.class);
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(5, 5, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(10), new ThreadPoolExecutor.AbortPolicy());
+    private final AuthenticatedActor admin = new AuthenticatedActor("admin@campus.edu", List.of("ADMIN"),
+            new UserIdentity(1L, null, null, null));
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void partsRunConcurrentlyAndASlowPartIsLeftOut() {
+        when(reportService.getPlacementSummary(any())).thenAnswer(inv -> slow(200, new PlacementSummaryDto(10, 4, 5.0)));
+        when(reportService.getCompanyWiseReport(any())).thenAnswer(inv -> slow(200, List.of()));
+        when(reportService.getDepartmentWiseReport(any())).thenAnswer(inv -> slow(200, List.of()));
+        when(reportService.getStudentWiseReport(any())).thenAnswer(inv -> slow(5_000, List.of()));
+        when(salaryService.getDistribution(any(), anyInt())).thenThrow(new IllegalStateException("boom"));
+        DashboardService service = new DashboardService(reportService, salaryService, executor, new SimpleMeterRegistry(), 1_000);
+
+        DashboardDto dashboard = service.getDashboard(admin);
+
+        assertEquals(4, dashboard.getSummary().getPlacedStudents());
+        assertNotNull(dashboard.getCompanyWise());
+        assertNotNull(dashboard.getDepartmentWise());
+        assertNull(dashboard.getStudentWise());
+        assertEquals(Map.of("studentWise", "timeout", "salaryByBranch", "error"), dashboard.getUnavailable());
+        // three 200 ms parts in parallel, bounded by the 1 s timeout rather than the 5 s part
+        assertTrue(dashboard.getTookMs() < 1_500, "took " + dashboard.getTookMs() + " ms");
+    }
+
+    @Test
+    void saturatedPoolReportsPartsAsBusy() {
+        ThreadPoolExecutor tiny = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        when(reportService.getPlacementSummary(any())).thenAnswer(inv -> slow(100, new PlacementSummaryDto()));
+        DashboardService service = new DashboardService(reportService, salaryService, tiny, new SimpleMeterRegistry(), 1_000);
+
+        DashboardDto dashboard = service.getDashboard(admin);
+        tiny.shutdownNow();
+
+        assertNotNull(dashboard.getSummary());
+        assertEquals("busy", dashboard.getUnavailable().get("studentWise"));
+    }
+
+    private static <T> T slow(long ms, T value) throws InterruptedException {
+        Thread.sleep(ms);
+        return value;
+    }
+}
@@ -0,0 +1,96 @@
+package com.placement.portal.backend.reportSummery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReportCache cache = new ReportCache(registry, 60_000);
+
+    @Test
+    void concurrentMissesComputeOnce() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return cache.get(ReportType.SUMMARY, "campus", () -> {
+                    computations.incrementAndGet();
+                    sleep(100);
+                    return 42;
+                });
+            }));
+        }
+        start.countDown();
+        for (Future<Integer> result : results) {
+            assertEquals(42, result.get());
+        }
+        pool.shutdown();
+
+        assertEquals(1, computations.get());
+        assertEquals(1, registry.get("reports.cache.requests").tag("result", "miss").counter().count());
+        assertEquals(1, registry.get("reports.cache.compute").timer().count());
+    }
+
+    @Test
+    void commitToASourceDropsOnlyTheReportsReadingIt() {
+        AtomicInteger computations = new AtomicInteger();
+        cache.get(ReportType.COMPANY_WISE, "campus", computations::incrementAndGet);
+        cache.get(ReportType.DEPARTMENT_WISE, "campus", computations::incrementAndGet);
+
+        cache.invalidate(ReportSource.STUDENTS);
+
+        cache.get(ReportType.COMPANY_WISE, "campus", computations::incrementAndGet);
+        cache.get(ReportType.DEPARTMENT_WISE, "campus", computations::incrementAndGet);
+        assertEquals(3, computations.get());
+    }
+
+    @Test
+    void resultComputedAcrossAnInvalidationIsNotKept() {
+        int first = cache.get(ReportType.SUMMARY, "campus", () -> {
+            cache.invalidate(ReportSource.OFFERS); // a write commits mid-computation
+            return 1;
+        });
+        int second = cache.get(ReportType.SUMMARY, "campus", () -> 2);
+
+        assertEquals(1, first);
+        assertEquals(2, second);
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        ReportCache shortLived = new ReportCache(new SimpleMeterRegistry(), 1);
+        shortLived.get(ReportType.SUMMARY, "campus", () -> 1);
+        sleep(5);
+        assertEquals(2, shortLived.get(ReportType.SUMMARY, "campus", () -> 2));
+    }
+
+    @Test
+    void failedComputationIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get(ReportType.SUMMARY, "campus", () -> {
+            throw new IllegalStateException("db down");
+        }));
+        assertEquals(7, cache.get(ReportType.SUMMARY, "campus", () -> 7));
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import com.placement.portal.backend.studentProfile.StudentProfile;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+class SalaryDistributionListenerTest {
+
+    private final SalaryDistributionService service = mock(SalaryDistributionService.class);
+    private final SalaryDistributionListener listener = new SalaryDistributionListener(service);
+
+    @Test
+    void profileIsReportedOnlyWhenItsGroupChanges() {
+        StudentProfile profile = new StudentProfile();
+        profile.setId(7L);
+        profile.setBranch("CSE");
+        profile.setPassingYear(2026);
+        listener.onLoad(profile);
+
+        profile.setCgpa(9.1);
+        profile.setSkills("java");
+        listener.onWrite(profile);
+        verifyNoInteractions(service);
+
+        profile.setPassingYear(2027);
+        listener.onWrite(profile);
+        listener.onWrite(profile); // already reported
+        verify(service, times(1)).studentChanged(7L);
+
+        listener.onRemove(profile);
+        verify(service, times(2)).studentChanged(7L);
+    }
+}
@@ -0,0 +1,137 @@
+package com.placement.portal.backend.salaryDistribution;
+
+import com.placement.portal.backend.jobOffer.JobOfferRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SalaryDistributionServiceTest {
+
+    @Test
+    void sketchQuantilesStayWithinRelativeErrorOnSkewedSalaries() {
+        Random random = new Random(7);
+        double[] salaries = new double[100_000];
+        SalarySketch sketch = new SalarySketch();
+        for (int i = 0; i < salaries.length; i++) {
+            // log-normal around 6 LPA with a long tail of outliers
+            salaries[i] = Math.round(600_000 * Math.exp(random.nextGaussian() * 0.6));
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        for (double q : new double[]{0, 0.5, 0.9, 0.99, 1}) {
+            double exact = salaries[(int) Math.floor(q * (salaries.length - 1))];
+            assertEquals(exact, sketch.quantile(q), exact * SalarySketch.RELATIVE_ACCURACY, "q=" + q);
+        }
+    }
+
+    @Test
+    void removingAndMergingMatchesBuildingFromScratch() {
+        SalarySketch left = new SalarySketch();
+        SalarySketch right = new SalarySketch();
+        SalarySketch expected = new SalarySketch();
+        for (int i = 1; i <= 1000; i++) {
+            (i % 2 == 0 ? left : right).add(i * 1000.0);
+            if (i % 3 != 0) {
+                expected.add(i * 1000.0);
+            }
+        }
+        for (int i = 3; i <= 1000; i += 3) {
+            (i % 2 == 0 ? left : right).remove(i * 1000.0);
+        }
+        left.merge(right);
+
+        assertEquals(expected.count(), left.count());
+        for (double q = 0; q <= 1; q += 0.05) {
+            assertEquals(expected.quantile(q), left.quantile(q));
+        }
+    }
+
+    @Test
+    void updatedOfferMovesBetweenGroups() {
+        JobOfferRepository repository = mock(JobOfferRepository.class);
+        when(repository.findAllSalaryRows()).thenReturn(List.of(
+                row(1, "Acme", "CSE", 500_000), row(2, "Acme", "ECE", 700_000), row(3, "Globex", "CSE", 9_000_000)));
+        SalaryDistributionService service = new SalaryDistributionService(repository);
+
+        assertEquals(2, service.getDistribution(SalaryDimension.COMPANY, 5).get(0).offers());
+
+        when(repository.findSalaryRowById(2L)).thenReturn(Optional.of(row(2, "Globex", "ECE", 800_000)));
+        service.offerChanged(2L);
+        when(repository.findSalaryRowById(3L)).thenReturn(Optional.empty());
+        service.offerChanged(3L);
+
+        List<SalaryDistributionDto> byCompany = service.getDistribution(SalaryDimension.COMPANY, 5);
+        assertEquals(List.of("Acme", "Globex"), byCompany.stream().map(SalaryDistributionDto::group).sorted().toList());
+        assertTrue(byCompany.stream().allMatch(d -> d.offers() == 1));
+        SalaryDistributionDto overall = service.getDistribution(SalaryDimension.OVERALL, 5).get(0);
+        assertEquals(2, overall.offers());
+        assertEquals(800_000, overall.max(), 800_000 * SalarySketch.RELATIVE_ACCURACY);
+        assertEquals(2, overall.histogram().stream().mapToLong(SalaryDistributionDto.Bin::offers).sum());
+        verify(repository, times(1)).findAllSalaryRows();
+    }
+
+    @Test
+    void changeDuringTheLoadIsReadAfterItAndReadsDoNotBlockRequests() throws Exception {
+        JobOfferRepository repository = mock(JobOfferRepository.class);
+        SalaryDistributionService service = new SalaryDistributionService(repository);
+        ExecutorService requests = Executors.newSingleThreadExecutor();
+        // offer 2 is re-priced after the load has read the old row
+        when(repository.findAllSalaryRows()).thenAnswer(inv -> {
+            service.offerChanged(2L);
+            return List.of(row(1, "Acme", "CSE", 500_000), row(2, "Acme", "CSE", 700_000));
+        });
+        when(repository.findSalaryRowById(2L)).thenAnswer(inv -> {
+            // a request while the hook is reading sees the loaded sketches instead of waiting
+            Future<List<SalaryDistributionDto>> request =
+                    requests.submit(() -> service.getDistribution(SalaryDimension.OVERALL, 5));
+            assertEquals(2, request.get(5, TimeUnit.SECONDS).get(0).offers());
+            return Optional.of(row(2, "Acme", "CSE", 900_000));
+        });
+
+        SalaryDistributionDto overall = service.getDistribution(SalaryDimension.OVERALL, 5).get(0);
+
+        assertEquals(900_000, overall.max(), 900_000 * SalarySketch.RELATIVE_ACCURACY);
+        assertEquals(2, overall.offers());
+        requests.shutdown();
+    }
+
+    @Test
+    void studentChangeMovesOnlyThatStudentsOffers() {
+        JobOfferRepository repository = mock(JobOfferRepository.class);
+        when(repository.findAllSalaryRows()).thenReturn(List.of(
+                row(1, 7, "CSE", 500_000), row(2, 7, "CSE", 600_000), row(3, 8, "CSE", 700_000)));
+        SalaryDistributionService service = new SalaryDistributionService(repository);
+        service.getDistribution(SalaryDimension.BRANCH, 5);
+
+        when(repository.findSalaryRowsByStudentId(7L)).thenReturn(List.of(row(1, 7, "ECE", 500_000), row(2, 7, "ECE", 600_000)));
+        service.studentChanged(7L);
+        // a second change sees the offers under their new rows, not the loaded ones
+        when(repository.findSalaryRowsByStudentId(7L)).thenReturn(List.of(row(2, 7, "IT", 600_000)));
+        service.studentChanged(7L);
+
+        List<SalaryDistributionDto> byBranch = service.getDistribution(SalaryDimension.BRANCH, 5);
+        assertEquals(List.of("CSE", "IT"), byBranch.stream().map(SalaryDistributionDto::group).sorted().toList());
+        assertEquals(2, service.getDistribution(SalaryDimension.OVERALL, 5).get(0).offers());
+        verify(repository, never()).findSalaryRowsByStudentId(8L);
+    }
+
+    private static OfferSalaryRow row(long offerId, long studentId, String branch, long salary) {
+        return new OfferSalaryRow(offerId, studentId, BigDecimal.valueOf(salary), "Acme", branch, 2026);
+    }
+
+    private static OfferSalaryRow row(long offerId, String company, String branch, long salary) {
+        return new OfferSalaryRow(offerId, offerId, BigDecimal.valueOf(salary), company, branch, 2026);
+    }
+}
@@ -0,0 +1,194 @@
+package com.placement.portal.backend.studentImport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.portal.backend.auth.UserRepository;
+import com.placement.portal.backend.placementStats.PlacementStatsService;
+import com.placement.portal.backend.reportSummery.ReportCacheInvalidator;
+import com.placement.portal.backend.util.IdSequenceAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs real CSV/JSON uploads through the job with the database mocked out. Every
+ * JDBC batch insert is replayed against a mock PreparedStatement, so the tests
+ * see exactly which values each statement would have written.
+ */
+class StudentImportServiceTest {
+
+    private static final String HEADER = "name,email,password,enrollmentNumber,branch,degree,cgpa,passingYear,resumeLink,skills\n";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final IdSequenceAllocator idSequenceAllocator = mock(IdSequenceAllocator.class);
+    private final PlacementStatsService placementStatsService = mock(PlacementStatsService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final ExecutorService hashingExecutor = Executors.newFixedThreadPool(2);
+
+    // sql prefix -> rows of values written, in statement order
+    private final Map<String, List<Map<Integer, Object>>> written = new HashMap<>();
+
+    private StudentImportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        when(passwordEncoder.encode(anyString())).thenAnswer(inv -> "hashed:" + inv.getArgument(0));
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of());
+        when(idSequenceAllocator.reserve(eq("users"), anyInt())).thenReturn(1_000L, 2_000L);
+        when(idSequenceAllocator.reserve(eq("student_profiles"), anyInt())).thenReturn(5_000L, 6_000L);
+        doAnswer(inv -> {
+            inv.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(inv -> {
+                    String sql = inv.getArgument(0);
+                    ParameterizedPreparedStatementSetter<Object> setter = inv.getArgument(3);
+                    for (Object row : inv.<Collection<Object>>getArgument(1)) {
+                        Map<Integer, Object> values = new HashMap<>();
+                        PreparedStatement ps = mock(PreparedStatement.class, call -> {
+                            if (call.getArguments().length >= 2 && call.getArgument(0) instanceof Integer index) {
+                                values.put(index, call.getArgument(1));
+                            }
+                            return null;
+                        });
+                        setter.setValues(ps, row);
+                        written.computeIfAbsent(sql.substring(0, sql.indexOf('(')).trim(), k -> new ArrayList<>()).add(values);
+                    }
+                    return new int[0][];
+                });
+
+        service = new StudentImportService(userRepository, passwordEncoder, jdbcTemplate, idSequenceAllocator,
+                placementStatsService, mock(ReportCacheInvalidator.class), transactionTemplate, hashingExecutor,
+                new ObjectMapper(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        hashingExecutor.shutdownNow();
+    }
+
+    @Test
+    void csvQuotingIsHonoured() throws Exception {
+        StudentImportJob job = run(HEADER
+                + "\"Rao, Asha\",asha@campus.edu,pw1,E1,CSE,B.Tech,8.5,2026,,\"java,\"\"spring\"\"\"\n", false);
+
+        assertEquals(StudentImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getImportedRows());
+        Map<Integer, Object> user = written.get("INSERT INTO users").get(0);
+        assertEquals("Rao, Asha", user.get(2));
+        Map<Integer, Object> profile = written.get("INSERT INTO student_profiles").get(0);
+        assertEquals("java,\"spring\"", profile.get(8));
+        assertEquals(8.5, profile.get(5));
+    }
+
+    @Test
+    void duplicateInFileAndExistingEmailsFailOnlyTheirRows() throws Exception {
+        // stored with capitals before emails were normalised; MySQL still matches it
+        when(userRepository.findExistingEmails(anyCollection())).thenAnswer(inv ->
+                inv.<Collection<String>>getArgument(0).stream().filter("taken@campus.edu"::equals)
+                        .map(email -> "Taken@Campus.edu").toList());
+
+        StudentImportJob job = run(HEADER
+                + "A,a@campus.edu,pw,E1,CSE,B.Tech,8,2026,,\n"
+                + "A again,A@Campus.edu,pw,E2,CSE,B.Tech,8,2026,,\n"
+                + "Taken,taken@campus.edu,pw,E3,CSE,B.Tech,8,2026,,\n"
+                + "B,b@campus.edu,pw,E4,ECE,B.Tech,7,2026,,\n", false);
+
+        assertEquals(StudentImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(4, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(2, job.getFailedRows());
+        assertEquals(Map.of(2, "Duplicate email in file", 3, "Email already exists"), errorsByRow(job));
+    }
+
+    @Test
+    void badCsvRowIsReportedAndLaterRowsStillImport() throws Exception {
+        StudentImportJob job = run(HEADER
+                + "A,a@campus.edu,pw,E1,CSE,B.Tech,abc,2026,,\n"
+                + "B,b@campus.edu,pw,E2,CSE,B.Tech,8,2026,,\n", false);
+
+        assertEquals(StudentImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(1, job.getImportedRows());
+        assertEquals(Map.of(1, "cgpa and passingYear must be numbers"), errorsByRow(job));
+    }
+
+    @Test
+    void badlyTypedJsonElementFailsOnlyItsRow() throws Exception {
+        StudentImportJob job = run("""
+                [
+                  {"name": "A", "email": "a@campus.edu", "password": "pw", "cgpa": "abc"},
+                  {"name": "B", "email": "b@campus.edu", "password": "pw", "cgpa": 8.1, "passingYear": 2026},
+                  {"name": "C", "email": "c@campus.edu", "password": "pw", "passingYear": [2026]}
+                ]
+                """, true);
+
+        assertEquals(StudentImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getProcessedRows());
+        assertEquals(1, job.getImportedRows());
+        assertEquals(Map.of(1, "Invalid value for cgpa", 3, "Invalid value for passingYear"), errorsByRow(job));
+        assertEquals("a@campus.edu", job.getErrors().get(0).getEmail());
+    }
+
+    @Test
+    void batchedInsertsUseReservedIdBlocks() throws Exception {
+        StudentImportJob job = run(HEADER
+                + "A,a@campus.edu,pw,E1,CSE,B.Tech,8,2026,,\n"
+                + "B,b@campus.edu,pw,E2,ECE,B.Tech,8,2026,,\n"
+                + "C,c@campus.edu,pw,E3,CSE,B.Tech,8,2026,,\n", false);
+
+        assertEquals(3, job.getImportedRows());
+        // Batch size 2: two reservations per table, one per batch
+        verify(idSequenceAllocator).reserve("users", 2);
+        verify(idSequenceAllocator).reserve("users", 1);
+        assertEquals(List.of(1_000L, 1_001L, 2_000L), column("INSERT INTO users", 1));
+        assertEquals(List.of(1_000L, 1_001L, 2_000L), column("INSERT INTO user_roles", 1));
+        assertEquals(List.of(5_000L, 5_001L, 6_000L), column("INSERT INTO student_profiles", 1));
+        assertEquals(List.of(1_000L, 1_001L, 2_000L), column("INSERT INTO student_profiles", 9));
+        assertEquals(List.of("hashed:pw", "hashed:pw", "hashed:pw"), column("INSERT INTO users", 4));
+        verify(placementStatsService).studentsAdded(Map.of(5_000L, "CSE", 5_001L, "ECE"));
+        verify(placementStatsService).studentsAdded(Map.of(6_000L, "CSE"));
+    }
+
+    private StudentImportJob run(String body, boolean json) throws Exception {
+        StudentImportJob job = service.submit(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), json);
+        for (int i = 0; i < 500 && !job.isFinished(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(job.isFinished(), "import did not finish");
+        return job;
+    }
+
+    private List<Object> column(String insert, int index) {
+        return written.get(insert).stream().map(values -> values.get(index)).toList();
+    }
+
+    private static Map<Integer, String> errorsByRow(StudentImportJob job) {
+        Map<Integer, String> errors = new HashMap<>();
+        job.getErrors().forEach(e -> errors.put(e.getRowNumber(), e.getMessage()));
+        return errors;
+    }
+}
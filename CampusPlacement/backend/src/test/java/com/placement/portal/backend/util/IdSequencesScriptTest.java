@@ -0,0 +1,71 @@
+package com.placement.portal.backend.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upgrading a database that already holds rows: Hibernate creates id_sequences and
+ * inserts its own starting row per generator before db/id-sequences.sql runs, so
+ * the script has to raise those rows to MAX(id), not just fill in missing ones.
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdSequencesScriptTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM companies");
+        jdbcTemplate.update("UPDATE id_sequences SET next_val = 0");
+    }
+
+    @Test
+    void seedsFromExistingRowsAndNeverLowersASequence() {
+        // Hibernate's own rows are already there
+        assertNotNull(nextVal("users"));
+        assertTrue(nextVal("users") < 10);
+
+        jdbcTemplate.update("INSERT INTO companies (id, name) VALUES (7, 'Acme'), (300, 'Globex')");
+        jdbcTemplate.update("INSERT INTO users (id, name, email, enabled) VALUES (1, 'A', 'a@x.in', TRUE), (420, 'B', 'b@x.in', TRUE)");
+        jdbcTemplate.update("UPDATE id_sequences SET next_val = 900 WHERE sequence_name = 'feedback'");
+        jdbcTemplate.update("DELETE FROM id_sequences WHERE sequence_name = 'announcements'");
+
+        runScript();
+        runScript(); // runs on every start
+
+        assertEquals(420L, nextVal("users"));
+        assertEquals(300L, nextVal("companies"));
+        assertEquals(900L, nextVal("feedback"));
+        assertEquals(0L, nextVal("announcements"));
+        assertEquals(421L, new IdSequenceAllocator(jdbcTemplate).reserve("users", 1));
+    }
+
+    private void runScript() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/id-sequences.sql")).execute(dataSource);
+    }
+
+    private Long nextVal(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequence);
+    }
+}
@@ -0,0 +1,67 @@
+package com.placement.portal.backend.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    // Cache disabled so every call really verifies the token
+    private final JwtUtil jwtUtil = new JwtUtil(new VerifiedTokenCache(0));
+
+    @Test
+    void parseClaimsReturnsSubjectAndRoles() {
+        String token = jwtUtil.generateToken("hr@acme.com", List.of("COMPANY_HR"));
+
+        Claims claims = jwtUtil.parseClaims(token);
+
+        assertEquals("hr@acme.com", claims.getSubject());
+        assertEquals(List.of("COMPANY_HR"), jwtUtil.extractRoles(claims));
+        assertEquals(jwtUtil.extractEmail(token), claims.getSubject());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtUtil.generateToken("student@campus.edu", List.of("STUDENT"));
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertFalse(jwtUtil.isTokenValid(tampered));
+    }
+
+    @Test
+    void verifiedTokenIsServedFromCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        JwtUtil cachingJwtUtil = new JwtUtil(cache);
+        String token = cachingJwtUtil.generateToken("student@campus.edu", List.of("STUDENT"));
+
+        Claims first = cachingJwtUtil.parseClaims(token);
+        Claims second = cachingJwtUtil.parseClaims(token);
+
+        assertSame(first, second);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void cacheEvictsLeastRecentlyUsedAndExpiredEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        long inAnHour = System.currentTimeMillis() + 3_600_000;
+
+        cache.put("a", Jwts.claims().setSubject("a").setExpiration(new Date(inAnHour)));
+        cache.put("b", Jwts.claims().setSubject("b").setExpiration(new Date(inAnHour)));
+        assertNotNull(cache.get("a"));
+        cache.put("c", Jwts.claims().setSubject("c").setExpiration(new Date(inAnHour)));
+
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+
+        cache.put("expired", Jwts.claims().setSubject("x").setExpiration(new Date(System.currentTimeMillis() - 1)));
+        assertNull(cache.get("expired"));
+    }
+}